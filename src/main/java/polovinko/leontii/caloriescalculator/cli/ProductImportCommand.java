@@ -0,0 +1,53 @@
+package polovinko.leontii.caloriescalculator.cli;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReject;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import polovinko.leontii.caloriescalculator.exception.InvalidImportFileException;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportFormat;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@ConditionalOnProperty(name = "products.import.file")
+@Slf4j
+public class ProductImportCommand implements ApplicationRunner {
+
+  private static final String UNKNOWN_FORMAT_MSG = "Import file '%s' must have one of the extensions .csv, .jsonl, .ndjson";
+  private static final String IMPORT_STARTED_MSG = "Importing products from {}";
+  private static final String REJECTED_ROW_MSG = "Rejected line {}: {}";
+  private static final String REPORT_MSG = "Imported {} products, rejected {} rows in {} ms ({} rows/s)";
+
+  private final ProductImportService productImportService;
+  private final Path file;
+
+  public ProductImportCommand(ProductImportService productImportService,
+                              @Value("${products.import.file}") Path file) {
+    this.productImportService = productImportService;
+    this.file = file;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    ProductImportFormat format = ProductImportFormat.fromFileName(file.getFileName().toString())
+        .orElseThrow(() -> new InvalidImportFileException(String.format(UNKNOWN_FORMAT_MSG, file)));
+    log.info(IMPORT_STARTED_MSG, file);
+    ProductImportReport report;
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      report = productImportService.importProducts(inputStream, format);
+    }
+    for (ProductImportReject reject : report.getRejects()) {
+      log.warn(REJECTED_ROW_MSG, reject.getLineNumber(), reject.getReason());
+    }
+    log.info(REPORT_MSG, report.getImportedRows(), report.getRejectedRows(), report.getElapsedMillis(),
+        report.getRowsPerSecond());
+  }
+}
@@ -0,0 +1,63 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import polovinko.leontii.caloriescalculator.dao.routing.Replica;
+import polovinko.leontii.caloriescalculator.dao.routing.ReplicaRoutingDataSource;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+  private static final String PRIMARY_POOL_NAME = "primary";
+  private static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName(PRIMARY_POOL_NAME);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                           DataSourceRoutingProperties properties) {
+    List<Replica> replicas = new ArrayList<>();
+    for (DataSourceRoutingProperties.ReplicaProperties replicaProperties : properties.getReplicas()) {
+      String name = REPLICA_POOL_NAME_PREFIX + replicas.size();
+      replicas.add(new Replica(name, createReplicaDataSource(name, replicaProperties)));
+    }
+    return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getStrategy(),
+        properties.getLagQuery(), properties.getMaxLag());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  private static HikariDataSource createReplicaDataSource(String name,
+                                                          DataSourceRoutingProperties.ReplicaProperties properties) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(name);
+    dataSource.setJdbcUrl(properties.getUrl());
+    dataSource.setUsername(properties.getUsername());
+    dataSource.setPassword(properties.getPassword());
+    dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+}
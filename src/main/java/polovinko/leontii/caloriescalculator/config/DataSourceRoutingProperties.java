@@ -0,0 +1,32 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import polovinko.leontii.caloriescalculator.dao.routing.ReplicaSelectionStrategy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+  private boolean enabled;
+  private ReplicaSelectionStrategy strategy;
+  private Duration maxLag;
+  private Duration lagCheckInterval;
+  private String lagQuery;
+  private List<ReplicaProperties> replicas = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class ReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+  }
+}
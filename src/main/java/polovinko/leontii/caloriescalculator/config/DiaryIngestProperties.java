@@ -0,0 +1,22 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryAcknowledgement;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "progress.ingest")
+public class DiaryIngestProperties {
+
+  private int queueCapacity;
+  private int batchSize;
+  private Duration flushInterval;
+  private Duration retryInterval;
+  private Duration shutdownTimeout;
+  private DiaryAcknowledgement acknowledgement;
+  private Path journal;
+}
@@ -0,0 +1,19 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.keyring")
+public class JwtKeyringProperties {
+
+  private String activeKeyId;
+  private Map<String, String> keys = new LinkedHashMap<>();
+  private String location;
+  private Duration reloadInterval;
+}
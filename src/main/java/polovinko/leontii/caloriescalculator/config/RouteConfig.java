@@ -0,0 +1,30 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import static polovinko.leontii.caloriescalculator.filters.JwtAuthorizationFilter.LOGIN_URL;
+import static polovinko.leontii.caloriescalculator.filters.JwtAuthorizationFilter.REFRESH_TOKEN_URL;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteAccess;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteRule;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteTable;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.impl.DefaultRouteTable;
+import java.util.List;
+
+@Configuration
+public class RouteConfig {
+
+  @Bean
+  public RouteTable routeTable() {
+    List<RouteRule> rules = List.of(
+        new RouteRule(LOGIN_URL, RouteAccess.ANONYMOUS),
+        new RouteRule(REFRESH_TOKEN_URL, RouteAccess.ANONYMOUS),
+        new RouteRule("/api/auth/**", RouteAccess.PERMIT_ALL),
+        new RouteRule("/api/user/**", RouteAccess.hasAnyRole(UserRole.USER)),
+        new RouteRule("/api/admin/**", RouteAccess.hasAnyRole(UserRole.ADMIN)),
+        new RouteRule("/actuator/**", RouteAccess.hasAnyRole(UserRole.ADMIN))
+    );
+    return new DefaultRouteTable(rules, RouteAccess.AUTHENTICATED);
+  }
+}
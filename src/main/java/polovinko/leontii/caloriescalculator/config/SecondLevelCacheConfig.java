@@ -0,0 +1,59 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+  private static final String CACHE_MANAGER_URI_PREFIX = "hibernate-second-level-cache:";
+  private static final String JCACHE_REGION_FACTORY = "jcache";
+
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create(CACHE_MANAGER_URI_PREFIX + Uuids.timeOrdered()), getClass().getClassLoader());
+    properties.getRegions().forEach((name, region) -> {
+      Cache<Object, Object> cache = cacheManager.createCache(name, toConfiguration(region));
+      JCacheMetrics.monitor(meterRegistry, cache);
+    });
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties,
+                                                                  CacheManager secondLevelCacheManager) {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+      hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, JCACHE_REGION_FACTORY);
+      hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+      hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY,
+          MissingCacheStrategy.FAIL.getExternalRepresentation());
+    };
+  }
+
+  private static CaffeineConfiguration<Object, Object> toConfiguration(SecondLevelCacheProperties.Region region) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setStoreByValue(false);
+    configuration.setStatisticsEnabled(true);
+    configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+    configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+    return configuration;
+  }
+}
@@ -0,0 +1,25 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "persistence.cache")
+public class SecondLevelCacheProperties {
+
+  private boolean enabled;
+  private Map<String, Region> regions = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Region {
+
+    private long maximumSize;
+    private Duration ttl;
+  }
+}
@@ -1,10 +1,16 @@
 package polovinko.leontii.caloriescalculator.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.access.vote.AffirmativeBased;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.ObjectPostProcessor;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,18 +19,29 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.HeaderWriterFilter;
 import polovinko.leontii.caloriescalculator.filters.JwtAuthenticationFilter;
 import polovinko.leontii.caloriescalculator.filters.JwtAuthorizationFilter;
 import polovinko.leontii.caloriescalculator.handlers.errors.ErrorHandler;
 import polovinko.leontii.caloriescalculator.services.authorization.impl.DefaultUserService;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteAccessVoter;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @EnableWebSecurity
 @AllArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
+  private static final String SIGN_IN_EXECUTOR_NAME = "signIn";
+  private static final String SIGN_IN_THREAD_PREFIX = "sign-in-";
+
   private final DefaultUserService userService;
   private final JwtAuthorizationFilter jwtAuthorizationFilter;
   private final ErrorHandler errorHandler;
+  private final RouteAccessVoter routeAccessVoter;
 
   @Override
   protected void configure(HttpSecurity http) throws Exception {
@@ -32,13 +49,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         .csrf().disable()
         .sessionManagement()
           .sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
+        .headers()
+          .withObjectPostProcessor(new ObjectPostProcessor<HeaderWriterFilter>() {
+            @Override
+            public <O extends HeaderWriterFilter> O postProcess(O headerWriterFilter) {
+              headerWriterFilter.setShouldWriteHeadersEagerly(true);
+              return headerWriterFilter;
+            }
+          }).and()
         .exceptionHandling()
           .accessDeniedHandler(errorHandler)
           .authenticationEntryPoint(errorHandler).and()
         .authorizeRequests()
-          .antMatchers("/api/auth/**").permitAll()
-          .antMatchers("/api/user/**").hasAnyAuthority("USER")
-          .antMatchers("/api/admin/**").hasAnyAuthority("ADMIN")
+          .accessDecisionManager(new AffirmativeBased(List.of(routeAccessVoter)))
           .anyRequest().authenticated().and()
         .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class)
         .addFilterAfter(jwtAuthenticationFilter(), JwtAuthorizationFilter.class);
@@ -66,6 +89,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     return daoAuthenticationProvider;
   }
 
+  @Bean
+  public ExecutorService signInExecutor(@Value("${authentication.executor.poolSize}") int poolSize,
+                                        @Value("${authentication.executor.queueCapacity}") int queueCapacity,
+                                        MeterRegistry meterRegistry) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(SIGN_IN_THREAD_PREFIX));
+    return ExecutorServiceMetrics.monitor(meterRegistry, executor, SIGN_IN_EXECUTOR_NAME);
+  }
+
   @Bean
   public PasswordEncoder bCryptPasswordEncoder() {
     return new BCryptPasswordEncoder();
@@ -0,0 +1,28 @@
+package polovinko.leontii.caloriescalculator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class WebConfig {
+
+  private static final String STREAMING_EXECUTOR_NAME = "streaming";
+  private static final String STREAMING_THREAD_PREFIX = "streaming-";
+
+  @Bean
+  public ExecutorService streamingExecutor(@Value("${web.streaming.poolSize}") int poolSize,
+                                           @Value("${web.streaming.queueCapacity}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(STREAMING_THREAD_PREFIX));
+    return ExecutorServiceMetrics.monitor(meterRegistry, executor, STREAMING_EXECUTOR_NAME);
+  }
+}
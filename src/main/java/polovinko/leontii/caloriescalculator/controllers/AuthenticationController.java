@@ -2,6 +2,7 @@ package polovinko.leontii.caloriescalculator.controllers;
 
 import lombok.AllArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
@@ -19,4 +20,9 @@ public class AuthenticationController {
   public void refreshToken(HttpServletRequest request, HttpServletResponse response) {
     jwtService.refreshToken(request, response);
   }
+
+  @PostMapping("/sign-out")
+  public void signOut(HttpServletRequest request) {
+    jwtService.revokeToken(request);
+  }
 }
@@ -0,0 +1,141 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import polovinko.leontii.caloriescalculator.dto.DailyCutRequest;
+import polovinko.leontii.caloriescalculator.dto.DailyCutSyncPage;
+import polovinko.leontii.caloriescalculator.dto.DailyCutTimelinePage;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.exception.DiaryWriterUnavailableException;
+import polovinko.leontii.caloriescalculator.exception.InvalidCursorException;
+import polovinko.leontii.caloriescalculator.dto.NutritionRollup;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.JwtAuthentication;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryEntryWriter;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.DailyCutTimelineService;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.TimelineDirection;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/user/daily-cuts")
+@AllArgsConstructor
+public class DailyCutController {
+
+  private static final String INCOMPLETE_DAILY_CUT_MSG = "Daily cut must contain cutDate, calories, proteins, " +
+      "fats, carbs and weight";
+  private static final String INVALID_RANGE_MSG = "Parameter 'from' must not be after 'to'";
+  private static final String INVALID_LIMIT_MSG = "Parameter 'limit' must be between 1 and 100";
+  private static final String INVALID_SYNC_CURSOR_MSG = "Parameter 'cursor' must not be negative";
+  private static final String INVALID_SYNC_LIMIT_MSG = "Parameter 'limit' must be between 1 and 1000";
+  private static final int MAX_TIMELINE_LIMIT = 100;
+  private static final int MAX_SYNC_LIMIT = 1000;
+
+  private final DailyCutService dailyCutService;
+  private final DiaryEntryWriter diaryEntryWriter;
+  private final NutritionRollupService nutritionRollupService;
+  private final DailyCutTimelineService dailyCutTimelineService;
+  private final DailyCutSyncService dailyCutSyncService;
+
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  public CompletableFuture<DailyCut> createDailyCut(JwtAuthentication authentication,
+                                                    @RequestBody DailyCutRequest request) {
+    return diaryEntryWriter.submit(getUserId(authentication), toDailyCut(request));
+  }
+
+  @PutMapping("/{dailyCutId}")
+  public ResponseEntity<DailyCut> updateDailyCut(JwtAuthentication authentication, @PathVariable UUID dailyCutId,
+                                                 @RequestBody DailyCutRequest request) {
+    return ResponseEntity.of(dailyCutService.updateDailyCut(getUserId(authentication), dailyCutId,
+        toDailyCut(request)));
+  }
+
+  @DeleteMapping("/{dailyCutId}")
+  public ResponseEntity<Void> deleteDailyCut(JwtAuthentication authentication, @PathVariable UUID dailyCutId) {
+    return dailyCutService.deleteDailyCut(getUserId(authentication), dailyCutId)
+        ? ResponseEntity.noContent().build()
+        : ResponseEntity.notFound().build();
+  }
+
+  @GetMapping("/rollup")
+  public NutritionRollup getRollup(JwtAuthentication authentication,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_RANGE_MSG);
+    }
+    return nutritionRollupService.getRollup(getUserId(authentication), from, to);
+  }
+
+  @GetMapping("/timeline")
+  public DailyCutTimelinePage getTimeline(JwtAuthentication authentication,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "OLDER") TimelineDirection direction,
+                                          @RequestParam(defaultValue = "20") int limit) {
+    if (limit < 1 || limit > MAX_TIMELINE_LIMIT) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_LIMIT_MSG);
+    }
+    return dailyCutTimelineService.getTimeline(getUserId(authentication), cursor, direction, limit);
+  }
+
+  @GetMapping("/sync")
+  public DailyCutSyncPage getChanges(JwtAuthentication authentication,
+                                     @RequestParam(defaultValue = "0") long cursor,
+                                     @RequestParam(defaultValue = "500") int limit) {
+    if (cursor < 0) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_SYNC_CURSOR_MSG);
+    }
+    if (limit < 1 || limit > MAX_SYNC_LIMIT) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INVALID_SYNC_LIMIT_MSG);
+    }
+    return dailyCutSyncService.getChanges(getUserId(authentication), cursor, limit);
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorMessage> handleInvalidCursor(InvalidCursorException e) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity.status(status).body(new ErrorMessage(e.getMessage(), CoarseClock.now(), status));
+  }
+
+  @ExceptionHandler(DiaryWriterUnavailableException.class)
+  public ResponseEntity<ErrorMessage> handleDiaryWriterUnavailable(DiaryWriterUnavailableException e) {
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    return ResponseEntity.status(status).body(new ErrorMessage(e.getMessage(), CoarseClock.now(), status));
+  }
+
+  private static UUID getUserId(JwtAuthentication authentication) {
+    return UUID.fromString(authentication.getJwtPrincipal().getUserId());
+  }
+
+  private static DailyCut toDailyCut(DailyCutRequest request) {
+    boolean complete = Stream.of(request.getCutDate(), request.getCalories(), request.getProteins(),
+        request.getFats(), request.getCarbs(), request.getWeight()).allMatch(Objects::nonNull);
+    if (!complete) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, INCOMPLETE_DAILY_CUT_MSG);
+    }
+    return new DailyCut(null, request.getCalories(), request.getProteins(), request.getFats(), request.getCarbs(),
+        request.getWeight(), request.getCutDate());
+  }
+}
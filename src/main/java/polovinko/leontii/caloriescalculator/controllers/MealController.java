@@ -0,0 +1,41 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.dto.MealNutrition;
+import polovinko.leontii.caloriescalculator.dto.MealRequest;
+import polovinko.leontii.caloriescalculator.exception.InvalidMealException;
+import polovinko.leontii.caloriescalculator.services.meals.MealNutritionCalculator;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/user/meals")
+@AllArgsConstructor
+public class MealController {
+
+  private final MealNutritionCalculator mealNutritionCalculator;
+
+  @PostMapping("/nutrition")
+  public MealNutrition calculateNutrition(@RequestBody MealRequest meal) {
+    return mealNutritionCalculator.calculate(meal);
+  }
+
+  @PostMapping("/nutrition/batch")
+  public List<MealNutrition> calculateNutrition(@RequestBody List<MealRequest> meals) {
+    return mealNutritionCalculator.calculateAll(meals);
+  }
+
+  @ExceptionHandler(InvalidMealException.class)
+  public ResponseEntity<ErrorMessage> handleInvalidMeal(InvalidMealException e) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity.status(status).body(new ErrorMessage(e.getMessage(), CoarseClock.now(), status));
+  }
+}
@@ -0,0 +1,48 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import polovinko.leontii.caloriescalculator.exception.InvalidImportFileException;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportFormat;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportService;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/products")
+@AllArgsConstructor
+public class ProductImportController {
+
+  private final ProductImportService productImportService;
+
+  @PostMapping(value = "/import", consumes = {ProductImportFormat.CSV_VALUE, ProductImportFormat.JSON_LINES_VALUE})
+  public ProductImportReport importProducts(@RequestHeader("Content-Type") MediaType contentType,
+                                            HttpServletRequest request)
+      throws IOException, HttpMediaTypeNotSupportedException {
+    ProductImportFormat format = ProductImportFormat.fromMediaType(contentType)
+        .orElseThrow(() -> new HttpMediaTypeNotSupportedException(contentType, List.of(
+            ProductImportFormat.CSV.getMediaType(), ProductImportFormat.JSON_LINES.getMediaType())));
+    try (InputStream inputStream = request.getInputStream()) {
+      return productImportService.importProducts(inputStream, format);
+    }
+  }
+
+  @ExceptionHandler(InvalidImportFileException.class)
+  public ResponseEntity<ErrorMessage> handleInvalidImportFile(InvalidImportFileException e) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    return ResponseEntity.status(status).body(new ErrorMessage(e.getMessage(), CoarseClock.now(), status));
+  }
+}
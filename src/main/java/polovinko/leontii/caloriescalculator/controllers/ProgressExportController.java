@@ -0,0 +1,134 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import polovinko.leontii.caloriescalculator.models.JwtAuthentication;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportFormat;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportService;
+import javax.servlet.http.HttpServletResponse;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+public class ProgressExportController {
+
+  private static final String UNSUPPORTED_FORMAT_MSG = "Parameter 'format' must be one of: csv, ndjson";
+  private static final String USER_EXPORT_FILE_NAME = "progress.";
+  private static final String ALL_EXPORT_FILE_NAME = "progress-all.";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String ANY_ENCODING = "*";
+  private static final String QUALITY_PARAMETER = "q=";
+  private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+  private final ProgressExportService progressExportService;
+  private final AsyncTaskExecutor streamingExecutor;
+  private final Duration streamingTimeout;
+
+  public ProgressExportController(ProgressExportService progressExportService,
+                                  @Qualifier("streamingExecutor") ExecutorService streamingExecutor,
+                                  @Value("${web.streaming.timeout}") Duration streamingTimeout) {
+    this.progressExportService = progressExportService;
+    this.streamingExecutor = new ConcurrentTaskExecutor(streamingExecutor);
+    this.streamingTimeout = streamingTimeout;
+  }
+
+  @GetMapping("/api/user/progress/export")
+  public WebAsyncTask<Void> exportUserProgress(
+      JwtAuthentication authentication,
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      HttpServletResponse response) {
+    UUID userId = UUID.fromString(authentication.getJwtPrincipal().getUserId());
+    ProgressExportFormat exportFormat = toExportFormat(format);
+    return toExportTask(response, exportFormat, USER_EXPORT_FILE_NAME, acceptEncoding,
+        outputStream -> progressExportService.exportUserProgress(userId, exportFormat, outputStream));
+  }
+
+  @GetMapping("/api/admin/progress/export")
+  public WebAsyncTask<Void> exportAllProgress(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      HttpServletResponse response) {
+    ProgressExportFormat exportFormat = toExportFormat(format);
+    return toExportTask(response, exportFormat, ALL_EXPORT_FILE_NAME, acceptEncoding,
+        outputStream -> progressExportService.exportAllProgress(exportFormat, outputStream));
+  }
+
+  private WebAsyncTask<Void> toExportTask(HttpServletResponse response, ProgressExportFormat format, String fileName,
+                                          String acceptEncoding, StreamingResponseBody body) {
+    boolean gzip = isGzipAccepted(acceptEncoding);
+    response.setContentType(format.getMediaType().toString());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(fileName + format.getExtension())
+        .build()
+        .toString());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+    }
+    return new WebAsyncTask<>(streamingTimeout.toMillis(), streamingExecutor, () -> {
+      OutputStream outputStream = response.getOutputStream();
+      if (gzip) {
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        body.writeTo(gzipOutputStream);
+        gzipOutputStream.finish();
+      } else {
+        body.writeTo(outputStream);
+      }
+      outputStream.flush();
+      return null;
+    });
+  }
+
+  private static boolean isGzipAccepted(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Boolean anyAccepted = null;
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim();
+      if (GZIP_ENCODING.equalsIgnoreCase(name)) {
+        return isAccepted(parts);
+      }
+      if (ANY_ENCODING.equals(name)) {
+        anyAccepted = isAccepted(parts);
+      }
+    }
+    return Boolean.TRUE.equals(anyAccepted);
+  }
+
+  private static boolean isAccepted(String[] codingParts) {
+    for (int i = 1; i < codingParts.length; i++) {
+      String parameter = codingParts[i].trim();
+      if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+        try {
+          return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()).trim()) > 0;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static ProgressExportFormat toExportFormat(String format) {
+    return ProgressExportFormat.fromExtension(format)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, UNSUPPORTED_FORMAT_MSG));
+  }
+}
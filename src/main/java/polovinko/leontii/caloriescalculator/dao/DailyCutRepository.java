@@ -0,0 +1,16 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import javax.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DailyCutRepository extends JpaRepository<DailyCut, UUID> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT d FROM DailyCut d WHERE d.id = :id")
+  Optional<DailyCut> findByIdForUpdate(UUID id);
+}
@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import polovinko.leontii.caloriescalculator.models.Product;
+import java.util.UUID;
+
+public interface ProductRepository extends JpaRepository<Product, UUID> {
+}
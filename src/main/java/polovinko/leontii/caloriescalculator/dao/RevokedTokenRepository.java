@@ -0,0 +1,19 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import polovinko.leontii.caloriescalculator.models.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  List<RevokedToken> findAllByExpiresAtAfter(Instant now);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+  int deleteExpired(Instant now);
+}
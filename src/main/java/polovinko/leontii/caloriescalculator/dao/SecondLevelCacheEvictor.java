@@ -0,0 +1,20 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.ProductsChangedEvent;
+import javax.persistence.EntityManagerFactory;
+
+@Component
+@AllArgsConstructor
+public class SecondLevelCacheEvictor {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    entityManagerFactory.getCache().evict(Product.class);
+  }
+}
@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.Serializable;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+  public static final String NAME = "time-ordered-uuid";
+  public static final String STRATEGY = "polovinko.leontii.caloriescalculator.dao.TimeOrderedUuidGenerator";
+
+  @Override
+  public Serializable generate(SharedSessionContractImplementor session, Object entity) {
+    return Uuids.timeOrdered();
+  }
+}
@@ -0,0 +1,11 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import polovinko.leontii.caloriescalculator.models.User;
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+  Optional<User> findUserByEmail(String email);
+
+  Optional<User> findActiveUserByEmail(String email);
+}
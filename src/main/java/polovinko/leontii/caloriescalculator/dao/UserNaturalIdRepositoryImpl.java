@@ -0,0 +1,28 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import lombok.AllArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import polovinko.leontii.caloriescalculator.models.User;
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+@AllArgsConstructor
+@Transactional(readOnly = true)
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Optional<User> findUserByEmail(String email) {
+    if (email == null) {
+      return Optional.empty();
+    }
+    return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+  }
+
+  @Override
+  public Optional<User> findActiveUserByEmail(String email) {
+    return findUserByEmail(email).filter(user -> user.isEnabled() && !user.isLocked());
+  }
+}
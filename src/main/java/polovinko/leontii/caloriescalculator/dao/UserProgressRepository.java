@@ -0,0 +1,11 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import polovinko.leontii.caloriescalculator.models.UserProgress;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserProgressRepository extends JpaRepository<UserProgress, UUID> {
+
+  Optional<UserProgress> findByUserIdAndDailyCutId(UUID userId, UUID dailyCutId);
+}
@@ -3,13 +3,13 @@ package polovinko.leontii.caloriescalculator.dao;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
 
-  Optional<User> findUserByEmail(String email);
-
-  @Query("SELECT u FROM User u WHERE u.email = :email AND u.enabled = true AND u.locked = false")
-  Optional<User> findActiveUserByEmail(String email);
+  @Query("SELECT new polovinko.leontii.caloriescalculator.models.UserTokenState(" +
+      "u.email, u.role, u.enabled, u.locked, u.tokenVersion) FROM User u WHERE u.id = :id")
+  Optional<UserTokenState> findTokenStateById(UUID id);
 }
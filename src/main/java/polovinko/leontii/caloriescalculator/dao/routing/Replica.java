@@ -0,0 +1,22 @@
+package polovinko.leontii.caloriescalculator.dao.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@RequiredArgsConstructor
+public class Replica {
+
+  private final String name;
+  private final HikariDataSource dataSource;
+  @Setter
+  private volatile boolean available = true;
+
+  int getActiveConnections() {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    return pool == null ? 0 : pool.getActiveConnections();
+  }
+}
@@ -0,0 +1,143 @@
+package polovinko.leontii.caloriescalculator.dao.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+  private static final String WRITE_PERFORMED_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".WRITE_PERFORMED";
+  private static final Set<String> LAG_COLUMNS = Set.of("seconds_behind_source", "seconds_behind_master");
+  private static final String REPLICA_LAGGING_MSG = "Replica {} is {}s behind the primary, routing reads away from it";
+  private static final String REPLICA_NOT_REPLICATING_MSG = "Replica {} reports no replication lag, " +
+      "routing reads away from it";
+  private static final String REPLICA_CHECK_ERROR_MSG = "Replica {} lag could not be checked, routing reads away from it";
+  private static final String REPLICA_RECOVERED_MSG = "Replica {} caught up with the primary, routing reads to it again";
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final ReplicaSelectionStrategy strategy;
+  private final String lagQuery;
+  private final long maxLagSeconds;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReplicaSelectionStrategy strategy,
+                                  String lagQuery, Duration maxLag) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.strategy = strategy;
+    this.lagQuery = lagQuery;
+    this.maxLagSeconds = maxLag.toSeconds();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return determineTargetDataSource().getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return determineTargetDataSource().getConnection(username, password);
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.routing.lagCheckInterval}")
+  public void checkReplicaLag() {
+    replicas.forEach(this::checkReplicaLag);
+  }
+
+  public void close() {
+    replicas.forEach(replica -> replica.getDataSource().close());
+  }
+
+  DataSource determineTargetDataSource() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        markWritePerformed();
+      }
+      return primary;
+    }
+    if (isWritePerformed()) {
+      return primary;
+    }
+    List<Replica> availableReplicas = replicas.stream().filter(Replica::isAvailable).collect(Collectors.toList());
+    if (availableReplicas.isEmpty()) {
+      return primary;
+    }
+    return selectReplica(availableReplicas).getDataSource();
+  }
+
+  private Replica selectReplica(List<Replica> availableReplicas) {
+    if (strategy == ReplicaSelectionStrategy.LEAST_CONNECTIONS) {
+      return availableReplicas.stream().min(Comparator.comparingInt(Replica::getActiveConnections)).orElseThrow();
+    }
+    return availableReplicas.get(Math.floorMod(nextReplica.getAndIncrement(), availableReplicas.size()));
+  }
+
+  private void checkReplicaLag(Replica replica) {
+    boolean available;
+    try (Connection connection = replica.getDataSource().getConnection();
+         Statement statement = connection.createStatement();
+         ResultSet resultSet = statement.executeQuery(lagQuery)) {
+      Long lagSeconds = resultSet.next() ? readLagSeconds(resultSet) : null;
+      available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+      if (!available && replica.isAvailable()) {
+        if (lagSeconds == null) {
+          log.warn(REPLICA_NOT_REPLICATING_MSG, replica.getName());
+        } else {
+          log.warn(REPLICA_LAGGING_MSG, replica.getName(), lagSeconds);
+        }
+      }
+    } catch (SQLException e) {
+      available = false;
+      if (replica.isAvailable()) {
+        log.warn(REPLICA_CHECK_ERROR_MSG, replica.getName(), e);
+      }
+    }
+    if (available && !replica.isAvailable()) {
+      log.info(REPLICA_RECOVERED_MSG, replica.getName());
+    }
+    replica.setAvailable(available);
+  }
+
+  private static Long readLagSeconds(ResultSet resultSet) throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    int lagColumn = 1;
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      if (LAG_COLUMNS.contains(metaData.getColumnLabel(column).toLowerCase())) {
+        lagColumn = column;
+        break;
+      }
+    }
+    long lagSeconds = resultSet.getLong(lagColumn);
+    return resultSet.wasNull() ? null : lagSeconds;
+  }
+
+  private static void markWritePerformed() {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(WRITE_PERFORMED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  private static boolean isWritePerformed() {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    return requestAttributes != null &&
+        requestAttributes.getAttribute(WRITE_PERFORMED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+  }
+}
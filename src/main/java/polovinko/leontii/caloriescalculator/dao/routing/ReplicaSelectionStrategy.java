@@ -0,0 +1,6 @@
+package polovinko.leontii.caloriescalculator.dao.routing;
+
+public enum ReplicaSelectionStrategy {
+  ROUND_ROBIN,
+  LEAST_CONNECTIONS
+}
@@ -0,0 +1,16 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class DailyCutRequest {
+
+  private LocalDateTime cutDate;
+  private BigDecimal calories;
+  private BigDecimal proteins;
+  private BigDecimal fats;
+  private BigDecimal carbs;
+  private BigDecimal weight;
+}
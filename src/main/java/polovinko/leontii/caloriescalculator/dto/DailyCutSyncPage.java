@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+public class DailyCutSyncPage {
+
+  private List<DailyCut> changed;
+  private List<UUID> deleted;
+  private long cursor;
+  private boolean hasMore;
+}
@@ -0,0 +1,15 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class DailyCutTimelinePage {
+
+  private List<DailyCut> dailyCuts;
+  private String olderCursor;
+  private String newerCursor;
+}
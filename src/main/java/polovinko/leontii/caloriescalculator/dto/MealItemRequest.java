@@ -0,0 +1,16 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealItemRequest {
+
+  private UUID productId;
+  private BigDecimal grams;
+}
@@ -0,0 +1,15 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@Getter
+public class MealNutrition {
+
+  private BigDecimal proteins;
+  private BigDecimal fats;
+  private BigDecimal carbs;
+  private BigDecimal calories;
+}
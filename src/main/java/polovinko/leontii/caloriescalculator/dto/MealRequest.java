@@ -0,0 +1,14 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealRequest {
+
+  private List<MealItemRequest> items;
+}
@@ -0,0 +1,27 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@Getter
+public class NutritionRollup {
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  private LocalDate from;
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  private LocalDate to;
+  private long entries;
+  private BigDecimal totalCalories;
+  private BigDecimal totalProteins;
+  private BigDecimal totalFats;
+  private BigDecimal totalCarbs;
+  private BigDecimal averageCalories;
+  private BigDecimal averageProteins;
+  private BigDecimal averageFats;
+  private BigDecimal averageCarbs;
+  private BigDecimal averageWeight;
+}
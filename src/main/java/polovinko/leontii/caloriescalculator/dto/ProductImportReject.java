@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ProductImportReject {
+
+  private long lineNumber;
+  private String reason;
+}
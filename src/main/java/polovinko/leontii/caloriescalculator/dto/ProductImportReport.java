@@ -0,0 +1,16 @@
+package polovinko.leontii.caloriescalculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ProductImportReport {
+
+  private long importedRows;
+  private long rejectedRows;
+  private long elapsedMillis;
+  private long rowsPerSecond;
+  private List<ProductImportReject> rejects;
+}
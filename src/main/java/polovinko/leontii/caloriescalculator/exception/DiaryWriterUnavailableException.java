@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.exception;
+
+public class DiaryWriterUnavailableException extends RuntimeException {
+
+  public DiaryWriterUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+
+  public InvalidImportFileException(String message) {
+    super(message);
+  }
+}
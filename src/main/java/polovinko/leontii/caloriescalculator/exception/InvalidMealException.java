@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.exception;
+
+public class InvalidMealException extends RuntimeException {
+
+  public InvalidMealException(String message) {
+    super(message);
+  }
+}
@@ -1,7 +1,10 @@
 package polovinko.leontii.caloriescalculator.filters;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -9,38 +12,86 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import polovinko.leontii.caloriescalculator.dto.UserLoginRequest;
+import polovinko.leontii.caloriescalculator.handlers.errors.ErrorHandler;
 import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.services.json.JsonMapper;
 import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import javax.servlet.AsyncContext;
 import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
   private static final String DESERIALIZATION_ERROR_MSG = "Login request was not deserialized from json";
+  private static final String SIGN_IN_REJECTED_MSG = "Too many sign-in requests, please retry later";
+  private static final String RETRY_AFTER_SECONDS = "1";
 
-  private ObjectMapper objectMapper;
+  private JsonMapper jsonMapper;
   private JwtService jwtService;
+  private ErrorHandler errorHandler;
+  private Executor signInExecutor;
 
   @Override
   public Authentication attemptAuthentication(HttpServletRequest request,
                                               HttpServletResponse response) throws AuthenticationException {
     Authentication authenticationToken = getAuthenticationToken(request);
-    return super.getAuthenticationManager().authenticate(authenticationToken);
+    if (!request.isAsyncSupported()) {
+      return super.getAuthenticationManager().authenticate(authenticationToken);
+    }
+    AsyncContext asyncContext = request.startAsync(request, response);
+    try {
+      signInExecutor.execute(() -> authenticate(asyncContext, authenticationToken));
+    } catch (RejectedExecutionException e) {
+      rejectAuthentication(asyncContext, e);
+    }
+    return null;
   }
 
   private Authentication getAuthenticationToken(HttpServletRequest request) {
     UserLoginRequest userLoginRequest;
     try (ServletInputStream requestInputStream = request.getInputStream()) {
-       userLoginRequest = objectMapper.readValue(requestInputStream, UserLoginRequest.class);
+      userLoginRequest = jsonMapper.readValue(requestInputStream, UserLoginRequest.class);
     } catch (Exception e) {
       throw new AuthenticationServiceException(DESERIALIZATION_ERROR_MSG, e);
     }
     return new UsernamePasswordAuthenticationToken(userLoginRequest.getEmail(), userLoginRequest.getPassword());
   }
 
+  private void authenticate(AsyncContext asyncContext, Authentication authenticationToken) {
+    HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+    HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+    try {
+      Authentication authResult = super.getAuthenticationManager().authenticate(authenticationToken);
+      successfulAuthentication(request, response, null, authResult);
+    } catch (AuthenticationException e) {
+      unsuccessfulAuthentication(request, response, e);
+    } catch (RuntimeException e) {
+      unsuccessfulAuthentication(request, response, new AuthenticationServiceException(e.getMessage(), e));
+    } finally {
+      asyncContext.complete();
+    }
+  }
+
+  private void rejectAuthentication(AsyncContext asyncContext, RejectedExecutionException exception) {
+    HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+    HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+    try {
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      errorHandler.handleError(request, response, new RejectedExecutionException(SIGN_IN_REJECTED_MSG, exception),
+          HttpStatus.SERVICE_UNAVAILABLE);
+    } finally {
+      asyncContext.complete();
+    }
+  }
+
   @Override
   protected void successfulAuthentication(HttpServletRequest request,
                                           HttpServletResponse response,
@@ -52,14 +103,35 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     response.setHeader(JwtUtils.REFRESH_TOKEN_RESPONSE_HEADER, jwtService.createRefreshToken(user, issuer));
   }
 
+  @Override
+  protected void unsuccessfulAuthentication(HttpServletRequest request,
+                                            HttpServletResponse response,
+                                            AuthenticationException failed) {
+    try {
+      super.unsuccessfulAuthentication(request, response, failed);
+    } catch (IOException | ServletException e) {
+      log.error(e.getMessage());
+    }
+  }
+
   @Autowired
   public void setJwtUtils(JwtService jwtService) {
     this.jwtService = jwtService;
   }
 
   @Autowired
-  public void setObjectMapper(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
+  public void setJsonMapper(JsonMapper jsonMapper) {
+    this.jsonMapper = jsonMapper;
+  }
+
+  @Autowired
+  public void setErrorHandler(ErrorHandler errorHandler) {
+    this.errorHandler = errorHandler;
+  }
+
+  @Autowired
+  public void setSignInExecutor(@Qualifier("signInExecutor") Executor signInExecutor) {
+    this.signInExecutor = signInExecutor;
   }
 
   @Override
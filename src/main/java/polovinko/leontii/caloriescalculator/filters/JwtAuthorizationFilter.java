@@ -1,22 +1,20 @@
 package polovinko.leontii.caloriescalculator.filters;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
 import lombok.AllArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import polovinko.leontii.caloriescalculator.models.JwtAuthentication;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteTable;
 import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
-import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
 
 @Component
 @AllArgsConstructor
@@ -27,39 +25,36 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
   private static final String JWT_ERROR_ATTRIBUTE = "jwt_parsing_error";
 
   private final JwtService jwtService;
+  private final JwtRevocationService revocationService;
+  private final RouteTable routeTable;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException{
     if (isRequestToAuthorize(request)) {
-      Optional<Claims> claims = getClaimsFromRequest(request);
-      claims.ifPresent(this::setAuthentication);
+      JwtDecodingResult result = decodePrincipalFromRequest(request);
+      if (result.isValid()) {
+        setAuthentication(result.getPrincipal());
+      } else {
+        request.setAttribute(JWT_ERROR_ATTRIBUTE, result);
+      }
     }
     filterChain.doFilter(request, response);
   }
 
   private boolean isRequestToAuthorize(HttpServletRequest request) {
-    String requestURI = request.getRequestURI();
-    return !requestURI.equals(LOGIN_URL) && !requestURI.equals(REFRESH_TOKEN_URL);
+    return routeTable.resolve(request).isAuthorizationRequired();
   }
 
-  private Optional<Claims> getClaimsFromRequest(HttpServletRequest request){
-    Claims claims = null;
-    try {
-      claims = jwtService.getClaimsFromRequest(request);
-    } catch (JwtException e) {
-      request.setAttribute(JWT_ERROR_ATTRIBUTE, e.getMessage());
+  private JwtDecodingResult decodePrincipalFromRequest(HttpServletRequest request) {
+    JwtDecodingResult result = jwtService.decodePrincipalFromRequest(request);
+    if (result.isValid() && revocationService.isRevoked(result.getPrincipal())) {
+      return JwtDecodingResult.REVOKED;
     }
-    return Optional.ofNullable(claims);
+    return result;
   }
 
-  private void setAuthentication(Claims claims) {
-    UsernamePasswordAuthenticationToken authentication = createAuthenticationToken(claims);
-    SecurityContextHolder.getContext().setAuthentication(authentication);
-  }
-  
-  private UsernamePasswordAuthenticationToken createAuthenticationToken(Claims claims) {
-    SimpleGrantedAuthority authority = new SimpleGrantedAuthority(claims.get(JwtUtils.ROLE_CLAIM).toString());
-    return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, List.of(authority));
+  private void setAuthentication(JwtPrincipal principal) {
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(principal));
   }
 }
@@ -10,10 +10,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
 import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
 import polovinko.leontii.caloriescalculator.handlers.errors.ErrorHandler;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
 import polovinko.leontii.caloriescalculator.services.writers.response.ResponseErrorWriter;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 @ControllerAdvice
@@ -30,15 +31,18 @@ public class DefaultErrorHandler implements ErrorHandler {
 
     ErrorMessage errorMessage = new ErrorMessage(
         getMessage(request, exception),
-        LocalDateTime.now(),
+        CoarseClock.now(),
         status
     );
     errorWriter.writeErrorMessage(response, errorMessage);
   }
 
   private String getMessage(HttpServletRequest request, Exception exception) {
-    return Optional.ofNullable((String) request.getAttribute(JWT_ERROR_ATTRIBUTE))
-        .orElse(exception.getMessage());
+    Object jwtError = request.getAttribute(JWT_ERROR_ATTRIBUTE);
+    if (jwtError instanceof JwtDecodingResult) {
+      return ((JwtDecodingResult) jwtError).getMessage();
+    }
+    return Optional.ofNullable((String) jwtError).orElse(exception.getMessage());
   }
 
   @ExceptionHandler(JwtException.class)
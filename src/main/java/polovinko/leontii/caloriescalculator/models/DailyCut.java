@@ -0,0 +1,41 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+import polovinko.leontii.caloriescalculator.dao.TimeOrderedUuidGenerator;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "daily_cuts")
+public class DailyCut {
+
+  @Id
+  @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+  @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = "uuid-binary")
+  private UUID id;
+  private BigDecimal calories;
+  private BigDecimal proteins;
+  private BigDecimal fats;
+  private BigDecimal carbs;
+  private BigDecimal weight;
+  @Column(name = "cut_date")
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  private LocalDateTime cutDate;
+}
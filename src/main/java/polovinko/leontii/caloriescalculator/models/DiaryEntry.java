@@ -0,0 +1,13 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class DiaryEntry {
+
+  private final UUID userId;
+  private final DailyCut dailyCut;
+}
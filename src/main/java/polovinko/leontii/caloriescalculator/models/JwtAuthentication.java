@@ -0,0 +1,52 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import java.util.Collection;
+
+public class JwtAuthentication implements Authentication {
+
+  @Getter
+  private final JwtPrincipal jwtPrincipal;
+  private boolean authenticated = true;
+
+  public JwtAuthentication(JwtPrincipal jwtPrincipal) {
+    this.jwtPrincipal = jwtPrincipal;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return jwtPrincipal.getAuthorities();
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public Object getDetails() {
+    return null;
+  }
+
+  @Override
+  public Object getPrincipal() {
+    return jwtPrincipal.getSubject();
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return authenticated;
+  }
+
+  @Override
+  public void setAuthenticated(boolean authenticated) {
+    this.authenticated = authenticated;
+  }
+
+  @Override
+  public String getName() {
+    return jwtPrincipal.getSubject();
+  }
+}
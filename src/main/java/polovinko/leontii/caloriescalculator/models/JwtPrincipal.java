@@ -0,0 +1,51 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.ROLE_CLAIM;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.TOKEN_TYPE_CLAIM;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.TOKEN_VERSION_CLAIM;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.USER_ID_CLAIM;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import java.util.Date;
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class JwtPrincipal {
+
+  public static final int UNKNOWN_TOKEN_VERSION = -1;
+
+  private final String subject;
+  private final UserRole role;
+  private final String userId;
+  private final String tokenId;
+  private final int tokenVersion;
+  private final JwtTokenType tokenType;
+  private final long expiresAt;
+
+  public List<GrantedAuthority> getAuthorities() {
+    return role == null ? List.of() : role.getAuthorities();
+  }
+
+  public boolean isAccessToken() {
+    return tokenType == JwtTokenType.ACCESS;
+  }
+
+  public static JwtPrincipal fromClaims(Claims claims) {
+    Date expiration = claims.getExpiration();
+    Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+    return new JwtPrincipal(
+        claims.getSubject(),
+        UserRole.fromName(claims.get(ROLE_CLAIM, String.class)),
+        claims.get(USER_ID_CLAIM, String.class),
+        claims.getId(),
+        tokenVersion == null ? UNKNOWN_TOKEN_VERSION : tokenVersion,
+        JwtTokenType.fromName(claims.get(TOKEN_TYPE_CLAIM, String.class)),
+        expiration == null ? 0 : expiration.toInstant().getEpochSecond()
+    );
+  }
+}
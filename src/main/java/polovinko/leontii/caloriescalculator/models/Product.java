@@ -0,0 +1,45 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+import polovinko.leontii.caloriescalculator.services.products.ProductChangeListener;
+import polovinko.leontii.caloriescalculator.dao.TimeOrderedUuidGenerator;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "products")
+@EntityListeners(ProductChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
+public class Product {
+
+  public static final String CACHE_REGION = "products";
+
+  @Id
+  @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+  @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = "uuid-binary")
+  private UUID id;
+  private String name;
+  private BigDecimal proteins;
+  private BigDecimal fats;
+  private BigDecimal carbs;
+  private BigDecimal calories;
+}
@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+public class ProductNutrition {
+
+  private final UUID productId;
+  private final BigDecimal proteins;
+  private final BigDecimal fats;
+  private final BigDecimal carbs;
+  private final BigDecimal calories;
+}
@@ -0,0 +1,4 @@
+package polovinko.leontii.caloriescalculator.models;
+
+public class ProductsChangedEvent {
+}
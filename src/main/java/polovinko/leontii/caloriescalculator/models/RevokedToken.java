@@ -0,0 +1,26 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken {
+
+  @Id
+  @Column(name = "token_id")
+  private String tokenId;
+  @Column(name = "expires_at")
+  private Instant expiresAt;
+}
@@ -1,34 +1,112 @@
 package polovinko.leontii.caloriescalculator.models;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.Type;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import polovinko.leontii.caloriescalculator.dao.TimeOrderedUuidGenerator;
 import javax.persistence.*;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
 @Table(name = "users")
-public class User implements UserDetails {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.EMAIL_CACHE_REGION)
+public class User extends AbstractAggregateRoot<User> implements UserDetails {
+
+  public static final String CACHE_REGION = "users";
+  public static final String EMAIL_CACHE_REGION = "users-by-email";
 
   @Id
-  @GeneratedValue
-  @Type(type = "uuid-char")
+  @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+  @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = "uuid-binary")
   private UUID id;
   @Column(name = "first_name")
   private String firstName;
   @Column(name = "last_name")
   private String lastName;
+  @NaturalId(mutable = true)
   private String email;
   private String password;
   private boolean enabled;
   private boolean locked;
   @Enumerated(EnumType.STRING)
   private UserRole role;
+  @Column(name = "token_version")
+  private int tokenVersion;
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean persisted;
+
+  public void setEmail(String email) {
+    if (!Objects.equals(this.email, email)) {
+      registerSecurityChange();
+      this.email = email;
+      registerSecurityChange();
+    }
+  }
+
+  public void setPassword(String password) {
+    if (!Objects.equals(this.password, password)) {
+      this.password = password;
+      revokeTokens();
+    }
+  }
+
+  public void setEnabled(boolean enabled) {
+    if (this.enabled != enabled) {
+      this.enabled = enabled;
+      revokeTokens();
+    }
+  }
+
+  public void setLocked(boolean locked) {
+    if (this.locked != locked) {
+      this.locked = locked;
+      revokeTokens();
+    }
+  }
+
+  public void setRole(UserRole role) {
+    if (this.role != role) {
+      this.role = role;
+      revokeTokens();
+    }
+  }
+
+  private void revokeTokens() {
+    if (persisted) {
+      tokenVersion++;
+    }
+    registerSecurityChange();
+  }
+
+  @PostLoad
+  @PostPersist
+  private void markPersisted() {
+    persisted = true;
+  }
+
+  private void registerSecurityChange() {
+    if (email != null) {
+      registerEvent(new UserSecurityChangedEvent(email));
+    }
+  }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
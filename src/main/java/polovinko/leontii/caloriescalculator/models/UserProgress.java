@@ -0,0 +1,41 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+import polovinko.leontii.caloriescalculator.dao.TimeOrderedUuidGenerator;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_progress")
+public class UserProgress {
+
+  @Id
+  @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+  @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+  @Type(type = "uuid-binary")
+  private UUID id;
+  @Column(name = "user_id")
+  @Type(type = "uuid-binary")
+  private UUID userId;
+  @Column(name = "daily_cut_id")
+  @Type(type = "uuid-binary")
+  private UUID dailyCutId;
+  @Column(name = "cut_date")
+  private LocalDateTime cutDate;
+  @Column(name = "change_seq")
+  private long changeSeq;
+}
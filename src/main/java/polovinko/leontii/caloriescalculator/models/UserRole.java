@@ -1,6 +1,27 @@
 package polovinko.leontii.caloriescalculator.models;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum UserRole {
   USER,
-  ADMIN
+  ADMIN;
+
+  private static final Map<String, UserRole> ROLES_BY_NAME = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(UserRole::name, Function.identity()));
+
+  private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(name()));
+
+  public List<GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
+
+  public static UserRole fromName(String name) {
+    return name == null ? null : ROLES_BY_NAME.get(name);
+  }
 }
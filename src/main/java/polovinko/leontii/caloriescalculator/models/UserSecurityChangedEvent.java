@@ -0,0 +1,11 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class UserSecurityChangedEvent {
+
+  private final String email;
+}
@@ -0,0 +1,22 @@
+package polovinko.leontii.caloriescalculator.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.Objects;
+
+@AllArgsConstructor
+@Getter
+public class UserTokenState {
+
+  private final String email;
+  private final UserRole role;
+  private final boolean enabled;
+  private final boolean locked;
+  private final int tokenVersion;
+
+  public boolean isMatching(JwtPrincipal principal) {
+    return Objects.equals(principal.getSubject(), email) &&
+        principal.getRole() == role &&
+        principal.getTokenVersion() == tokenVersion;
+  }
+}
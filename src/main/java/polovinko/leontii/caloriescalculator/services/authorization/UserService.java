@@ -1,9 +1,10 @@
 package polovinko.leontii.caloriescalculator.services.authorization;
 
 import org.springframework.security.core.userdetails.UserDetailsService;
-import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
+import java.util.UUID;
 
 public interface UserService extends UserDetailsService {
 
-  User loadActiveUserByEmail(String email);
+  UserTokenState loadActiveUserTokenState(String email, UUID userId);
 }
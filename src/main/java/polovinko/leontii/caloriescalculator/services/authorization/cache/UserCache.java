@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.services.authorization.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import polovinko.leontii.caloriescalculator.models.User;
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface UserCache {
+
+  Optional<User> getUser(String email, Function<String, Optional<User>> userLoader);
+
+  void evictUser(String email);
+
+  void invalidateAll();
+
+  CacheStats getStats();
+}
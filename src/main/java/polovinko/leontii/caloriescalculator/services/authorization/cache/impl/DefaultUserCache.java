@@ -0,0 +1,103 @@
+package polovinko.leontii.caloriescalculator.services.authorization.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserSecurityChangedEvent;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.UserCache;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class DefaultUserCache implements UserCache {
+
+  private static final String CACHE_NAME = "users";
+
+  private final boolean enabled;
+  private final Cache<String, CachedUser> cache;
+
+  public DefaultUserCache(@Value("${users.cache.enabled}") boolean enabled,
+                          @Value("${users.cache.maximumSize}") long maximumSize,
+                          @Value("${users.cache.ttl}") Duration ttl,
+                          @Value("${users.cache.negativeTtl}") Duration negativeTtl,
+                          MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new CachedUserExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public Optional<User> getUser(String email, Function<String, Optional<User>> userLoader) {
+    if (!enabled || email == null) {
+      return userLoader.apply(email);
+    }
+    return cache.get(email, key -> loadUser(key, userLoader)).getUser();
+  }
+
+  @Override
+  public void evictUser(String email) {
+    cache.invalidate(email);
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+    evictUser(event.getEmail());
+  }
+
+  private CachedUser loadUser(String email, Function<String, Optional<User>> userLoader) {
+    return new CachedUser(userLoader.apply(email));
+  }
+
+  @AllArgsConstructor
+  @Getter
+  private static class CachedUser {
+
+    private final Optional<User> user;
+  }
+
+  @AllArgsConstructor
+  private static class CachedUserExpiry implements Expiry<String, CachedUser> {
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    @Override
+    public long expireAfterCreate(String email, CachedUser cachedUser, long currentTime) {
+      return cachedUser.getUser().isPresent() ? ttlNanos : negativeTtlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(String email, CachedUser cachedUser, long currentTime, long currentDuration) {
+      return expireAfterCreate(email, cachedUser, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String email, CachedUser cachedUser, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
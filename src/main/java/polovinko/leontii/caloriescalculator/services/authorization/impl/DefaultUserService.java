@@ -1,12 +1,17 @@
 package polovinko.leontii.caloriescalculator.services.authorization.impl;
 
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.INVALID_JWT_ERROR_MESSAGE;
+
 import lombok.AllArgsConstructor;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import polovinko.leontii.caloriescalculator.dao.UserRepository;
-import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
 import polovinko.leontii.caloriescalculator.services.authorization.UserService;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.UserCache;
+import java.util.UUID;
 
 @Service
 @AllArgsConstructor
@@ -17,16 +22,24 @@ public class DefaultUserService implements UserService {
       "Either user does not exist, or user is not active.";
 
   private final UserRepository userRepository;
+  private final UserCache userCache;
 
   @Override
   public UserDetails loadUserByUsername(String email) {
-    return userRepository.findUserByEmail(email)
+    return userCache.getUser(email, userRepository::findUserByEmail)
         .orElseThrow(() -> new UsernameNotFoundException(String.format(USER_EMAIL_NOT_FOUND_MSG, email)));
   }
 
   @Override
-  public User loadActiveUserByEmail(String email) {
-    return userRepository.findActiveUserByEmail(email)
+  public UserTokenState loadActiveUserTokenState(String email, UUID userId) {
+    UserTokenState tokenState = userRepository.findTokenStateById(userId)
         .orElseThrow(() -> new UsernameNotFoundException(String.format(ACTIVE_USER_NOT_FOUND_MSG, email)));
+    if (!tokenState.getEmail().equals(email)) {
+      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE);
+    }
+    if (!tokenState.isEnabled() || tokenState.isLocked()) {
+      throw new UsernameNotFoundException(String.format(ACTIVE_USER_NOT_FOUND_MSG, email));
+    }
+    return tokenState;
   }
 }
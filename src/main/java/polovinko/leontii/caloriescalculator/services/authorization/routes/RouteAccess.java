@@ -0,0 +1,62 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+public class RouteAccess {
+
+  public static final RouteAccess ANONYMOUS = new RouteAccess(RouteAccessType.ANONYMOUS);
+  public static final RouteAccess PERMIT_ALL = new RouteAccess(RouteAccessType.PERMIT_ALL);
+  public static final RouteAccess AUTHENTICATED = new RouteAccess(RouteAccessType.AUTHENTICATED);
+
+  private final RouteAccessType type;
+  private final Set<String> allowedAuthorities;
+
+  private RouteAccess(RouteAccessType type, UserRole... roles) {
+    this.type = type;
+    this.allowedAuthorities = Arrays.stream(roles)
+        .map(UserRole::name)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public static RouteAccess hasAnyRole(UserRole... roles) {
+    return new RouteAccess(RouteAccessType.HAS_ANY_ROLE, roles);
+  }
+
+  public boolean isAuthorizationRequired() {
+    return type != RouteAccessType.ANONYMOUS;
+  }
+
+  public boolean isGranted(Authentication authentication) {
+    switch (type) {
+      case ANONYMOUS:
+      case PERMIT_ALL:
+        return true;
+      case AUTHENTICATED:
+        return isAuthenticated(authentication);
+      default:
+        return isAuthenticated(authentication) && hasAllowedAuthority(authentication);
+    }
+  }
+
+  private boolean isAuthenticated(Authentication authentication) {
+    return authentication != null && authentication.isAuthenticated() &&
+        !(authentication instanceof AnonymousAuthenticationToken);
+  }
+
+  private boolean hasAllowedAuthority(Authentication authentication) {
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      if (allowedAuthorities.contains(authority.getAuthority())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes;
+
+public enum RouteAccessType {
+  ANONYMOUS,
+  PERMIT_ALL,
+  AUTHENTICATED,
+  HAS_ANY_ROLE
+}
@@ -0,0 +1,33 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes;
+
+import lombok.AllArgsConstructor;
+import org.springframework.security.access.AccessDecisionVoter;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.FilterInvocation;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+
+@Component
+@AllArgsConstructor
+public class RouteAccessVoter implements AccessDecisionVoter<FilterInvocation> {
+
+  private final RouteTable routeTable;
+
+  @Override
+  public boolean supports(ConfigAttribute attribute) {
+    return true;
+  }
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return FilterInvocation.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public int vote(Authentication authentication, FilterInvocation invocation,
+                  Collection<ConfigAttribute> attributes) {
+    RouteAccess access = routeTable.resolve(invocation.getHttpRequest());
+    return access.isGranted(authentication) ? ACCESS_GRANTED : ACCESS_DENIED;
+  }
+}
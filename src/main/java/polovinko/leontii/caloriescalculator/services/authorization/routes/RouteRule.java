@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RouteRule {
+
+  private final String pattern;
+  private final RouteAccess access;
+}
@@ -0,0 +1,10 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes;
+
+import javax.servlet.http.HttpServletRequest;
+
+public interface RouteTable {
+
+  RouteAccess resolve(String path);
+
+  RouteAccess resolve(HttpServletRequest request);
+}
@@ -0,0 +1,82 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes.impl;
+
+import org.springframework.web.util.UrlPathHelper;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteAccess;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteRule;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteTable;
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DefaultRouteTable implements RouteTable {
+
+  private static final String SUBTREE_SUFFIX = "/**";
+  private static final String DUPLICATE_RULE_MSG = "Route pattern '%s' is registered more than once";
+
+  private final Node root = new Node();
+  private final RouteAccess defaultAccess;
+
+  public DefaultRouteTable(List<RouteRule> rules, RouteAccess defaultAccess) {
+    this.defaultAccess = defaultAccess;
+    rules.forEach(this::addRule);
+  }
+
+  @Override
+  public RouteAccess resolve(HttpServletRequest request) {
+    return resolve(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+  }
+
+  @Override
+  public RouteAccess resolve(String path) {
+    Node node = root;
+    RouteAccess access = root.subtreeAccess != null ? root.subtreeAccess : defaultAccess;
+    int segmentStart = 0;
+    int length = path.length();
+    while (segmentStart < length) {
+      int segmentEnd = path.indexOf('/', segmentStart);
+      if (segmentEnd < 0) {
+        segmentEnd = length;
+      }
+      if (segmentEnd > segmentStart) {
+        node = node.children.get(path.substring(segmentStart, segmentEnd));
+        if (node == null) {
+          return access;
+        }
+        if (node.subtreeAccess != null) {
+          access = node.subtreeAccess;
+        }
+      }
+      segmentStart = segmentEnd + 1;
+    }
+    return node.exactAccess != null ? node.exactAccess : access;
+  }
+
+  private void addRule(RouteRule rule) {
+    String pattern = rule.getPattern();
+    boolean isSubtree = pattern.endsWith(SUBTREE_SUFFIX);
+    String path = isSubtree ? pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length()) : pattern;
+    Node node = root;
+    for (String segment : path.split("/")) {
+      if (!segment.isEmpty()) {
+        node = node.children.computeIfAbsent(segment, key -> new Node());
+      }
+    }
+    RouteAccess previousAccess = isSubtree ? node.subtreeAccess : node.exactAccess;
+    if (previousAccess != null) {
+      throw new IllegalArgumentException(String.format(DUPLICATE_RULE_MSG, pattern));
+    }
+    if (isSubtree) {
+      node.subtreeAccess = rule.getAccess();
+    } else {
+      node.exactAccess = rule.getAccess();
+    }
+  }
+
+  private static class Node {
+
+    private final Map<String, Node> children = new HashMap<>();
+    private RouteAccess exactAccess;
+    private RouteAccess subtreeAccess;
+  }
+}
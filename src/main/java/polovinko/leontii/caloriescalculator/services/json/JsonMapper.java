@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface JsonMapper {
+
+  <T> T readValue(InputStream inputStream, Class<T> type) throws IOException;
+
+  void writeValue(OutputStream outputStream, Object value) throws IOException;
+}
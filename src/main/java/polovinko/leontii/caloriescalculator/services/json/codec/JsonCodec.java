@@ -0,0 +1,14 @@
+package polovinko.leontii.caloriescalculator.services.json.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface JsonCodec<T> {
+
+  Class<T> getType();
+
+  T read(InputStream inputStream) throws IOException;
+
+  void write(T value, OutputStream outputStream) throws IOException;
+}
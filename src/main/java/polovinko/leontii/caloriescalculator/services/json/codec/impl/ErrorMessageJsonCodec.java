@@ -0,0 +1,119 @@
+package polovinko.leontii.caloriescalculator.services.json.codec.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.services.json.codec.JsonCodec;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class ErrorMessageJsonCodec implements JsonCodec<ErrorMessage> {
+
+  private static final String MESSAGE_FIELD = "message";
+  private static final String HAPPENED_AT_FIELD = "happenedAt";
+  private static final String BAD_CREDENTIALS_MSG = "Bad credentials";
+  private static final String NOT_AN_OBJECT_MSG = "Error message must be a json object";
+  private static final String INVALID_HAPPENED_AT_MSG = "Error message field 'happenedAt' is not a valid timestamp";
+  private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] MESSAGE_PREFIX = "{\"message\":".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] HAPPENED_AT_PREFIX = ",\"happenedAt\":\"".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] HAPPENED_AT_NULL_PREFIX = ",\"happenedAt\":".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] OBJECT_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] OBJECT_END = "}".getBytes(StandardCharsets.UTF_8);
+  private static final Map<String, byte[]> PRE_ENCODED_MESSAGES = Stream.of(
+      JwtUtils.JWT_NOT_FOUND_MSG,
+      JwtUtils.INVALID_JWT_ERROR_MESSAGE,
+      JwtUtils.REVOKED_JWT_MSG,
+      BAD_CREDENTIALS_MSG
+  ).collect(Collectors.toUnmodifiableMap(Function.identity(), ErrorMessageJsonCodec::encodeMessage));
+
+  private final JsonFactory jsonFactory;
+
+  public ErrorMessageJsonCodec(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  @Override
+  public Class<ErrorMessage> getType() {
+    return ErrorMessage.class;
+  }
+
+  @Override
+  public ErrorMessage read(InputStream inputStream) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, NOT_AN_OBJECT_MSG);
+      }
+      String message = null;
+      LocalDateTime happenedAt = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (MESSAGE_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+          message = parser.getText();
+        } else if (HAPPENED_AT_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+          happenedAt = parseHappenedAt(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new ErrorMessage(message, happenedAt, null);
+    }
+  }
+
+  @Override
+  public void write(ErrorMessage errorMessage, OutputStream outputStream) throws IOException {
+    outputStream.write(MESSAGE_PREFIX);
+    outputStream.write(getEncodedMessage(errorMessage.getMessage()));
+    if (errorMessage.getHappenedAt() == null) {
+      outputStream.write(HAPPENED_AT_NULL_PREFIX);
+      outputStream.write(NULL_LITERAL);
+      outputStream.write(OBJECT_END);
+    } else {
+      outputStream.write(HAPPENED_AT_PREFIX);
+      CoarseClock.writeFormatted(outputStream, errorMessage.getHappenedAt());
+      outputStream.write(OBJECT_SUFFIX);
+    }
+  }
+
+  private static LocalDateTime parseHappenedAt(JsonParser parser) throws IOException {
+    try {
+      return LocalDateTime.parse(parser.getText(), CoarseClock.TIMESTAMP_FORMATTER);
+    } catch (DateTimeParseException e) {
+      throw new JsonParseException(parser, INVALID_HAPPENED_AT_MSG, e);
+    }
+  }
+
+  private static byte[] getEncodedMessage(String message) {
+    if (message == null) {
+      return NULL_LITERAL;
+    }
+    byte[] encodedMessage = PRE_ENCODED_MESSAGES.get(message);
+    return encodedMessage != null ? encodedMessage : encodeMessage(message);
+  }
+
+  private static byte[] encodeMessage(String message) {
+    byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+    byte[] quoted = new byte[escaped.length + 2];
+    quoted[0] = '"';
+    System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+    quoted[quoted.length - 1] = '"';
+    return quoted;
+  }
+}
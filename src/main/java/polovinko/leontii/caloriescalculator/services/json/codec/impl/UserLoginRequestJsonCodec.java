@@ -0,0 +1,78 @@
+package polovinko.leontii.caloriescalculator.services.json.codec.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.dto.UserLoginRequest;
+import polovinko.leontii.caloriescalculator.services.json.codec.JsonCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+@Component
+public class UserLoginRequestJsonCodec implements JsonCodec<UserLoginRequest> {
+
+  private static final String EMAIL_FIELD = "email";
+  private static final String PASSWORD_FIELD = "password";
+  private static final String NOT_AN_OBJECT_MSG = "Login request must be a json object";
+  private static final String NOT_A_STRING_MSG = "Login request field '%s' must be a string";
+
+  private final JsonFactory jsonFactory;
+
+  public UserLoginRequestJsonCodec(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  @Override
+  public Class<UserLoginRequest> getType() {
+    return UserLoginRequest.class;
+  }
+
+  @Override
+  public UserLoginRequest read(InputStream inputStream) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, NOT_AN_OBJECT_MSG);
+      }
+      UserLoginRequest loginRequest = new UserLoginRequest();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (EMAIL_FIELD.equals(field)) {
+          loginRequest.setEmail(readString(parser, field));
+        } else if (PASSWORD_FIELD.equals(field)) {
+          loginRequest.setPassword(readString(parser, field));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return loginRequest;
+    }
+  }
+
+  @Override
+  public void write(UserLoginRequest loginRequest, OutputStream outputStream) throws IOException {
+    try (JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+      generator.writeStartObject();
+      generator.writeStringField(EMAIL_FIELD, loginRequest.getEmail());
+      generator.writeStringField(PASSWORD_FIELD, loginRequest.getPassword());
+      generator.writeEndObject();
+    }
+  }
+
+  private static String readString(JsonParser parser, String field) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!token.isScalarValue()) {
+      throw new JsonParseException(parser, String.format(NOT_A_STRING_MSG, field));
+    }
+    return parser.getValueAsString();
+  }
+}
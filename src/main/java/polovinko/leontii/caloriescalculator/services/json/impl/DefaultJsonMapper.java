@@ -0,0 +1,52 @@
+package polovinko.leontii.caloriescalculator.services.json.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.services.json.JsonMapper;
+import polovinko.leontii.caloriescalculator.services.json.codec.JsonCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class DefaultJsonMapper implements JsonMapper {
+
+  private static final String DUPLICATE_CODEC_MSG = "More than one json codec registered for %s";
+
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, JsonCodec<?>> codecs;
+
+  public DefaultJsonMapper(ObjectMapper objectMapper, List<JsonCodec<?>> codecs) {
+    this.objectMapper = objectMapper;
+    this.codecs = new HashMap<>();
+    for (JsonCodec<?> codec : codecs) {
+      if (this.codecs.putIfAbsent(codec.getType(), codec) != null) {
+        throw new IllegalArgumentException(String.format(DUPLICATE_CODEC_MSG, codec.getType().getName()));
+      }
+    }
+  }
+
+  @Override
+  public <T> T readValue(InputStream inputStream, Class<T> type) throws IOException {
+    JsonCodec<T> codec = findCodec(type);
+    return codec != null ? codec.read(inputStream) : objectMapper.readValue(inputStream, type);
+  }
+
+  @Override
+  public void writeValue(OutputStream outputStream, Object value) throws IOException {
+    JsonCodec<Object> codec = findCodec(value.getClass());
+    if (codec != null) {
+      codec.write(value, outputStream);
+    } else {
+      objectMapper.writeValue(outputStream, value);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> JsonCodec<T> findCodec(Class<?> type) {
+    return (JsonCodec<T>) codecs.get(type);
+  }
+}
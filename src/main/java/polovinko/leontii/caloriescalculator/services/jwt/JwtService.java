@@ -1,7 +1,9 @@
 package polovinko.leontii.caloriescalculator.services.jwt;
 
 import io.jsonwebtoken.Claims;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
 import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -13,5 +15,11 @@ public interface JwtService {
 
   Claims getClaimsFromRequest(HttpServletRequest request);
 
+  JwtPrincipal getPrincipalFromRequest(HttpServletRequest request);
+
+  JwtDecodingResult decodePrincipalFromRequest(HttpServletRequest request);
+
   void refreshToken(HttpServletRequest request, HttpServletResponse response);
+
+  void revokeToken(HttpServletRequest request);
 }
@@ -0,0 +1,14 @@
+package polovinko.leontii.caloriescalculator.services.jwt.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import java.util.function.Function;
+
+public interface JwtPrincipalCache {
+
+  JwtDecodingResult getDecodingResult(String jwt, Function<String, JwtDecodingResult> decoder);
+
+  CacheStats getStats();
+
+  void invalidateAll();
+}
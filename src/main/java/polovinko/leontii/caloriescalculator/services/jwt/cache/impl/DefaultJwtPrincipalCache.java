@@ -0,0 +1,107 @@
+package polovinko.leontii.caloriescalculator.services.jwt.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.services.jwt.cache.JwtPrincipalCache;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyringReloadedEvent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class DefaultJwtPrincipalCache implements JwtPrincipalCache {
+
+  private static final String CACHE_NAME = "jwtPrincipals";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final String DIGEST_ERROR_MSG = "JWT digest algorithm is not available";
+
+  private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new CaloriesCalculatorServerException(DIGEST_ERROR_MSG, e);
+    }
+  });
+
+  private final boolean enabled;
+  private final Cache<ByteBuffer, JwtDecodingResult> cache;
+
+  public DefaultJwtPrincipalCache(@Value("${jwt.cache.enabled}") boolean enabled,
+                                  @Value("${jwt.cache.maximumSize}") long maximumSize,
+                                  MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new TokenExpiry())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @Override
+  public JwtDecodingResult getDecodingResult(String jwt, Function<String, JwtDecodingResult> decoder) {
+    if (!enabled) {
+      return decoder.apply(jwt);
+    }
+    ByteBuffer key = digest(jwt);
+    JwtDecodingResult result = cache.getIfPresent(key);
+    if (result == null) {
+      result = decoder.apply(jwt);
+      if (result.isValid()) {
+        cache.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @EventListener(JwtKeyringReloadedEvent.class)
+  public void onKeyringReloaded() {
+    invalidateAll();
+  }
+
+  private ByteBuffer digest(String jwt) {
+    MessageDigest messageDigest = DIGEST.get();
+    return ByteBuffer.wrap(messageDigest.digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  private static class TokenExpiry implements Expiry<ByteBuffer, JwtDecodingResult> {
+
+    @Override
+    public long expireAfterCreate(ByteBuffer key, JwtDecodingResult result, long currentTime) {
+      long millisToExpiration = result.getPrincipal().getExpiresAt() * 1000 - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(millisToExpiration, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(ByteBuffer key, JwtDecodingResult result, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(ByteBuffer key, JwtDecodingResult result, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec;
+
+import io.jsonwebtoken.Claims;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import java.time.Duration;
+
+public interface JwtCodec {
+
+  String encode(User user, String issuer, Duration validity);
+
+  String encode(JwtPrincipal principal, String issuer, Duration validity);
+
+  String encode(User user, JwtTokenType tokenType, String issuer, Duration validity);
+
+  String encode(JwtPrincipal principal, JwtTokenType tokenType, String issuer, Duration validity);
+
+  Claims decode(String jwt);
+
+  JwtDecodingResult tryDecodePrincipal(String jwt);
+}
@@ -0,0 +1,44 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec;
+
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.INVALID_JWT_ERROR_MESSAGE;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.JWT_NOT_FOUND_MSG;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.REVOKED_JWT_MSG;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import java.util.function.Supplier;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class JwtDecodingResult {
+
+  public static final JwtDecodingResult MISSING =
+      new JwtDecodingResult(JwtDecodingStatus.MISSING, null, () -> JWT_NOT_FOUND_MSG);
+  public static final JwtDecodingResult REVOKED =
+      new JwtDecodingResult(JwtDecodingStatus.REVOKED, null, () -> REVOKED_JWT_MSG);
+  public static final JwtDecodingResult UNKNOWN =
+      new JwtDecodingResult(JwtDecodingStatus.UNKNOWN, null, () -> INVALID_JWT_ERROR_MESSAGE);
+
+  private final JwtDecodingStatus status;
+  private final JwtPrincipal principal;
+  @Getter(AccessLevel.NONE)
+  private final Supplier<String> messageSupplier;
+
+  public static JwtDecodingResult valid(JwtPrincipal principal) {
+    return new JwtDecodingResult(JwtDecodingStatus.VALID, principal, null);
+  }
+
+  public static JwtDecodingResult invalid(JwtDecodingStatus status, Supplier<String> messageSupplier) {
+    return new JwtDecodingResult(status, null, messageSupplier);
+  }
+
+  public boolean isValid() {
+    return status == JwtDecodingStatus.VALID;
+  }
+
+  public String getMessage() {
+    return messageSupplier == null ? null : messageSupplier.get();
+  }
+}
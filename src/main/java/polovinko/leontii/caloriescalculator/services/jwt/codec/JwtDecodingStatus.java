@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec;
+
+public enum JwtDecodingStatus {
+  VALID,
+  MISSING,
+  MALFORMED,
+  BAD_SIGNATURE,
+  EXPIRED,
+  WRONG_TOKEN_TYPE,
+  REVOKED,
+  UNKNOWN
+}
@@ -0,0 +1,18 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public enum JwtTokenType {
+  ACCESS,
+  REFRESH;
+
+  private static final Map<String, JwtTokenType> TYPES_BY_NAME = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(JwtTokenType::name, Function.identity()));
+
+  public static JwtTokenType fromName(String name) {
+    return name == null ? null : TYPES_BY_NAME.get(name);
+  }
+}
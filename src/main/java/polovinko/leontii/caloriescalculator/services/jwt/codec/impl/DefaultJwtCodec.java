@@ -0,0 +1,336 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec.impl;
+
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.jsonwebtoken.impl.DefaultJwsHeader;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyringProvider;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtSigningKey;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@AllArgsConstructor
+public class DefaultJwtCodec implements JwtCodec {
+
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+  private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+  private static final int PAYLOAD_BUFFER_SIZE = 256;
+  private static final String ENCODING_ERROR_MSG = "JWT payload could not be serialized";
+  private static final String EMPTY_JWT_MSG = "JWT String argument cannot be null or empty.";
+  private static final String PERIODS_COUNT_MSG = "JWT strings must contain exactly 2 period characters. Found: %d";
+  private static final String JSON_READING_ERROR_MSG = "Unable to read JSON value: %s";
+  private static final String UNSUPPORTED_ALGORITHM_MSG = "JWT signature algorithm '%s' is not supported";
+  private static final String UNMAPPABLE_PAYLOAD_MSG = "JWT payload does not contain the required claims";
+  private static final String UNKNOWN_KEY_MSG = "JWT signing key '%s' is not recognized";
+  private static final String SIGNATURE_MISMATCH_MSG = "JWT signature does not match locally computed signature. " +
+      "JWT validity cannot be asserted and should not be trusted.";
+  private static final String WRONG_TOKEN_TYPE_MSG = "JWT of type '%s' cannot be used as an access token";
+  private static final String EXPIRED_JWT_MSG = "JWT expired at %s. Current time: %s, a difference of %d milliseconds.";
+
+  private final JwtKeyringProvider keyringProvider;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String encode(User user, String issuer, Duration validity) {
+    return encode(user, JwtTokenType.ACCESS, issuer, validity);
+  }
+
+  @Override
+  public String encode(JwtPrincipal principal, String issuer, Duration validity) {
+    return encode(principal, JwtTokenType.ACCESS, issuer, validity);
+  }
+
+  @Override
+  public String encode(User user, JwtTokenType tokenType, String issuer, Duration validity) {
+    JwtPrincipal principal = new JwtPrincipal(user.getEmail(), user.getRole(), user.getId().toString(),
+        null, user.getTokenVersion(), tokenType, 0);
+    return encode(principal, tokenType, issuer, validity);
+  }
+
+  @Override
+  public String encode(JwtPrincipal principal, JwtTokenType tokenType, String issuer, Duration validity) {
+    JwtSigningKey signingKey = keyringProvider.getKeyring().getActiveKey();
+    Instant issuedAt = Instant.now();
+    byte[] payloadJson = writePayload(principal, tokenType, issuer, issuedAt, issuedAt.plus(validity));
+    String payload = BASE64_ENCODER.encodeToString(payloadJson);
+    String content = signingKey.getEncodedHeader() + '.' + payload;
+    byte[] signature = signingKey.sign(content.getBytes(StandardCharsets.US_ASCII));
+    return content + '.' + BASE64_ENCODER.encodeToString(signature);
+  }
+
+  private byte[] writePayload(JwtPrincipal principal, JwtTokenType tokenType, String issuer, Instant issuedAt,
+                              Instant expiration) {
+    ByteArrayOutputStream payload = new ByteArrayOutputStream(PAYLOAD_BUFFER_SIZE);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(payload)) {
+      generator.writeStartObject();
+      generator.writeStringField(Claims.SUBJECT, principal.getSubject());
+      generator.writeStringField(ROLE_CLAIM, principal.getRole().name());
+      generator.writeStringField(USER_ID_CLAIM, principal.getUserId());
+      generator.writeNumberField(TOKEN_VERSION_CLAIM, principal.getTokenVersion());
+      generator.writeStringField(TOKEN_TYPE_CLAIM, tokenType.name());
+      generator.writeStringField(Claims.ID, UUID.randomUUID().toString());
+      generator.writeStringField(Claims.ISSUER, issuer);
+      generator.writeNumberField(Claims.ISSUED_AT, issuedAt.getEpochSecond());
+      generator.writeNumberField(Claims.EXPIRATION, expiration.getEpochSecond());
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new CaloriesCalculatorServerException(ENCODING_ERROR_MSG, e);
+    }
+    return payload.toByteArray();
+  }
+
+  @Override
+  public Claims decode(String jwt) {
+    if (!StringUtils.hasText(jwt)) {
+      throw new IllegalArgumentException(EMPTY_JWT_MSG);
+    }
+    int headerEnd = jwt.indexOf('.');
+    int payloadEnd = headerEnd < 0 ? -1 : jwt.indexOf('.', headerEnd + 1);
+    if (payloadEnd < 0 || jwt.indexOf('.', payloadEnd + 1) >= 0) {
+      throw new MalformedJwtException(String.format(PERIODS_COUNT_MSG, countPeriods(jwt)));
+    }
+    JwsHeader<?> header = new DefaultJwsHeader(readJson(jwt.substring(0, headerEnd)));
+    JwtSigningKey signingKey = resolveSigningKey(header);
+    verifySignature(signingKey, jwt, payloadEnd);
+    Claims claims = new DefaultClaims(readJson(jwt.substring(headerEnd + 1, payloadEnd)));
+    verifyExpiration(header, claims);
+    return claims;
+  }
+
+  private JwtSigningKey resolveSigningKey(JwsHeader<?> header) {
+    if (!JwtSigningKey.JWT_ALGORITHM.equals(header.getAlgorithm())) {
+      throw new SignatureException(String.format(UNSUPPORTED_ALGORITHM_MSG, header.getAlgorithm()));
+    }
+    return keyringProvider.getKeyring().getKey(header.getKeyId())
+        .orElseThrow(() -> new SignatureException(String.format(UNKNOWN_KEY_MSG, header.getKeyId())));
+  }
+
+  private void verifySignature(JwtSigningKey signingKey, String jwt, int payloadEnd) {
+    byte[] expectedSignature = signingKey.sign(jwt.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+    byte[] actualSignature;
+    try {
+      actualSignature = BASE64_DECODER.decode(jwt.substring(payloadEnd + 1));
+    } catch (IllegalArgumentException e) {
+      throw new SignatureException(SIGNATURE_MISMATCH_MSG, e);
+    }
+    if (!MessageDigest.isEqual(expectedSignature, actualSignature)) {
+      throw new SignatureException(SIGNATURE_MISMATCH_MSG);
+    }
+  }
+
+  private void verifyExpiration(JwsHeader<?> header, Claims claims) {
+    Date expiration = claims.getExpiration();
+    long now = System.currentTimeMillis();
+    if (expiration != null && now > expiration.getTime()) {
+      String message = String.format(EXPIRED_JWT_MSG, expiration.toInstant(), Instant.ofEpochMilli(now),
+          now - expiration.getTime());
+      throw new ExpiredJwtException(header, claims, message);
+    }
+  }
+
+  private Map<String, Object> readJson(String base64Json) {
+    Map<String, Object> json;
+    try {
+      json = objectMapper.readValue(BASE64_DECODER.decode(base64Json), JSON_OBJECT);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new MalformedJwtException(String.format(JSON_READING_ERROR_MSG, base64Json), e);
+    }
+    if (json == null) {
+      throw new MalformedJwtException(String.format(JSON_READING_ERROR_MSG, base64Json));
+    }
+    return json;
+  }
+
+  @Override
+  public JwtDecodingResult tryDecodePrincipal(String jwt) {
+    if (!StringUtils.hasText(jwt)) {
+      return JwtDecodingResult.MISSING;
+    }
+    int headerEnd = jwt.indexOf('.');
+    int payloadEnd = headerEnd < 0 ? -1 : jwt.indexOf('.', headerEnd + 1);
+    if (payloadEnd < 0 || jwt.indexOf('.', payloadEnd + 1) >= 0) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.MALFORMED,
+          () -> String.format(PERIODS_COUNT_MSG, countPeriods(jwt)));
+    }
+    JwtSigningKey signingKey = keyringProvider.getKeyring().findKeyByEncodedHeader(jwt, headerEnd);
+    if (signingKey == null) {
+      return decodeUnknownHeader(jwt, headerEnd);
+    }
+    byte[] token = jwt.getBytes(StandardCharsets.US_ASCII);
+    byte[] expectedSignature = BASE64_ENCODER.encode(signingKey.sign(token, 0, payloadEnd));
+    if (!isSignatureMatching(expectedSignature, token, payloadEnd + 1)) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.BAD_SIGNATURE, () -> SIGNATURE_MISMATCH_MSG);
+    }
+    JwtPrincipal principal = readPrincipal(token, headerEnd + 1, payloadEnd - headerEnd - 1);
+    if (principal == null) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.MALFORMED, () -> UNMAPPABLE_PAYLOAD_MSG);
+    }
+    if (!principal.isAccessToken()) {
+      return wrongTokenType(principal);
+    }
+    long now = System.currentTimeMillis();
+    long expiresAtMillis = principal.getExpiresAt() * 1000;
+    if (now > expiresAtMillis) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.EXPIRED, () -> String.format(EXPIRED_JWT_MSG,
+          Instant.ofEpochMilli(expiresAtMillis), Instant.ofEpochMilli(now), now - expiresAtMillis));
+    }
+    return JwtDecodingResult.valid(principal);
+  }
+
+  private JwtDecodingResult decodeUnknownHeader(String jwt, int headerEnd) {
+    Map<String, Object> header = tryReadHeader(jwt, headerEnd);
+    if (header == null) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.MALFORMED,
+          () -> String.format(JSON_READING_ERROR_MSG, jwt.substring(0, headerEnd)));
+    }
+    Object algorithm = header.get(JwsHeader.ALGORITHM);
+    if (!JwtSigningKey.JWT_ALGORITHM.equals(algorithm)) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.BAD_SIGNATURE,
+          () -> String.format(UNSUPPORTED_ALGORITHM_MSG, algorithm));
+    }
+    Object keyId = header.get(JwsHeader.KEY_ID);
+    if (keyId != null && !isKnownKeyId(keyId)) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.BAD_SIGNATURE, () -> String.format(UNKNOWN_KEY_MSG, keyId));
+    }
+    return decodeWithExceptions(jwt);
+  }
+
+  private boolean isKnownKeyId(Object keyId) {
+    return keyId instanceof String && keyringProvider.getKeyring().getKey((String) keyId).isPresent();
+  }
+
+  private Map<String, Object> tryReadHeader(String jwt, int headerEnd) {
+    if (!isBase64Url(jwt, headerEnd)) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(BASE64_DECODER.decode(jwt.substring(0, headerEnd)), JSON_OBJECT);
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private JwtDecodingResult decodeWithExceptions(String jwt) {
+    try {
+      JwtPrincipal principal = JwtPrincipal.fromClaims(decode(jwt));
+      return principal.isAccessToken() ? JwtDecodingResult.valid(principal) : wrongTokenType(principal);
+    } catch (ExpiredJwtException e) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.EXPIRED, e::getMessage);
+    } catch (SignatureException e) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.BAD_SIGNATURE, e::getMessage);
+    } catch (RuntimeException e) {
+      return JwtDecodingResult.invalid(JwtDecodingStatus.MALFORMED, e::getMessage);
+    }
+  }
+
+  private static JwtDecodingResult wrongTokenType(JwtPrincipal principal) {
+    return JwtDecodingResult.invalid(JwtDecodingStatus.WRONG_TOKEN_TYPE,
+        () -> String.format(WRONG_TOKEN_TYPE_MSG, principal.getTokenType()));
+  }
+
+  private JwtPrincipal readPrincipal(byte[] token, int payloadStart, int payloadLength) {
+    String subject = null;
+    String userId = null;
+    String tokenId = null;
+    UserRole role = null;
+    JwtTokenType tokenType = null;
+    int tokenVersion = JwtPrincipal.UNKNOWN_TOKEN_VERSION;
+    long expiresAt = -1;
+    try {
+      ByteBuffer payload = BASE64_DECODER.decode(ByteBuffer.wrap(token, payloadStart, payloadLength));
+      try (JsonParser parser = objectMapper.getFactory()
+          .createParser(payload.array(), payload.arrayOffset(), payload.remaining())) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          JsonToken value = parser.nextToken();
+          if (Claims.SUBJECT.equals(field) && value == JsonToken.VALUE_STRING) {
+            subject = parser.getText();
+          } else if (ROLE_CLAIM.equals(field) && value == JsonToken.VALUE_STRING) {
+            role = UserRole.fromName(parser.getText());
+          } else if (USER_ID_CLAIM.equals(field) && value == JsonToken.VALUE_STRING) {
+            userId = parser.getText();
+          } else if (Claims.ID.equals(field) && value == JsonToken.VALUE_STRING) {
+            tokenId = parser.getText();
+          } else if (TOKEN_TYPE_CLAIM.equals(field) && value == JsonToken.VALUE_STRING) {
+            tokenType = JwtTokenType.fromName(parser.getText());
+          } else if (TOKEN_VERSION_CLAIM.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+            tokenVersion = parser.getIntValue();
+          } else if (Claims.EXPIRATION.equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+            expiresAt = parser.getLongValue();
+          } else {
+            parser.skipChildren();
+          }
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      return null;
+    }
+    boolean isRecognized = subject != null && role != null && userId != null && expiresAt >= 0;
+    return isRecognized ? new JwtPrincipal(subject, role, userId, tokenId, tokenVersion, tokenType, expiresAt) : null;
+  }
+
+  private static boolean isSignatureMatching(byte[] expectedSignature, byte[] token, int signatureStart) {
+    if (token.length - signatureStart != expectedSignature.length) {
+      return false;
+    }
+    int difference = 0;
+    for (int i = 0; i < expectedSignature.length; i++) {
+      difference |= expectedSignature[i] ^ token[signatureStart + i];
+    }
+    return difference == 0;
+  }
+
+  private static boolean isBase64Url(String value, int end) {
+    if (end == 0 || end % 4 == 1) {
+      return false;
+    }
+    for (int i = 0; i < end; i++) {
+      char symbol = value.charAt(i);
+      boolean isAlphabetSymbol = (symbol >= 'A' && symbol <= 'Z') || (symbol >= 'a' && symbol <= 'z')
+          || (symbol >= '0' && symbol <= '9') || symbol == '-' || symbol == '_';
+      if (!isAlphabetSymbol) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long countPeriods(String jwt) {
+    return jwt.chars().filter(symbol -> symbol == '.').count();
+  }
+}
@@ -5,72 +5,119 @@ import static polovinko.leontii.caloriescalculator.utils.JwtUtils.*;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
 import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
 import polovinko.leontii.caloriescalculator.services.authorization.UserService;
 import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
+import polovinko.leontii.caloriescalculator.services.jwt.cache.JwtPrincipalCache;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
+import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "jwt", matchIfMissing = true)
 public class DefaultJwtService implements JwtService {
 
   private final UserService userService;
-  private final String secretKey;
+  private final JwtPrincipalCache principalCache;
+  private final JwtCodec jwtCodec;
+  private final JwtRevocationService revocationService;
   private final Duration accessTokenValidity;
   private final Duration refreshTokenValidity;
 
-  public DefaultJwtService(@Value("${jwt.secretKey}") String secretKey,
-                           @Value("${jwt.validity.accessToken}") Duration accessTokenValidity,
+  public DefaultJwtService(@Value("${jwt.validity.accessToken}") Duration accessTokenValidity,
                            @Value("${jwt.validity.refreshToken}") Duration refreshTokenValidity,
-                           UserService userService) {
-    this.secretKey = secretKey;
+                           UserService userService,
+                           JwtPrincipalCache principalCache,
+                           JwtCodec jwtCodec,
+                           JwtRevocationService revocationService) {
     this.accessTokenValidity = accessTokenValidity;
     this.refreshTokenValidity = refreshTokenValidity;
     this.userService = userService;
+    this.principalCache = principalCache;
+    this.jwtCodec = jwtCodec;
+    this.revocationService = revocationService;
   }
 
   public String createAccessToken(User user, String issuer) {
-    return JwtUtils.buildJwtToken(user, issuer,  accessTokenValidity, secretKey);
+    return jwtCodec.encode(user, JwtTokenType.ACCESS, issuer, accessTokenValidity);
   }
 
   public String createRefreshToken(User user, String issuer) {
-    return JwtUtils.buildJwtToken(user, issuer, refreshTokenValidity, secretKey);
+    return jwtCodec.encode(user, JwtTokenType.REFRESH, issuer, refreshTokenValidity);
   }
 
   public Claims getClaimsFromRequest(HttpServletRequest request) {
     Claims claims;
     try {
       String jwt = JwtUtils.getJwtFromRequest(request);
-      claims = JwtUtils.getClaimsFromJwt(jwt, secretKey);
+      claims = jwtCodec.decode(jwt);
     } catch (RuntimeException e) {
       throw new JwtException(e.getMessage(), e.getCause());
     }
     return claims;
   }
 
+  public JwtPrincipal getPrincipalFromRequest(HttpServletRequest request) {
+    JwtDecodingResult result = decodePrincipalFromRequest(request);
+    if (!result.isValid()) {
+      throw new JwtException(result.getMessage());
+    }
+    return result.getPrincipal();
+  }
+
+  public JwtDecodingResult decodePrincipalFromRequest(HttpServletRequest request) {
+    String jwt = JwtUtils.findJwtInRequest(request);
+    if (jwt == null) {
+      return JwtDecodingResult.MISSING;
+    }
+    return principalCache.getDecodingResult(jwt, jwtCodec::tryDecodePrincipal);
+  }
+
   @Override
   public void refreshToken(HttpServletRequest request, HttpServletResponse response) {
-    Claims claims = getClaimsFromRequest(request);
-    User user = userService.loadActiveUserByEmail(claims.getSubject());
-    matchClaimsAndUserData(claims, user);
-    String refreshToken = createRefreshToken(user, request.getRequestURI());
-    String accessToken = createAccessToken(user, request.getRequestURI());
+    JwtPrincipal principal = JwtPrincipal.fromClaims(getClaimsFromRequest(request));
+    if (principal.getTokenType() != JwtTokenType.REFRESH) {
+      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE);
+    }
+    if (revocationService.isRevoked(principal)) {
+      throw new AuthenticationServiceException(REVOKED_JWT_MSG);
+    }
+    UserTokenState tokenState = userService.loadActiveUserTokenState(principal.getSubject(), parseUserId(principal));
+    matchPrincipalAndTokenState(principal, tokenState);
+    String refreshToken =
+        jwtCodec.encode(principal, JwtTokenType.REFRESH, request.getRequestURI(), refreshTokenValidity);
+    String accessToken = jwtCodec.encode(principal, JwtTokenType.ACCESS, request.getRequestURI(), accessTokenValidity);
     response.setHeader(ACCESS_TOKEN_RESPONSE_HEADER, accessToken);
     response.setHeader(REFRESH_TOKEN_RESPONSE_HEADER, refreshToken);
   }
 
-  private void matchClaimsAndUserData(Claims claims, User user) {
-    if (!isClaimsMatchingUserData(claims, user)) {
-      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE);
+  @Override
+  public void revokeToken(HttpServletRequest request) {
+    revocationService.revoke(JwtPrincipal.fromClaims(getClaimsFromRequest(request)));
+  }
+
+  private UUID parseUserId(JwtPrincipal principal) {
+    try {
+      return UUID.fromString(principal.getUserId());
+    } catch (RuntimeException e) {
+      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE, e);
     }
   }
 
-  public boolean isClaimsMatchingUserData(Claims claims, User user) {
-    return claims.get(ROLE_CLAIM).equals(user.getRole().name()) &&
-        claims.get(USER_ID_CLAIM).equals(user.getId().toString());
+  private void matchPrincipalAndTokenState(JwtPrincipal principal, UserTokenState tokenState) {
+    if (!tokenState.isMatching(principal)) {
+      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE);
+    }
   }
 }
@@ -0,0 +1,154 @@
+package polovinko.leontii.caloriescalculator.services.jwt.impl;
+
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
+import polovinko.leontii.caloriescalculator.services.authorization.UserService;
+import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueToken;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueTokenStore;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueTokenType;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "opaque")
+public class OpaqueJwtService implements JwtService {
+
+  private static final String EXPIRED_TOKEN_MSG = "Token expired at %s";
+
+  private final UserService userService;
+  private final OpaqueTokenStore tokenStore;
+  private final Duration accessTokenValidity;
+  private final Duration refreshTokenValidity;
+
+  public OpaqueJwtService(@Value("${jwt.validity.accessToken}") Duration accessTokenValidity,
+                          @Value("${jwt.validity.refreshToken}") Duration refreshTokenValidity,
+                          UserService userService,
+                          OpaqueTokenStore tokenStore) {
+    this.accessTokenValidity = accessTokenValidity;
+    this.refreshTokenValidity = refreshTokenValidity;
+    this.userService = userService;
+    this.tokenStore = tokenStore;
+  }
+
+  @Override
+  public String createAccessToken(User user, String issuer) {
+    return issueToken(createPrincipal(user, JwtTokenType.ACCESS, accessTokenValidity), OpaqueTokenType.ACCESS);
+  }
+
+  @Override
+  public String createRefreshToken(User user, String issuer) {
+    return issueToken(createPrincipal(user, JwtTokenType.REFRESH, refreshTokenValidity), OpaqueTokenType.REFRESH);
+  }
+
+  @Override
+  public Claims getClaimsFromRequest(HttpServletRequest request) {
+    JwtPrincipal principal = getPrincipal(findToken(request, null));
+    Claims claims = Jwts.claims()
+        .setSubject(principal.getSubject())
+        .setId(principal.getTokenId())
+        .setExpiration(Date.from(Instant.ofEpochSecond(principal.getExpiresAt())));
+    claims.put(ROLE_CLAIM, principal.getRole().name());
+    claims.put(USER_ID_CLAIM, principal.getUserId());
+    claims.put(TOKEN_VERSION_CLAIM, principal.getTokenVersion());
+    claims.put(TOKEN_TYPE_CLAIM, principal.getTokenType().name());
+    return claims;
+  }
+
+  @Override
+  public JwtPrincipal getPrincipalFromRequest(HttpServletRequest request) {
+    return getPrincipal(decodePrincipalFromRequest(request));
+  }
+
+  @Override
+  public JwtDecodingResult decodePrincipalFromRequest(HttpServletRequest request) {
+    return findToken(request, OpaqueTokenType.ACCESS);
+  }
+
+  @Override
+  public void refreshToken(HttpServletRequest request, HttpServletResponse response) {
+    String tokenValue = JwtUtils.findJwtInRequest(request);
+    JwtPrincipal principal = getPrincipal(findToken(tokenValue, OpaqueTokenType.REFRESH));
+    if (tokenStore.remove(tokenValue) == null) {
+      throw new JwtException(INVALID_JWT_ERROR_MESSAGE);
+    }
+    UserTokenState tokenState =
+        userService.loadActiveUserTokenState(principal.getSubject(), UUID.fromString(principal.getUserId()));
+    if (!tokenState.isMatching(principal)) {
+      throw new AuthenticationServiceException(INVALID_JWT_ERROR_MESSAGE);
+    }
+    String accessToken = issueToken(createPrincipal(principal, JwtTokenType.ACCESS, accessTokenValidity), OpaqueTokenType.ACCESS);
+    String refreshToken = issueToken(createPrincipal(principal, JwtTokenType.REFRESH, refreshTokenValidity), OpaqueTokenType.REFRESH);
+    response.setHeader(ACCESS_TOKEN_RESPONSE_HEADER, accessToken);
+    response.setHeader(REFRESH_TOKEN_RESPONSE_HEADER, refreshToken);
+  }
+
+  @Override
+  public void revokeToken(HttpServletRequest request) {
+    getPrincipal(findToken(request, null));
+    tokenStore.remove(JwtUtils.findJwtInRequest(request));
+  }
+
+  private JwtDecodingResult findToken(HttpServletRequest request, OpaqueTokenType expectedType) {
+    return findToken(JwtUtils.findJwtInRequest(request), expectedType);
+  }
+
+  private JwtDecodingResult findToken(String tokenValue, OpaqueTokenType expectedType) {
+    if (tokenValue == null) {
+      return JwtDecodingResult.MISSING;
+    }
+    OpaqueToken token = tokenStore.find(tokenValue);
+    if (token == null || (expectedType != null && token.getType() != expectedType)) {
+      return JwtDecodingResult.UNKNOWN;
+    }
+    if (token.isExpired(Instant.now().getEpochSecond())) {
+      long expiresAt = token.getPrincipal().getExpiresAt();
+      return JwtDecodingResult.invalid(JwtDecodingStatus.EXPIRED,
+          () -> String.format(EXPIRED_TOKEN_MSG, Instant.ofEpochSecond(expiresAt)));
+    }
+    return JwtDecodingResult.valid(token.getPrincipal());
+  }
+
+  private static JwtPrincipal getPrincipal(JwtDecodingResult result) {
+    if (!result.isValid()) {
+      throw new JwtException(result.getMessage());
+    }
+    return result.getPrincipal();
+  }
+
+  private String issueToken(JwtPrincipal principal, OpaqueTokenType type) {
+    return tokenStore.save(new OpaqueToken(principal, type));
+  }
+
+  private static JwtPrincipal createPrincipal(User user, JwtTokenType tokenType, Duration validity) {
+    return new JwtPrincipal(user.getEmail(), user.getRole(), user.getId().toString(), UUID.randomUUID().toString(),
+        user.getTokenVersion(), tokenType, expiresAt(validity));
+  }
+
+  private static JwtPrincipal createPrincipal(JwtPrincipal principal, JwtTokenType tokenType, Duration validity) {
+    return new JwtPrincipal(principal.getSubject(), principal.getRole(), principal.getUserId(),
+        UUID.randomUUID().toString(), principal.getTokenVersion(), tokenType, expiresAt(validity));
+  }
+
+  private static long expiresAt(Duration validity) {
+    return Instant.now().plus(validity).getEpochSecond();
+  }
+}
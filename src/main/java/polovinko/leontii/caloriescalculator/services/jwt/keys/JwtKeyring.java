@@ -0,0 +1,35 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys;
+
+import lombok.Getter;
+import java.util.Map;
+import java.util.Optional;
+
+public class JwtKeyring {
+
+  @Getter
+  private final JwtSigningKey activeKey;
+  private final Map<String, JwtSigningKey> keys;
+  private final JwtSigningKey[] keysByPriority;
+
+  public JwtKeyring(JwtSigningKey activeKey, Map<String, JwtSigningKey> keys) {
+    this.activeKey = activeKey;
+    this.keys = keys;
+    this.keysByPriority = keys.values().stream()
+        .sorted((first, second) -> Boolean.compare(second == activeKey, first == activeKey))
+        .toArray(JwtSigningKey[]::new);
+  }
+
+  public Optional<JwtSigningKey> getKey(String keyId) {
+    return keyId == null ? Optional.of(activeKey) : Optional.ofNullable(keys.get(keyId));
+  }
+
+  public JwtSigningKey findKeyByEncodedHeader(String jwt, int headerLength) {
+    for (JwtSigningKey key : keysByPriority) {
+      String encodedHeader = key.getEncodedHeader();
+      if (encodedHeader.length() == headerLength && jwt.startsWith(encodedHeader)) {
+        return key;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,8 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys;
+
+public interface JwtKeyringProvider {
+
+  JwtKeyring getKeyring();
+
+  void reloadKeyring();
+}
@@ -0,0 +1,11 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class JwtKeyringReloadedEvent {
+
+  private final JwtKeyring keyring;
+}
@@ -0,0 +1,58 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+public class JwtSigningKey {
+
+  public static final String JWT_ALGORITHM = "HS512";
+  private static final String MAC_ALGORITHM = "HmacSHA512";
+  private static final String HEADER_TEMPLATE = "{\"alg\":\"" + JWT_ALGORITHM + "\",\"kid\":\"%s\"}";
+  private static final String MAC_INIT_ERROR_MSG = "JWT signing key '%s' could not be initialized";
+
+  @Getter
+  private final String keyId;
+  @Getter
+  private final String encodedHeader;
+  private final SecretKeySpec secretKey;
+  private final ThreadLocal<Mac> macs;
+
+  public JwtSigningKey(String keyId, String secret) {
+    this.keyId = keyId;
+    this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    this.encodedHeader = encodeHeader(keyId);
+    this.macs = ThreadLocal.withInitial(this::createMac);
+  }
+
+  public byte[] sign(byte[] content) {
+    return macs.get().doFinal(content);
+  }
+
+  public byte[] sign(byte[] content, int offset, int length) {
+    Mac mac = macs.get();
+    mac.update(content, offset, length);
+    return mac.doFinal();
+  }
+
+  private Mac createMac() {
+    try {
+      Mac mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(secretKey);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new CaloriesCalculatorServerException(String.format(MAC_INIT_ERROR_MSG, keyId), e);
+    }
+  }
+
+  private static String encodeHeader(String keyId) {
+    String escapedKeyId = new String(JsonStringEncoder.getInstance().quoteAsString(keyId));
+    byte[] header = String.format(HEADER_TEMPLATE, escapedKeyId).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(header);
+  }
+}
@@ -0,0 +1,99 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import polovinko.leontii.caloriescalculator.config.JwtKeyringProperties;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyring;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyringProvider;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyringReloadedEvent;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtSigningKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class DefaultJwtKeyringProvider implements JwtKeyringProvider {
+
+  private static final String ACTIVE_KEY_NOT_FOUND_MSG = "Active JWT key '%s' is not present in the keyring";
+  private static final String KEYRING_READING_ERROR_MSG = "JWT keyring could not be read from '%s'";
+  private static final String KEYRING_RELOADED_MSG = "JWT keyring reloaded from '{}', active key is '{}'";
+
+  private final JwtKeyringProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private volatile JwtKeyring keyring;
+  private volatile long keyringFileModifiedAt;
+
+  public DefaultJwtKeyringProvider(JwtKeyringProperties properties,
+                                   ObjectMapper objectMapper,
+                                   ApplicationEventPublisher eventPublisher) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.keyring = isKeyringFileConfigured() ? readKeyringFile() : buildKeyring(properties);
+  }
+
+  @Override
+  public JwtKeyring getKeyring() {
+    return keyring;
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${jwt.keyring.reloadInterval}")
+  public void reloadKeyring() {
+    if (!isKeyringFileConfigured() || !isKeyringFileModified()) {
+      return;
+    }
+    try {
+      keyring = readKeyringFile();
+      log.info(KEYRING_RELOADED_MSG, properties.getLocation(), keyring.getActiveKey().getKeyId());
+      eventPublisher.publishEvent(new JwtKeyringReloadedEvent(keyring));
+    } catch (RuntimeException e) {
+      log.error(e.getMessage(), e);
+    }
+  }
+
+  private boolean isKeyringFileConfigured() {
+    return StringUtils.hasText(properties.getLocation());
+  }
+
+  private boolean isKeyringFileModified() {
+    try {
+      return Files.getLastModifiedTime(Path.of(properties.getLocation())).toMillis() != keyringFileModifiedAt;
+    } catch (IOException e) {
+      log.error(String.format(KEYRING_READING_ERROR_MSG, properties.getLocation()), e);
+      return false;
+    }
+  }
+
+  private JwtKeyring readKeyringFile() {
+    Path location = Path.of(properties.getLocation());
+    try {
+      long modifiedAt = Files.getLastModifiedTime(location).toMillis();
+      JwtKeyring fileKeyring = buildKeyring(objectMapper.readValue(location.toFile(), JwtKeyringProperties.class));
+      keyringFileModifiedAt = modifiedAt;
+      return fileKeyring;
+    } catch (IOException e) {
+      throw new CaloriesCalculatorServerException(String.format(KEYRING_READING_ERROR_MSG, location), e);
+    }
+  }
+
+  private JwtKeyring buildKeyring(JwtKeyringProperties keyringProperties) {
+    Map<String, JwtSigningKey> keys = new HashMap<>();
+    keyringProperties.getKeys().forEach((keyId, secret) -> keys.put(keyId, new JwtSigningKey(keyId, secret)));
+    JwtSigningKey activeKey = keys.get(keyringProperties.getActiveKeyId());
+    if (activeKey == null) {
+      throw new CaloriesCalculatorServerException(
+          String.format(ACTIVE_KEY_NOT_FOUND_MSG, keyringProperties.getActiveKeyId()));
+    }
+    return new JwtKeyring(activeKey, Map.copyOf(keys));
+  }
+}
@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.services.jwt.opaque;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+
+@AllArgsConstructor
+@Getter
+public class OpaqueToken {
+
+  private final JwtPrincipal principal;
+  private final OpaqueTokenType type;
+
+  public boolean isExpired(long nowEpochSecond) {
+    return principal.getExpiresAt() <= nowEpochSecond;
+  }
+}
@@ -0,0 +1,14 @@
+package polovinko.leontii.caloriescalculator.services.jwt.opaque;
+
+public interface OpaqueTokenStore {
+
+  String save(OpaqueToken token);
+
+  OpaqueToken find(String tokenValue);
+
+  OpaqueToken remove(String tokenValue);
+
+  int removeExpired();
+
+  int size();
+}
@@ -0,0 +1,6 @@
+package polovinko.leontii.caloriescalculator.services.jwt.opaque;
+
+public enum OpaqueTokenType {
+  ACCESS,
+  REFRESH
+}
@@ -0,0 +1,102 @@
+package polovinko.leontii.caloriescalculator.services.jwt.opaque.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueToken;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueTokenStore;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "opaque")
+@Slf4j
+public class DefaultOpaqueTokenStore implements OpaqueTokenStore {
+
+  private static final String TOKENS_GAUGE = "jwt.opaque.tokens";
+  private static final String EXPIRED_TOKENS_REMOVED_MSG = "Removed {} expired opaque tokens, {} left";
+  private static final int TOKEN_BYTES = 32;
+  private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final SecureRandom random = new SecureRandom();
+  private final ConcurrentHashMap<String, OpaqueToken> tokens = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<ExpiryKey> expiryQueue = new ConcurrentSkipListSet<>();
+
+  public DefaultOpaqueTokenStore(MeterRegistry meterRegistry) {
+    Gauge.builder(TOKENS_GAUGE, tokens, ConcurrentHashMap::size).register(meterRegistry);
+  }
+
+  @Override
+  public String save(OpaqueToken token) {
+    String tokenValue = generateTokenValue();
+    while (tokens.putIfAbsent(tokenValue, token) != null) {
+      tokenValue = generateTokenValue();
+    }
+    expiryQueue.add(new ExpiryKey(token.getPrincipal().getExpiresAt(), tokenValue));
+    return tokenValue;
+  }
+
+  @Override
+  public OpaqueToken find(String tokenValue) {
+    return tokens.get(tokenValue);
+  }
+
+  @Override
+  public OpaqueToken remove(String tokenValue) {
+    OpaqueToken token = tokens.remove(tokenValue);
+    if (token != null) {
+      expiryQueue.remove(new ExpiryKey(token.getPrincipal().getExpiresAt(), tokenValue));
+    }
+    return token;
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${jwt.opaque.sweepInterval}", initialDelayString = "${jwt.opaque.sweepInterval}")
+  public int removeExpired() {
+    long now = Instant.now().getEpochSecond();
+    int removedTokens = 0;
+    for (ExpiryKey expiryKey : expiryQueue) {
+      if (expiryKey.expiresAt > now) {
+        break;
+      }
+      if (expiryQueue.remove(expiryKey) && tokens.remove(expiryKey.tokenValue) != null) {
+        removedTokens++;
+      }
+    }
+    log.debug(EXPIRED_TOKENS_REMOVED_MSG, removedTokens, tokens.size());
+    return removedTokens;
+  }
+
+  @Override
+  public int size() {
+    return tokens.size();
+  }
+
+  private String generateTokenValue() {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    return TOKEN_ENCODER.encodeToString(bytes);
+  }
+
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  private static class ExpiryKey implements Comparable<ExpiryKey> {
+
+    private final long expiresAt;
+    private final String tokenValue;
+
+    @Override
+    public int compareTo(ExpiryKey other) {
+      int comparison = Long.compare(expiresAt, other.expiresAt);
+      return comparison != 0 ? comparison : tokenValue.compareTo(other.tokenValue);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.jwt.revocation;
+
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+
+public interface JwtRevocationService {
+
+  boolean isRevoked(JwtPrincipal principal);
+
+  void revoke(JwtPrincipal principal);
+
+  void reloadRevocations();
+}
@@ -0,0 +1,71 @@
+package polovinko.leontii.caloriescalculator.services.jwt.revocation.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class BloomFilter {
+
+  private static final double LN_2 = Math.log(2);
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long insertions = Math.max(1, expectedInsertions);
+    long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+    int wordCount = (int) Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount * Long.SIZE;
+    this.hashCount = (int) Math.max(1, Math.round((double) bitCount / insertions * LN_2));
+  }
+
+  void put(String value) {
+    long hash = hash(value);
+    long increment = mix(hash) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      setBit(bitIndex(hash + i * increment));
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash = hash(value);
+    long increment = mix(hash) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long index = bitIndex(hash + i * increment);
+      if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void setBit(long index) {
+    int wordIndex = (int) (index >>> 6);
+    long mask = 1L << index;
+    long word = words.get(wordIndex);
+    while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask)) {
+      word = words.get(wordIndex);
+    }
+  }
+
+  private long bitIndex(long combinedHash) {
+    return (combinedHash & Long.MAX_VALUE) % bitCount;
+  }
+
+  private static long hash(String value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
@@ -0,0 +1,73 @@
+package polovinko.leontii.caloriescalculator.services.jwt.revocation.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.dao.RevokedTokenRepository;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.RevokedToken;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class DefaultJwtRevocationService implements JwtRevocationService {
+
+  private static final String REVOCATIONS_RELOADED_MSG = "Loaded {} JWT revocations, purged {} expired ones";
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final long expectedRevocations;
+  private final double falsePositiveRate;
+  private volatile ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+  private volatile BloomFilter bloomFilter;
+
+  public DefaultJwtRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                     @Value("${jwt.revocation.expectedRevocations}") long expectedRevocations,
+                                     @Value("${jwt.revocation.falsePositiveRate}") double falsePositiveRate) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.expectedRevocations = expectedRevocations;
+    this.falsePositiveRate = falsePositiveRate;
+    this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+  }
+
+  @Override
+  public boolean isRevoked(JwtPrincipal principal) {
+    String tokenId = principal.getTokenId();
+    return tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId);
+  }
+
+  @Override
+  public synchronized void revoke(JwtPrincipal principal) {
+    String tokenId = principal.getTokenId();
+    if (tokenId == null || revokedTokens.containsKey(tokenId)) {
+      return;
+    }
+    revokedTokenRepository.save(new RevokedToken(tokenId, Instant.ofEpochSecond(principal.getExpiresAt())));
+    revokedTokens.put(tokenId, principal.getExpiresAt());
+    bloomFilter.put(tokenId);
+  }
+
+  @Override
+  @PostConstruct
+  @Scheduled(fixedDelayString = "${jwt.revocation.reloadInterval}",
+      initialDelayString = "${jwt.revocation.reloadInterval}")
+  public synchronized void reloadRevocations() {
+    Instant now = Instant.now();
+    int purgedRevocations = revokedTokenRepository.deleteExpired(now);
+    List<RevokedToken> liveRevocations = revokedTokenRepository.findAllByExpiresAtAfter(now);
+    BloomFilter reloadedFilter =
+        new BloomFilter(Math.max(expectedRevocations, liveRevocations.size()), falsePositiveRate);
+    ConcurrentHashMap<String, Long> reloadedTokens = new ConcurrentHashMap<>();
+    for (RevokedToken revokedToken : liveRevocations) {
+      reloadedTokens.put(revokedToken.getTokenId(), revokedToken.getExpiresAt().getEpochSecond());
+      reloadedFilter.put(revokedToken.getTokenId());
+    }
+    revokedTokens = reloadedTokens;
+    bloomFilter = reloadedFilter;
+    log.debug(REVOCATIONS_RELOADED_MSG, liveRevocations.size(), purgedRevocations);
+  }
+}
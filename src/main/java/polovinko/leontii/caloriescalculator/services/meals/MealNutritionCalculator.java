@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.meals;
+
+import polovinko.leontii.caloriescalculator.dto.MealNutrition;
+import polovinko.leontii.caloriescalculator.dto.MealRequest;
+import java.util.List;
+
+public interface MealNutritionCalculator {
+
+  MealNutrition calculate(MealRequest meal);
+
+  List<MealNutrition> calculateAll(List<MealRequest> meals);
+}
@@ -0,0 +1,97 @@
+package polovinko.leontii.caloriescalculator.services.meals.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.dto.MealItemRequest;
+import polovinko.leontii.caloriescalculator.dto.MealNutrition;
+import polovinko.leontii.caloriescalculator.dto.MealRequest;
+import polovinko.leontii.caloriescalculator.exception.InvalidMealException;
+import polovinko.leontii.caloriescalculator.services.meals.MealNutritionCalculator;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class DefaultMealNutritionCalculator implements MealNutritionCalculator {
+
+  private static final BigDecimal MAX_GRAMS = new BigDecimal("100000.0");
+  private static final String EMPTY_MEAL_MSG = "Meal %d must contain at least one item";
+  private static final String TOO_MANY_ITEMS_MSG = "Request must not contain more than %d meal items";
+  private static final String MISSING_ITEM_VALUES_MSG = "Meal %d item %d must contain productId and grams";
+  private static final String INVALID_GRAMS_MSG = "Meal %d item %d grams must be between 0 and 100000.0 " +
+      "with at most one decimal place";
+  private static final String UNKNOWN_PRODUCT_MSG = "Meal %d item %d references unknown product %s";
+
+  private final ProductCatalog productCatalog;
+  private final int maxItemsPerRequest;
+
+  public DefaultMealNutritionCalculator(ProductCatalog productCatalog,
+                                        @Value("${meals.maxItemsPerRequest}") int maxItemsPerRequest) {
+    this.productCatalog = productCatalog;
+    this.maxItemsPerRequest = maxItemsPerRequest;
+  }
+
+  @Override
+  public MealNutrition calculate(MealRequest meal) {
+    return calculateAll(List.of(meal)).get(0);
+  }
+
+  @Override
+  public List<MealNutrition> calculateAll(List<MealRequest> meals) {
+    int[] mealEnds = new int[meals.size()];
+    int items = 0;
+    for (int meal = 0; meal < meals.size(); meal++) {
+      List<MealItemRequest> mealItems = meals.get(meal).getItems();
+      if (mealItems == null || mealItems.isEmpty()) {
+        throw new InvalidMealException(String.format(EMPTY_MEAL_MSG, meal));
+      }
+      items += mealItems.size();
+      if (items > maxItemsPerRequest) {
+        throw new InvalidMealException(String.format(TOO_MANY_ITEMS_MSG, maxItemsPerRequest));
+      }
+      mealEnds[meal] = items;
+    }
+    int[] nutrition = new int[items * FixedPointMealKernel.NUTRIENTS];
+    long[] grams = new long[items];
+    int item = 0;
+    for (int meal = 0; meal < meals.size(); meal++) {
+      List<MealItemRequest> mealItems = meals.get(meal).getItems();
+      for (int mealItem = 0; mealItem < mealItems.size(); mealItem++, item++) {
+        MealItemRequest request = mealItems.get(mealItem);
+        grams[item] = toFixedPointGrams(request, meal, mealItem);
+        if (!productCatalog.copyFixedPointNutrition(request.getProductId(), nutrition,
+            item * FixedPointMealKernel.NUTRIENTS)) {
+          throw new InvalidMealException(String.format(UNKNOWN_PRODUCT_MSG, meal, mealItem,
+              request.getProductId()));
+        }
+      }
+    }
+    List<MealNutrition> results = new ArrayList<>(meals.size());
+    long[] totals = new long[FixedPointMealKernel.NUTRIENTS];
+    int mealStart = 0;
+    for (int mealEnd : mealEnds) {
+      FixedPointMealKernel.sum(nutrition, grams, mealStart, mealEnd, totals);
+      results.add(new MealNutrition(toDecimal(totals[0]), toDecimal(totals[1]), toDecimal(totals[2]),
+          toDecimal(totals[3])));
+      mealStart = mealEnd;
+    }
+    return results;
+  }
+
+  private static long toFixedPointGrams(MealItemRequest request, int meal, int mealItem) {
+    BigDecimal value = request.getGrams();
+    if (request.getProductId() == null || value == null) {
+      throw new InvalidMealException(String.format(MISSING_ITEM_VALUES_MSG, meal, mealItem));
+    }
+    if (value.signum() < 0 || value.compareTo(MAX_GRAMS) > 0 || value.stripTrailingZeros().scale() >
+        FixedPointMealKernel.SCALE) {
+      throw new InvalidMealException(String.format(INVALID_GRAMS_MSG, meal, mealItem));
+    }
+    return value.movePointRight(FixedPointMealKernel.SCALE).longValueExact();
+  }
+
+  private static BigDecimal toDecimal(long tenths) {
+    return BigDecimal.valueOf(tenths, FixedPointMealKernel.SCALE);
+  }
+}
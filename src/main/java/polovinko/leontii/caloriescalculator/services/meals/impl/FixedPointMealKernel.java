@@ -0,0 +1,31 @@
+package polovinko.leontii.caloriescalculator.services.meals.impl;
+
+class FixedPointMealKernel {
+
+  static final int NUTRIENTS = 4;
+  static final int SCALE = 1;
+  private static final long TENTHS_PER_100_GRAMS = 1000;
+
+  static void sum(int[] nutrition, long[] grams, int from, int to, long[] totals) {
+    long proteins = 0;
+    long fats = 0;
+    long carbs = 0;
+    long calories = 0;
+    for (int item = from, offset = from * NUTRIENTS; item < to; item++, offset += NUTRIENTS) {
+      long itemGrams = grams[item];
+      proteins += nutrition[offset] * itemGrams;
+      fats += nutrition[offset + 1] * itemGrams;
+      carbs += nutrition[offset + 2] * itemGrams;
+      calories += nutrition[offset + 3] * itemGrams;
+    }
+    totals[0] = toTenths(proteins);
+    totals[1] = toTenths(fats);
+    totals[2] = toTenths(carbs);
+    totals[3] = toTenths(calories);
+  }
+
+  static long toTenths(long total) {
+    long rounded = (Math.abs(total) + TENTHS_PER_100_GRAMS / 2) / TENTHS_PER_100_GRAMS;
+    return total < 0 ? -rounded : rounded;
+  }
+}
@@ -0,0 +1,16 @@
+package polovinko.leontii.caloriescalculator.services.products;
+
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProductCatalog {
+
+  Optional<ProductNutrition> findNutrition(UUID productId);
+
+  boolean copyFixedPointNutrition(UUID productId, int[] target, int offset);
+
+  int size();
+
+  void rebuild();
+}
@@ -0,0 +1,22 @@
+package polovinko.leontii.caloriescalculator.services.products;
+
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.ProductsChangedEvent;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@AllArgsConstructor
+public class ProductChangeListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onProductChanged(Product product) {
+    eventPublisher.publishEvent(new ProductsChangedEvent());
+  }
+}
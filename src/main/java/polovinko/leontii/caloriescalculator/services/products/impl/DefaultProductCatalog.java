@@ -0,0 +1,142 @@
+package polovinko.leontii.caloriescalculator.services.products.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import polovinko.leontii.caloriescalculator.models.ProductsChangedEvent;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+@DependsOnDatabaseInitialization
+public class DefaultProductCatalog implements ProductCatalog {
+
+  private static final String SELECT_NUTRITION_SQL = "SELECT id, proteins, fats, carbs, calories FROM products";
+  private static final String SNAPSHOT_PREFIX = "products-";
+  private static final String SNAPSHOT_SUFFIX = ".snapshot";
+  private static final String REBUILD_THREAD_NAME = "product-catalog-rebuild";
+  private static final String REBUILD_ERROR_MSG = "Product catalog snapshot could not be rebuilt";
+  private static final String SNAPSHOT_REBUILT_MSG = "Rebuilt product catalog snapshot with {} products in {} ms";
+  private static final String SNAPSHOT_DELETE_ERROR_MSG = "Stale product catalog snapshot {} could not be deleted";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Path directory;
+  private final ExecutorService rebuildExecutor;
+  private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+  private volatile ProductSnapshot snapshot;
+
+  public DefaultProductCatalog(DataSource dataSource,
+                               @Value("${products.snapshot.directory}") Path directory,
+                               @Value("${products.snapshot.fetchSize}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.directory = directory;
+    this.rebuildExecutor = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, REBUILD_THREAD_NAME);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public Optional<ProductNutrition> findNutrition(UUID productId) {
+    return Optional.ofNullable(snapshot.find(productId));
+  }
+
+  @Override
+  public boolean copyFixedPointNutrition(UUID productId, int[] target, int offset) {
+    return snapshot.copyFixedPointNutrition(productId, target, offset);
+  }
+
+  @Override
+  public int size() {
+    return snapshot.getSize();
+  }
+
+  @Override
+  @PostConstruct
+  public synchronized void rebuild() {
+    long startedAt = System.currentTimeMillis();
+    ProductSnapshot rebuiltSnapshot;
+    try {
+      Files.createDirectories(directory);
+      rebuiltSnapshot = writeSnapshot(Files.createTempFile(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX));
+    } catch (IOException | UncheckedIOException e) {
+      throw new CaloriesCalculatorServerException(REBUILD_ERROR_MSG, e);
+    }
+    ProductSnapshot staleSnapshot = snapshot;
+    snapshot = rebuiltSnapshot;
+    if (staleSnapshot != null) {
+      deleteSnapshot(staleSnapshot);
+    }
+    log.debug(SNAPSHOT_REBUILT_MSG, rebuiltSnapshot.getSize(), System.currentTimeMillis() - startedAt);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    if (rebuildScheduled.compareAndSet(false, true)) {
+      rebuildExecutor.execute(() -> {
+        rebuildScheduled.set(false);
+        try {
+          rebuild();
+        } catch (RuntimeException e) {
+          log.error(REBUILD_ERROR_MSG, e);
+        }
+      });
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    rebuildExecutor.shutdownNow();
+    if (snapshot != null) {
+      deleteSnapshot(snapshot);
+    }
+  }
+
+  private ProductSnapshot writeSnapshot(Path file) throws IOException {
+    try (ProductSnapshot.Writer writer = ProductSnapshot.writer(file)) {
+      jdbcTemplate.query(SELECT_NUTRITION_SQL, resultSet -> {
+        try {
+          writer.add(Uuids.fromBytes(resultSet.getBytes(1)),
+              ProductSnapshot.toFixedPoint(resultSet.getBigDecimal(2)),
+              ProductSnapshot.toFixedPoint(resultSet.getBigDecimal(3)),
+              ProductSnapshot.toFixedPoint(resultSet.getBigDecimal(4)),
+              ProductSnapshot.toFixedPoint(resultSet.getBigDecimal(5)));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      return writer.finish();
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  private static void deleteSnapshot(ProductSnapshot staleSnapshot) {
+    try {
+      Files.deleteIfExists(staleSnapshot.getFile());
+    } catch (IOException e) {
+      log.warn(SNAPSHOT_DELETE_ERROR_MSG, staleSnapshot.getFile(), e);
+    }
+  }
+}
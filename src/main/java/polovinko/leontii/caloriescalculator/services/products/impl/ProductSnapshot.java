@@ -0,0 +1,149 @@
+package polovinko.leontii.caloriescalculator.services.products.impl;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class ProductSnapshot {
+
+  private static final int MAGIC = 0x50524f44;
+  private static final int HEADER_SIZE = 16;
+  private static final int RECORD_SIZE = 32;
+  private static final int SLOT_SIZE = 4;
+  private static final int NUTRITION_SCALE = 1;
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+  private static final String SNAPSHOT_TOO_LARGE_MSG = "Product snapshot of %d records does not fit into one mapping";
+
+  @Getter
+  private final Path file;
+  private final MappedByteBuffer buffer;
+  @Getter
+  private final int size;
+  private final int indexOffset;
+  private final int slotMask;
+
+  static Writer writer(Path file) throws IOException {
+    return new Writer(file);
+  }
+
+  ProductNutrition find(UUID productId) {
+    int record = findRecord(productId);
+    if (record < 0) {
+      return null;
+    }
+    return new ProductNutrition(productId,
+        BigDecimal.valueOf(buffer.getInt(record + 16), NUTRITION_SCALE),
+        BigDecimal.valueOf(buffer.getInt(record + 20), NUTRITION_SCALE),
+        BigDecimal.valueOf(buffer.getInt(record + 24), NUTRITION_SCALE),
+        BigDecimal.valueOf(buffer.getInt(record + 28), NUTRITION_SCALE));
+  }
+
+  boolean copyFixedPointNutrition(UUID productId, int[] target, int offset) {
+    int record = findRecord(productId);
+    if (record < 0) {
+      return false;
+    }
+    target[offset] = buffer.getInt(record + 16);
+    target[offset + 1] = buffer.getInt(record + 20);
+    target[offset + 2] = buffer.getInt(record + 24);
+    target[offset + 3] = buffer.getInt(record + 28);
+    return true;
+  }
+
+  private int findRecord(UUID productId) {
+    long mostSignificantBits = productId.getMostSignificantBits();
+    long leastSignificantBits = productId.getLeastSignificantBits();
+    int slot = hash(mostSignificantBits, leastSignificantBits) & slotMask;
+    while (true) {
+      int recordNumber = buffer.getInt(indexOffset + slot * SLOT_SIZE);
+      if (recordNumber == 0) {
+        return -1;
+      }
+      int record = HEADER_SIZE + (recordNumber - 1) * RECORD_SIZE;
+      if (buffer.getLong(record) == mostSignificantBits && buffer.getLong(record + 8) == leastSignificantBits) {
+        return record;
+      }
+      slot = (slot + 1) & slotMask;
+    }
+  }
+
+  static int toFixedPoint(BigDecimal value) {
+    return value.setScale(NUTRITION_SCALE).unscaledValue().intValueExact();
+  }
+
+  private static int hash(long mostSignificantBits, long leastSignificantBits) {
+    long hash = mostSignificantBits * 31 + leastSignificantBits;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+
+  static class Writer implements Closeable {
+
+    private final Path file;
+    private final DataOutputStream output;
+    private int size;
+
+    private Writer(Path file) throws IOException {
+      this.file = file;
+      this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE));
+      this.output.write(new byte[HEADER_SIZE]);
+    }
+
+    void add(UUID productId, int proteins, int fats, int carbs, int calories) throws IOException {
+      output.writeLong(productId.getMostSignificantBits());
+      output.writeLong(productId.getLeastSignificantBits());
+      output.writeInt(proteins);
+      output.writeInt(fats);
+      output.writeInt(carbs);
+      output.writeInt(calories);
+      size++;
+    }
+
+    ProductSnapshot finish() throws IOException {
+      output.close();
+      int slots = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+      long indexOffset = HEADER_SIZE + (long) size * RECORD_SIZE;
+      long fileSize = indexOffset + (long) slots * SLOT_SIZE;
+      if (fileSize > Integer.MAX_VALUE) {
+        throw new IOException(String.format(SNAPSHOT_TOO_LARGE_MSG, size));
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, size);
+        buffer.putInt(8, slots);
+        int slotMask = slots - 1;
+        for (int recordNumber = 1; recordNumber <= size; recordNumber++) {
+          int record = HEADER_SIZE + (recordNumber - 1) * RECORD_SIZE;
+          int slot = hash(buffer.getLong(record), buffer.getLong(record + 8)) & slotMask;
+          while (buffer.getInt((int) indexOffset + slot * SLOT_SIZE) != 0) {
+            slot = (slot + 1) & slotMask;
+          }
+          buffer.putInt((int) indexOffset + slot * SLOT_SIZE, recordNumber);
+        }
+        buffer.force();
+        return new ProductSnapshot(file, buffer, size, (int) indexOffset, slotMask);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      output.close();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package polovinko.leontii.caloriescalculator.services.products.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@AllArgsConstructor
+@Getter
+public enum ProductImportFormat {
+
+  CSV(MediaType.valueOf(ProductImportFormat.CSV_VALUE), List.of(".csv")),
+  JSON_LINES(MediaType.valueOf(ProductImportFormat.JSON_LINES_VALUE), List.of(".jsonl", ".ndjson"));
+
+  public static final String CSV_VALUE = "text/csv";
+  public static final String JSON_LINES_VALUE = "application/x-ndjson";
+
+  private final MediaType mediaType;
+  private final List<String> fileExtensions;
+
+  public static Optional<ProductImportFormat> fromMediaType(MediaType mediaType) {
+    return Arrays.stream(values())
+        .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+        .findFirst();
+  }
+
+  public static Optional<ProductImportFormat> fromFileName(String fileName) {
+    String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+    return Arrays.stream(values())
+        .filter(format -> format.fileExtensions.stream().anyMatch(lowerCaseFileName::endsWith))
+        .findFirst();
+  }
+}
@@ -0,0 +1,32 @@
+package polovinko.leontii.caloriescalculator.services.products.imports;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ProductImportRow {
+
+  private final long lineNumber;
+  private final String id;
+  private final String name;
+  private final String proteins;
+  private final String fats;
+  private final String carbs;
+  private final String calories;
+  private final String malformedReason;
+
+  public static ProductImportRow of(long lineNumber, String id, String name, String proteins, String fats,
+                                    String carbs, String calories) {
+    return new ProductImportRow(lineNumber, id, name, proteins, fats, carbs, calories, null);
+  }
+
+  public static ProductImportRow malformed(long lineNumber, String reason) {
+    return new ProductImportRow(lineNumber, null, null, null, null, null, null, reason);
+  }
+
+  public boolean isMalformed() {
+    return malformedReason != null;
+  }
+}
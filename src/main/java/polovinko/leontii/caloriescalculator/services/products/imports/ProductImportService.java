@@ -0,0 +1,9 @@
+package polovinko.leontii.caloriescalculator.services.products.imports;
+
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+  ProductImportReport importProducts(InputStream inputStream, ProductImportFormat format);
+}
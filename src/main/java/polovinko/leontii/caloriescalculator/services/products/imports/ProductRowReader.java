@@ -0,0 +1,9 @@
+package polovinko.leontii.caloriescalculator.services.products.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ProductRowReader extends Closeable {
+
+  ProductImportRow read() throws IOException;
+}
@@ -0,0 +1,185 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import polovinko.leontii.caloriescalculator.exception.InvalidImportFileException;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductRowReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class CsvProductRowReader implements ProductRowReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final int END_OF_INPUT = -1;
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+  private static final String BYTE_ORDER_MARK = "\uFEFF";
+  private static final String ID_COLUMN = "id";
+  private static final String[] REQUIRED_COLUMNS = {"name", "proteins", "fats", "carbs", "calories"};
+  private static final String MISSING_HEADER_MSG = "CSV input must start with a header row";
+  private static final String MISSING_COLUMN_MSG = "CSV header does not contain required column '%s'";
+  private static final String UNTERMINATED_QUOTE_MSG = "Quoted field is not terminated";
+  private static final String UNEXPECTED_QUOTE_MSG = "Unexpected character after closing quote";
+  private static final String FIELD_COUNT_MSG = "Expected %d fields but found %d";
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private final List<String> fields = new ArrayList<>();
+  private final StringBuilder field = new StringBuilder();
+  private final int columnCount;
+  private final int idColumn;
+  private final int[] requiredColumns = new int[REQUIRED_COLUMNS.length];
+  private int position;
+  private int limit;
+  private long lineNumber = 1;
+  private long recordLineNumber;
+  private String recordError;
+
+  CsvProductRowReader(Reader reader) throws IOException {
+    this.reader = reader;
+    if (!readRecord() || recordError != null) {
+      throw new InvalidImportFileException(MISSING_HEADER_MSG);
+    }
+    List<String> header = new ArrayList<>(fields.size());
+    for (String column : fields) {
+      header.add(column.replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT));
+    }
+    this.columnCount = header.size();
+    this.idColumn = header.indexOf(ID_COLUMN);
+    for (int i = 0; i < REQUIRED_COLUMNS.length; i++) {
+      requiredColumns[i] = header.indexOf(REQUIRED_COLUMNS[i]);
+      if (requiredColumns[i] < 0) {
+        throw new InvalidImportFileException(String.format(MISSING_COLUMN_MSG, REQUIRED_COLUMNS[i]));
+      }
+    }
+  }
+
+  @Override
+  public ProductImportRow read() throws IOException {
+    if (!readRecord()) {
+      return null;
+    }
+    if (recordError != null) {
+      return ProductImportRow.malformed(recordLineNumber, recordError);
+    }
+    if (fields.size() != columnCount) {
+      return ProductImportRow.malformed(recordLineNumber, String.format(FIELD_COUNT_MSG, columnCount, fields.size()));
+    }
+    return ProductImportRow.of(recordLineNumber,
+        idColumn < 0 ? null : fields.get(idColumn),
+        fields.get(requiredColumns[0]),
+        fields.get(requiredColumns[1]),
+        fields.get(requiredColumns[2]),
+        fields.get(requiredColumns[3]),
+        fields.get(requiredColumns[4]));
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private boolean readRecord() throws IOException {
+    fields.clear();
+    recordError = null;
+    int next = skipEmptyLines();
+    if (next == END_OF_INPUT) {
+      return false;
+    }
+    recordLineNumber = lineNumber;
+    while (true) {
+      field.setLength(0);
+      next = next == QUOTE ? readQuotedField() : readPlainField(next);
+      fields.add(field.toString());
+      if (next != SEPARATOR) {
+        return true;
+      }
+      next = nextChar();
+    }
+  }
+
+  private int readPlainField(int next) throws IOException {
+    while (next != SEPARATOR && next != '\n' && next != '\r' && next != END_OF_INPUT) {
+      field.append((char) next);
+      next = nextChar();
+    }
+    return consumeLineEnd(next);
+  }
+
+  private int readQuotedField() throws IOException {
+    while (true) {
+      int next = nextChar();
+      if (next == END_OF_INPUT) {
+        recordError = UNTERMINATED_QUOTE_MSG;
+        return END_OF_INPUT;
+      }
+      if (next == QUOTE) {
+        next = nextChar();
+        if (next != QUOTE) {
+          return next == SEPARATOR ? next : skipRestOfRecordIfNeeded(next);
+        }
+      }
+      field.append((char) next);
+    }
+  }
+
+  private int skipRestOfRecordIfNeeded(int next) throws IOException {
+    if (next == '\n' || next == '\r' || next == END_OF_INPUT) {
+      return consumeLineEnd(next);
+    }
+    recordError = UNEXPECTED_QUOTE_MSG;
+    while (next != '\n' && next != '\r' && next != END_OF_INPUT) {
+      next = nextChar();
+    }
+    return consumeLineEnd(next);
+  }
+
+  private int consumeLineEnd(int next) throws IOException {
+    if (next == '\r' && peekChar() == '\n') {
+      nextChar();
+    }
+    return next;
+  }
+
+  private int skipEmptyLines() throws IOException {
+    int next = nextChar();
+    while (next == '\n' || next == '\r') {
+      consumeLineEnd(next);
+      next = nextChar();
+    }
+    return next;
+  }
+
+  private int nextChar() throws IOException {
+    if (position == limit && !fill()) {
+      return END_OF_INPUT;
+    }
+    char next = buffer[position++];
+    if (next == '\n' || next == '\r' && peekChar() != '\n') {
+      lineNumber++;
+    }
+    return next;
+  }
+
+  private int peekChar() throws IOException {
+    if (position == limit && !fill()) {
+      return END_OF_INPUT;
+    }
+    return buffer[position];
+  }
+
+  private boolean fill() throws IOException {
+    int read = reader.read(buffer, 0, buffer.length);
+    while (read == 0) {
+      read = reader.read(buffer, 0, buffer.length);
+    }
+    if (read < 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+}
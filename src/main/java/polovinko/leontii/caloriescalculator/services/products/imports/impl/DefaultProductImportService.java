@@ -0,0 +1,229 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReject;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.ProductsChangedEvent;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportFormat;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportService;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductRowReader;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class DefaultProductImportService implements ProductImportService {
+
+  private static final String UPSERT_PRODUCT_SQL = "INSERT INTO products (id, name, proteins, fats, carbs, calories) " +
+      "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name), proteins = VALUES(proteins), " +
+      "fats = VALUES(fats), carbs = VALUES(carbs), calories = VALUES(calories)";
+  private static final String VALIDATION_THREAD_PREFIX = "product-import-";
+  private static final String IMPORT_ERROR_MSG = "Products could not be imported";
+  private static final String IMPORT_PROGRESS_MSG = "Product import progress: {} imported, {} rejected, {} rows/s";
+  private static final String IMPORT_FINISHED_MSG =
+      "Product import finished: {} imported, {} rejected in {} ms, {} rows/s";
+  private static final String REJECTED_ROW_MSG = "Product import rejected line {}: {}";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final JsonFactory jsonFactory;
+  private final ProductRowValidator validator = new ProductRowValidator();
+  private final ExecutorService validationExecutor;
+  private final int batchSize;
+  private final int parallelism;
+  private final int maxReportedRejects;
+
+  public DefaultProductImportService(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper,
+                                     @Value("${products.import.batchSize}") int batchSize,
+                                     @Value("${products.import.parallelism}") int parallelism,
+                                     @Value("${products.import.maxReportedRejects}") int maxReportedRejects) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.jsonFactory = objectMapper.getFactory();
+    this.batchSize = batchSize;
+    this.parallelism = parallelism;
+    this.maxReportedRejects = maxReportedRejects;
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(VALIDATION_THREAD_PREFIX);
+    threadFactory.setDaemon(true);
+    this.validationExecutor = Executors.newFixedThreadPool(parallelism, threadFactory);
+  }
+
+  @Override
+  public ProductImportReport importProducts(InputStream inputStream, ProductImportFormat format) {
+    ImportProgress progress = new ImportProgress(System.nanoTime());
+    try (ProductRowReader reader = openReader(inputStream, format)) {
+      CompletableFuture<ValidatedChunk> pendingChunk = null;
+      List<ProductImportRow> rows = readChunk(reader);
+      while (!rows.isEmpty()) {
+        CompletableFuture<ValidatedChunk> validatingChunk = validateChunk(rows);
+        if (pendingChunk != null) {
+          writeChunk(pendingChunk.join(), progress);
+        }
+        pendingChunk = validatingChunk;
+        rows = readChunk(reader);
+      }
+      if (pendingChunk != null) {
+        writeChunk(pendingChunk.join(), progress);
+      }
+    } catch (IOException | CompletionException e) {
+      throw new CaloriesCalculatorServerException(IMPORT_ERROR_MSG, e);
+    } finally {
+      if (progress.importedRows > 0) {
+        eventPublisher.publishEvent(new ProductsChangedEvent());
+      }
+    }
+    ProductImportReport report = progress.toReport();
+    log.info(IMPORT_FINISHED_MSG, report.getImportedRows(), report.getRejectedRows(), report.getElapsedMillis(),
+        report.getRowsPerSecond());
+    return report;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    validationExecutor.shutdownNow();
+  }
+
+  private ProductRowReader openReader(InputStream inputStream, ProductImportFormat format) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    switch (format) {
+      case CSV:
+        return new CsvProductRowReader(reader);
+      case JSON_LINES:
+        return new JsonLinesProductRowReader(reader, jsonFactory);
+      default:
+        throw new IllegalArgumentException(format.name());
+    }
+  }
+
+  private List<ProductImportRow> readChunk(ProductRowReader reader) throws IOException {
+    List<ProductImportRow> rows = new ArrayList<>(batchSize);
+    ProductImportRow row;
+    while (rows.size() < batchSize && (row = reader.read()) != null) {
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private CompletableFuture<ValidatedChunk> validateChunk(List<ProductImportRow> rows) {
+    int sliceSize = (rows.size() + parallelism - 1) / parallelism;
+    List<CompletableFuture<ValidatedChunk>> slices = new ArrayList<>(parallelism);
+    for (int from = 0; from < rows.size(); from += sliceSize) {
+      List<ProductImportRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+      slices.add(CompletableFuture.supplyAsync(() -> validateSlice(slice), validationExecutor));
+    }
+    return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> {
+          ValidatedChunk chunk = new ValidatedChunk(rows.size());
+          slices.forEach(slice -> chunk.addAll(slice.join()));
+          return chunk;
+        });
+  }
+
+  private ValidatedChunk validateSlice(List<ProductImportRow> rows) {
+    ValidatedChunk slice = new ValidatedChunk(rows.size());
+    for (ProductImportRow row : rows) {
+      Product product = validator.validate(row, slice.rejects);
+      if (product != null) {
+        slice.products.add(product);
+      }
+    }
+    return slice;
+  }
+
+  private void writeChunk(ValidatedChunk chunk, ImportProgress progress) {
+    if (!chunk.products.isEmpty()) {
+      transactionTemplate.executeWithoutResult(status ->
+          jdbcTemplate.batchUpdate(UPSERT_PRODUCT_SQL, chunk.products, chunk.products.size(), (statement, product) -> {
+            statement.setBytes(1, Uuids.toBytes(product.getId()));
+            statement.setString(2, product.getName());
+            statement.setBigDecimal(3, product.getProteins());
+            statement.setBigDecimal(4, product.getFats());
+            statement.setBigDecimal(5, product.getCarbs());
+            statement.setBigDecimal(6, product.getCalories());
+          }));
+    }
+    progress.record(chunk);
+    log.info(IMPORT_PROGRESS_MSG, progress.importedRows, progress.rejectedRows, progress.rowsPerSecond());
+  }
+
+  private static class ValidatedChunk {
+
+    private final List<Product> products;
+    private final List<ProductImportReject> rejects = new ArrayList<>();
+
+    private ValidatedChunk(int expectedSize) {
+      this.products = new ArrayList<>(expectedSize);
+    }
+
+    private void addAll(ValidatedChunk slice) {
+      products.addAll(slice.products);
+      rejects.addAll(slice.rejects);
+    }
+  }
+
+  private class ImportProgress {
+
+    private final long startedAt;
+    private final List<ProductImportReject> reportedRejects = new ArrayList<>();
+    private long importedRows;
+    private long rejectedRows;
+
+    private ImportProgress(long startedAt) {
+      this.startedAt = startedAt;
+    }
+
+    private void record(ValidatedChunk chunk) {
+      importedRows += chunk.products.size();
+      rejectedRows += chunk.rejects.size();
+      for (ProductImportReject reject : chunk.rejects) {
+        log.debug(REJECTED_ROW_MSG, reject.getLineNumber(), reject.getReason());
+        if (reportedRejects.size() < maxReportedRejects) {
+          reportedRejects.add(reject);
+        }
+      }
+    }
+
+    private long elapsedNanos() {
+      return Math.max(1, System.nanoTime() - startedAt);
+    }
+
+    private long rowsPerSecond() {
+      return (importedRows + rejectedRows) * TimeUnit.SECONDS.toNanos(1) / elapsedNanos();
+    }
+
+    private ProductImportReport toReport() {
+      return new ProductImportReport(importedRows, rejectedRows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos()),
+          rowsPerSecond(), reportedRejects);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductRowReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Set;
+
+class JsonLinesProductRowReader implements ProductRowReader {
+
+  private static final String ID_FIELD = "id";
+  private static final String NAME_FIELD = "name";
+  private static final String PROTEINS_FIELD = "proteins";
+  private static final String FATS_FIELD = "fats";
+  private static final String CARBS_FIELD = "carbs";
+  private static final String CALORIES_FIELD = "calories";
+  private static final Set<String> PRODUCT_FIELDS =
+      Set.of(ID_FIELD, NAME_FIELD, PROTEINS_FIELD, FATS_FIELD, CARBS_FIELD, CALORIES_FIELD);
+  private static final String NOT_AN_OBJECT_MSG = "Line must contain exactly one json object";
+  private static final String NOT_A_SCALAR_MSG = "Field '%s' must be a string or a number";
+  private static final String MALFORMED_JSON_MSG = "Malformed json: %s";
+
+  private final BufferedReader reader;
+  private final JsonFactory jsonFactory;
+  private long lineNumber;
+
+  JsonLinesProductRowReader(BufferedReader reader, JsonFactory jsonFactory) {
+    this.reader = reader;
+    this.jsonFactory = jsonFactory;
+  }
+
+  @Override
+  public ProductImportRow read() throws IOException {
+    String line;
+    do {
+      line = reader.readLine();
+      lineNumber++;
+    } while (line != null && line.isBlank());
+    if (line == null) {
+      return null;
+    }
+    try (JsonParser parser = jsonFactory.createParser(line)) {
+      return parseRow(parser);
+    } catch (JsonProcessingException e) {
+      return ProductImportRow.malformed(lineNumber, String.format(MALFORMED_JSON_MSG, e.getOriginalMessage()));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private ProductImportRow parseRow(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return ProductImportRow.malformed(lineNumber, NOT_AN_OBJECT_MSG);
+    }
+    String id = null;
+    String name = null;
+    String proteins = null;
+    String fats = null;
+    String carbs = null;
+    String calories = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value.isStructStart()) {
+        if (PRODUCT_FIELDS.contains(field)) {
+          return ProductImportRow.malformed(lineNumber, String.format(NOT_A_SCALAR_MSG, field));
+        }
+        parser.skipChildren();
+        continue;
+      }
+      String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+      switch (field) {
+        case ID_FIELD:
+          id = text;
+          break;
+        case NAME_FIELD:
+          name = text;
+          break;
+        case PROTEINS_FIELD:
+          proteins = text;
+          break;
+        case FATS_FIELD:
+          fats = text;
+          break;
+        case CARBS_FIELD:
+          carbs = text;
+          break;
+        case CALORIES_FIELD:
+          calories = text;
+          break;
+        default:
+          break;
+      }
+    }
+    if (parser.nextToken() != null) {
+      return ProductImportRow.malformed(lineNumber, NOT_AN_OBJECT_MSG);
+    }
+    return ProductImportRow.of(lineNumber, id, name, proteins, fats, carbs, calories);
+  }
+}
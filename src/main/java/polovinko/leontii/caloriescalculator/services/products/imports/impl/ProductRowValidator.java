@@ -0,0 +1,108 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import polovinko.leontii.caloriescalculator.dto.ProductImportReject;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+
+class ProductRowValidator {
+
+  private static final int NAME_MAX_LENGTH = 255;
+  private static final int NUTRITION_SCALE = 1;
+  private static final BigDecimal MACRONUTRIENT_LIMIT = new BigDecimal("9999.9");
+  private static final BigDecimal CALORIES_LIMIT = new BigDecimal("99999.9");
+  private static final String INVALID_ID_MSG = "Field 'id' is not a valid UUID";
+  private static final String NAME_TOO_LONG_MSG = "Field 'name' is longer than " + NAME_MAX_LENGTH + " characters";
+  private static final String MISSING_VALUE_MSG = "Field '%s' is required";
+  private static final String INVALID_NUMBER_MSG = "Field '%s' is not a number";
+  private static final String INVALID_SCALE_MSG = "Field '%s' must have at most one decimal place";
+  private static final String OUT_OF_RANGE_MSG = "Field '%s' must be between 0 and %s";
+
+  Product validate(ProductImportRow row, List<ProductImportReject> rejects) {
+    try {
+      return toProduct(row);
+    } catch (RejectedRowException e) {
+      rejects.add(new ProductImportReject(row.getLineNumber(), e.getMessage()));
+      return null;
+    }
+  }
+
+  private static Product toProduct(ProductImportRow row) {
+    if (row.isMalformed()) {
+      throw new RejectedRowException(row.getMalformedReason());
+    }
+    return new Product(parseId(row.getId()),
+        parseName(row.getName()),
+        parseNutrient("proteins", row.getProteins(), MACRONUTRIENT_LIMIT),
+        parseNutrient("fats", row.getFats(), MACRONUTRIENT_LIMIT),
+        parseNutrient("carbs", row.getCarbs(), MACRONUTRIENT_LIMIT),
+        parseNutrient("calories", row.getCalories(), CALORIES_LIMIT));
+  }
+
+  private static UUID parseId(String rawId) {
+    String value = trimToNull(rawId);
+    if (value == null) {
+      return Uuids.timeOrdered();
+    }
+    try {
+      UUID id = UUID.fromString(value);
+      if (id.toString().equalsIgnoreCase(value)) {
+        return id;
+      }
+    } catch (IllegalArgumentException e) {
+      throw new RejectedRowException(INVALID_ID_MSG);
+    }
+    throw new RejectedRowException(INVALID_ID_MSG);
+  }
+
+  private static String parseName(String rawName) {
+    String name = trimToNull(rawName);
+    if (name == null) {
+      throw new RejectedRowException(String.format(MISSING_VALUE_MSG, "name"));
+    }
+    if (name.length() > NAME_MAX_LENGTH) {
+      throw new RejectedRowException(NAME_TOO_LONG_MSG);
+    }
+    return name;
+  }
+
+  private static BigDecimal parseNutrient(String field, String rawValue, BigDecimal limit) {
+    String value = trimToNull(rawValue);
+    if (value == null) {
+      throw new RejectedRowException(String.format(MISSING_VALUE_MSG, field));
+    }
+    BigDecimal number;
+    try {
+      number = new BigDecimal(value);
+    } catch (NumberFormatException e) {
+      throw new RejectedRowException(String.format(INVALID_NUMBER_MSG, field));
+    }
+    if (number.signum() < 0 || number.compareTo(limit) > 0) {
+      throw new RejectedRowException(String.format(OUT_OF_RANGE_MSG, field, limit));
+    }
+    try {
+      return number.setScale(NUTRITION_SCALE, RoundingMode.UNNECESSARY);
+    } catch (ArithmeticException e) {
+      throw new RejectedRowException(String.format(INVALID_SCALE_MSG, field));
+    }
+  }
+
+  private static String trimToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+
+  private static class RejectedRowException extends RuntimeException {
+
+    RejectedRowException(String message) {
+      super(message, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package polovinko.leontii.caloriescalculator.services.progress;
+
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DailyCutService {
+
+  DailyCut createDailyCut(UUID userId, DailyCut dailyCut);
+
+  Optional<DailyCut> updateDailyCut(UUID userId, UUID dailyCutId, DailyCut values);
+
+  boolean deleteDailyCut(UUID userId, UUID dailyCutId);
+}
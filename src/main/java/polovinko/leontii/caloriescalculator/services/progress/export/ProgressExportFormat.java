@@ -0,0 +1,24 @@
+package polovinko.leontii.caloriescalculator.services.progress.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import java.util.Arrays;
+import java.util.Optional;
+
+@AllArgsConstructor
+@Getter
+public enum ProgressExportFormat {
+
+  CSV("csv", MediaType.valueOf("text/csv")),
+  JSON_LINES("ndjson", MediaType.valueOf("application/x-ndjson"));
+
+  private final String extension;
+  private final MediaType mediaType;
+
+  public static Optional<ProgressExportFormat> fromExtension(String extension) {
+    return Arrays.stream(values())
+        .filter(format -> format.extension.equalsIgnoreCase(extension))
+        .findFirst();
+  }
+}
@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.progress.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface ProgressExportService {
+
+  long exportUserProgress(UUID userId, ProgressExportFormat format, OutputStream outputStream) throws IOException;
+
+  long exportAllProgress(ProgressExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,46 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+class CsvProgressRowWriter implements ProgressRowWriter {
+
+  private static final String HEADER = "user_id,daily_cut_id,cut_date,calories,proteins,fats,carbs,weight\n";
+  private static final char SEPARATOR = ',';
+  private static final char LINE_END = '\n';
+
+  private final Writer writer;
+
+  CsvProgressRowWriter(OutputStream outputStream, int bufferSize) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), bufferSize);
+    this.writer.write(HEADER);
+  }
+
+  @Override
+  public void writeRow(ResultSet resultSet) throws IOException, SQLException {
+    writer.write(Uuids.fromBytes(resultSet.getBytes(1)).toString());
+    writer.write(SEPARATOR);
+    writer.write(Uuids.fromBytes(resultSet.getBytes(2)).toString());
+    writer.write(SEPARATOR);
+    CoarseClock.TIMESTAMP_FORMATTER.formatTo(resultSet.getObject(3, LocalDateTime.class), writer);
+    for (int column = 4; column <= 8; column++) {
+      writer.write(SEPARATOR);
+      writer.write(resultSet.getString(column));
+    }
+    writer.write(LINE_END);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+}
@@ -0,0 +1,80 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportFormat;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class DefaultProgressExportService implements ProgressExportService {
+
+  private static final String SELECT_PROGRESS_SQL = "SELECT up.user_id, dc.id, dc.cut_date, dc.calories, " +
+      "dc.proteins, dc.fats, dc.carbs, dc.weight FROM user_progress up JOIN daily_cuts dc ON dc.id = up.daily_cut_id";
+  private static final String SELECT_USER_PROGRESS_SQL = SELECT_PROGRESS_SQL +
+      " WHERE up.user_id = ? ORDER BY dc.cut_date, dc.id";
+  private static final String EXPORT_FINISHED_MSG = "Exported {} progress rows as {} in {} ms";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JsonFactory jsonFactory;
+  private final int bufferSize;
+
+  public DefaultProgressExportService(DataSource dataSource, ObjectMapper objectMapper,
+                                      @Value("${progress.export.fetchSize}") int fetchSize,
+                                      @Value("${progress.export.bufferSize}") int bufferSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.jsonFactory = objectMapper.getFactory();
+    this.bufferSize = bufferSize;
+  }
+
+  @Override
+  public long exportUserProgress(UUID userId, ProgressExportFormat format, OutputStream outputStream)
+      throws IOException {
+    return export(format, outputStream, SELECT_USER_PROGRESS_SQL, Uuids.toBytes(userId));
+  }
+
+  @Override
+  public long exportAllProgress(ProgressExportFormat format, OutputStream outputStream) throws IOException {
+    return export(format, outputStream, SELECT_PROGRESS_SQL);
+  }
+
+  private long export(ProgressExportFormat format, OutputStream outputStream, String sql, Object... args)
+      throws IOException {
+    long startedAt = System.currentTimeMillis();
+    ProgressRowWriter writer = createWriter(format, outputStream);
+    long[] exportedRows = new long[1];
+    try {
+      jdbcTemplate.query(sql, resultSet -> {
+        try {
+          writer.writeRow(resultSet);
+          exportedRows[0]++;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, args);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.finish();
+    log.debug(EXPORT_FINISHED_MSG, exportedRows[0], format, System.currentTimeMillis() - startedAt);
+    return exportedRows[0];
+  }
+
+  private ProgressRowWriter createWriter(ProgressExportFormat format, OutputStream outputStream) throws IOException {
+    if (format == ProgressExportFormat.CSV) {
+      return new CsvProgressRowWriter(outputStream, bufferSize);
+    }
+    return new JsonLinesProgressRowWriter(outputStream, jsonFactory);
+  }
+}
@@ -0,0 +1,60 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+class JsonLinesProgressRowWriter implements ProgressRowWriter {
+
+  private static final SerializedString USER_ID_FIELD = new SerializedString("userId");
+  private static final SerializedString DAILY_CUT_ID_FIELD = new SerializedString("dailyCutId");
+  private static final SerializedString CUT_DATE_FIELD = new SerializedString("cutDate");
+  private static final SerializedString[] NUTRITION_FIELDS = {
+      new SerializedString("calories"),
+      new SerializedString("proteins"),
+      new SerializedString("fats"),
+      new SerializedString("carbs"),
+      new SerializedString("weight")
+  };
+  private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
+  private final JsonGenerator generator;
+  private boolean empty = true;
+
+  JsonLinesProgressRowWriter(OutputStream outputStream, JsonFactory jsonFactory) throws IOException {
+    this.generator = jsonFactory.createGenerator(outputStream);
+    this.generator.setRootValueSeparator(LINE_SEPARATOR);
+  }
+
+  @Override
+  public void writeRow(ResultSet resultSet) throws IOException, SQLException {
+    generator.writeStartObject();
+    generator.writeFieldName(USER_ID_FIELD);
+    generator.writeString(Uuids.fromBytes(resultSet.getBytes(1)).toString());
+    generator.writeFieldName(DAILY_CUT_ID_FIELD);
+    generator.writeString(Uuids.fromBytes(resultSet.getBytes(2)).toString());
+    generator.writeFieldName(CUT_DATE_FIELD);
+    generator.writeString(CoarseClock.TIMESTAMP_FORMATTER.format(resultSet.getObject(3, LocalDateTime.class)));
+    for (int field = 0; field < NUTRITION_FIELDS.length; field++) {
+      generator.writeFieldName(NUTRITION_FIELDS[field]);
+      generator.writeNumber(resultSet.getString(field + 4));
+    }
+    generator.writeEndObject();
+    empty = false;
+  }
+
+  @Override
+  public void finish() throws IOException {
+    if (!empty) {
+      generator.writeRaw(LINE_SEPARATOR.getValue());
+    }
+    generator.flush();
+  }
+}
@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+interface ProgressRowWriter {
+
+  void writeRow(ResultSet resultSet) throws IOException, SQLException;
+
+  void finish() throws IOException;
+}
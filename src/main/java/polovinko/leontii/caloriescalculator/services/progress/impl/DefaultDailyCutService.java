@@ -0,0 +1,74 @@
+package polovinko.leontii.caloriescalculator.services.progress.impl;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import polovinko.leontii.caloriescalculator.dao.DailyCutRepository;
+import polovinko.leontii.caloriescalculator.dao.UserProgressRepository;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.UserProgress;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class DefaultDailyCutService implements DailyCutService {
+
+  private final DailyCutRepository dailyCutRepository;
+  private final UserProgressRepository userProgressRepository;
+  private final NutritionRollupService nutritionRollupService;
+  private final DailyCutSyncService dailyCutSyncService;
+
+  @Override
+  @Transactional
+  public DailyCut createDailyCut(UUID userId, DailyCut dailyCut) {
+    dailyCut.setId(null);
+    DailyCut savedDailyCut = dailyCutRepository.save(dailyCut);
+    userProgressRepository.save(new UserProgress(null, userId, savedDailyCut.getId(),
+        savedDailyCut.getCutDate(), dailyCutSyncService.allocateChangeSeq(userId, 1)));
+    nutritionRollupService.recordChange(userId, null, savedDailyCut);
+    return savedDailyCut;
+  }
+
+  @Override
+  @Transactional
+  public Optional<DailyCut> updateDailyCut(UUID userId, UUID dailyCutId, DailyCut values) {
+    Optional<UserProgress> progress = userProgressRepository.findByUserIdAndDailyCutId(userId, dailyCutId);
+    return progress.flatMap(userProgress -> dailyCutRepository.findByIdForUpdate(dailyCutId)).map(dailyCut -> {
+      DailyCut previous = copy(dailyCut);
+      progress.get().setCutDate(values.getCutDate());
+      progress.get().setChangeSeq(dailyCutSyncService.allocateChangeSeq(userId, 1));
+      dailyCut.setCutDate(values.getCutDate());
+      dailyCut.setCalories(values.getCalories());
+      dailyCut.setProteins(values.getProteins());
+      dailyCut.setFats(values.getFats());
+      dailyCut.setCarbs(values.getCarbs());
+      dailyCut.setWeight(values.getWeight());
+      nutritionRollupService.recordChange(userId, previous, dailyCut);
+      return dailyCut;
+    });
+  }
+
+  @Override
+  @Transactional
+  public boolean deleteDailyCut(UUID userId, UUID dailyCutId) {
+    Optional<UserProgress> progress = userProgressRepository.findByUserIdAndDailyCutId(userId, dailyCutId);
+    Optional<DailyCut> dailyCut = progress.flatMap(userProgress -> dailyCutRepository.findByIdForUpdate(dailyCutId));
+    if (dailyCut.isEmpty()) {
+      return false;
+    }
+    userProgressRepository.delete(progress.get());
+    dailyCutRepository.delete(dailyCut.get());
+    dailyCutSyncService.recordDeletion(userId, dailyCutId);
+    nutritionRollupService.recordChange(userId, dailyCut.get(), null);
+    return true;
+  }
+
+  private static DailyCut copy(DailyCut dailyCut) {
+    return new DailyCut(dailyCut.getId(), dailyCut.getCalories(), dailyCut.getProteins(), dailyCut.getFats(),
+        dailyCut.getCarbs(), dailyCut.getWeight(), dailyCut.getCutDate());
+  }
+}
@@ -0,0 +1,6 @@
+package polovinko.leontii.caloriescalculator.services.progress.ingest;
+
+public enum DiaryAcknowledgement {
+  COMMIT,
+  JOURNAL
+}
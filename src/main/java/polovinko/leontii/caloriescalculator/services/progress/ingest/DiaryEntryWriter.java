@@ -0,0 +1,12 @@
+package polovinko.leontii.caloriescalculator.services.progress.ingest;
+
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface DiaryEntryWriter {
+
+  CompletableFuture<DailyCut> submit(UUID userId, DailyCut dailyCut);
+
+  int getQueuedEntries();
+}
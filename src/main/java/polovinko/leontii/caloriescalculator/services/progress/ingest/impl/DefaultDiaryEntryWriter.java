@@ -0,0 +1,385 @@
+package polovinko.leontii.caloriescalculator.services.progress.ingest.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import polovinko.leontii.caloriescalculator.config.DiaryIngestProperties;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.exception.DiaryWriterUnavailableException;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.DiaryEntry;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryAcknowledgement;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryEntryWriter;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class DefaultDiaryEntryWriter implements DiaryEntryWriter {
+
+  private static final String INSERT_DAILY_CUT_SQL = "INSERT INTO daily_cuts " +
+      "(id, calories, proteins, fats, carbs, weight, cut_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_USER_PROGRESS_SQL = "INSERT INTO user_progress " +
+      "(id, user_id, daily_cut_id, cut_date, change_seq) VALUES (?, ?, ?, ?, ?)";
+  private static final String SELECT_EXISTING_DAILY_CUTS_SQL = "SELECT id FROM daily_cuts WHERE id IN (%s)";
+  private static final String WRITER_THREAD_NAME = "diary-writer";
+  private static final String LATENCY_TIMER = "diary.ingest.latency";
+  private static final String FLUSH_TIMER = "diary.ingest.flush";
+  private static final String BATCH_SIZE_SUMMARY = "diary.ingest.batch.size";
+  private static final String QUEUE_GAUGE = "diary.ingest.queue";
+  private static final String REJECTED_COUNTER = "diary.ingest.rejected";
+  private static final String QUEUE_FULL_MSG = "Diary writer queue of %d entries is full, retry later";
+  private static final String SHUT_DOWN_MSG = "Diary writer is shut down";
+  private static final String JOURNAL_ERROR_MSG = "Diary entries could not be written into the journal";
+  private static final String RECOVERY_ERROR_MSG = "Diary journal could not be replayed";
+  private static final String RECOVERED_MSG = "Replayed {} of {} journaled diary entries";
+  private static final String REJECTED_ENTRY_MSG = "Journaled diary entry {} of user {} was rejected by the database";
+  private static final String RETRY_MSG = "Diary batch of {} entries could not be written, retrying in {}";
+  private static final String JOURNAL_CLEAR_ERROR_MSG = "Diary journal could not be cleared";
+  private static final String JOURNAL_CLOSE_ERROR_MSG = "Diary journal could not be closed";
+  private static final String DRAINED_MSG = "Diary writer drained, {} entries left unwritten";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final NutritionRollupService nutritionRollupService;
+  private final DailyCutSyncService dailyCutSyncService;
+  private final DiaryIngestProperties properties;
+  private final BlockingQueue<PendingEntry> queue;
+  private final Thread writerThread;
+  private final Timer latency;
+  private final Timer flushes;
+  private final DistributionSummary batchSizes;
+  private final Counter rejected;
+  private DiaryJournal journal;
+  private volatile boolean accepting = true;
+  private volatile boolean running = true;
+
+  public DefaultDiaryEntryWriter(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 NutritionRollupService nutritionRollupService,
+                                 DailyCutSyncService dailyCutSyncService,
+                                 DiaryIngestProperties properties,
+                                 MeterRegistry meterRegistry) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.nutritionRollupService = nutritionRollupService;
+    this.dailyCutSyncService = dailyCutSyncService;
+    this.properties = properties;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    this.writerThread = new Thread(this::run, WRITER_THREAD_NAME);
+    this.writerThread.setDaemon(true);
+    this.latency = Timer.builder(LATENCY_TIMER).register(meterRegistry);
+    this.flushes = Timer.builder(FLUSH_TIMER).register(meterRegistry);
+    this.batchSizes = DistributionSummary.builder(BATCH_SIZE_SUMMARY).register(meterRegistry);
+    this.rejected = Counter.builder(REJECTED_COUNTER).register(meterRegistry);
+    Gauge.builder(QUEUE_GAUGE, queue, BlockingQueue::size).register(meterRegistry);
+  }
+
+  @Override
+  public CompletableFuture<DailyCut> submit(UUID userId, DailyCut dailyCut) {
+    if (!accepting) {
+      throw new DiaryWriterUnavailableException(SHUT_DOWN_MSG);
+    }
+    dailyCut.setId(Uuids.timeOrdered());
+    PendingEntry entry = new PendingEntry(new DiaryEntry(userId, dailyCut), System.nanoTime());
+    if (!queue.offer(entry)) {
+      rejected.increment();
+      throw new DiaryWriterUnavailableException(String.format(QUEUE_FULL_MSG, properties.getQueueCapacity()));
+    }
+    return entry.acknowledgement;
+  }
+
+  @Override
+  public int getQueuedEntries() {
+    return queue.size();
+  }
+
+  @PostConstruct
+  public void start() {
+    if (properties.getAcknowledgement() == DiaryAcknowledgement.JOURNAL) {
+      try {
+        journal = DiaryJournal.open(properties.getJournal());
+        replayJournal();
+      } catch (IOException | DataAccessException e) {
+        throw new CaloriesCalculatorServerException(RECOVERY_ERROR_MSG, e);
+      }
+    }
+    writerThread.start();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    accepting = false;
+    running = false;
+    try {
+      writerThread.join(properties.getShutdownTimeout().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (writerThread.isAlive()) {
+      log.warn(DRAINED_MSG, queue.size());
+      return;
+    }
+    PendingEntry entry;
+    while ((entry = queue.poll()) != null) {
+      entry.acknowledgement.completeExceptionally(new DiaryWriterUnavailableException(SHUT_DOWN_MSG));
+    }
+    closeJournal();
+  }
+
+  private void run() {
+    List<PendingEntry> batch = new ArrayList<>(properties.getBatchSize());
+    while (running || !queue.isEmpty()) {
+      try {
+        collect(batch);
+      } catch (InterruptedException e) {
+        running = false;
+      }
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void collect(List<PendingEntry> batch) throws InterruptedException {
+    long flushIntervalNanos = properties.getFlushInterval().toNanos();
+    PendingEntry first = running ? queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS) : queue.poll();
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + flushIntervalNanos;
+    while (batch.size() < properties.getBatchSize()) {
+      if (queue.drainTo(batch, properties.getBatchSize() - batch.size()) > 0) {
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !running) {
+        return;
+      }
+      PendingEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void flush(List<PendingEntry> batch) {
+    long startedAt = System.nanoTime();
+    List<DiaryEntry> entries = batch.stream().map(entry -> entry.entry).collect(Collectors.toList());
+    if (journal == null) {
+      writeAcknowledged(batch, entries);
+    } else {
+      writeJournaled(batch, entries);
+    }
+    batchSizes.record(batch.size());
+    flushes.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+
+  private void writeAcknowledged(List<PendingEntry> batch, List<DiaryEntry> entries) {
+    try {
+      writeBatch(entries);
+      batch.forEach(this::acknowledge);
+    } catch (DataIntegrityViolationException e) {
+      for (PendingEntry entry : batch) {
+        try {
+          writeBatch(Collections.singletonList(entry.entry));
+          acknowledge(entry);
+        } catch (DataAccessException entryException) {
+          entry.acknowledgement.completeExceptionally(entryException);
+        }
+      }
+    } catch (DataAccessException e) {
+      batch.forEach(entry -> entry.acknowledgement.completeExceptionally(e));
+    }
+  }
+
+  private void writeJournaled(List<PendingEntry> batch, List<DiaryEntry> entries) {
+    try {
+      journal.append(entries);
+    } catch (IOException e) {
+      CaloriesCalculatorServerException exception = new CaloriesCalculatorServerException(JOURNAL_ERROR_MSG, e);
+      batch.forEach(entry -> entry.acknowledgement.completeExceptionally(exception));
+      clearJournal();
+      return;
+    }
+    batch.forEach(this::acknowledge);
+    while (!writeJournaledBatch(entries)) {
+      log.warn(RETRY_MSG, entries.size(), properties.getRetryInterval());
+      try {
+        Thread.sleep(properties.getRetryInterval().toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    clearJournal();
+  }
+
+  private boolean writeJournaledBatch(List<DiaryEntry> entries) {
+    try {
+      writeBatch(entries);
+    } catch (DataIntegrityViolationException e) {
+      for (DiaryEntry entry : entries) {
+        try {
+          writeBatch(Collections.singletonList(entry));
+        } catch (DataIntegrityViolationException entryException) {
+          log.error(REJECTED_ENTRY_MSG, entry.getDailyCut().getId(), entry.getUserId(), entryException);
+        } catch (DataAccessException entryException) {
+          return false;
+        }
+      }
+    } catch (DataAccessException e) {
+      return false;
+    }
+    return true;
+  }
+
+  private void replayJournal() throws IOException {
+    List<DiaryEntry> journaled = journal.read();
+    if (journaled.isEmpty()) {
+      return;
+    }
+    int replayed = 0;
+    for (int from = 0; from < journaled.size(); from += properties.getBatchSize()) {
+      List<DiaryEntry> chunk = journaled.subList(from, Math.min(from + properties.getBatchSize(), journaled.size()));
+      Set<UUID> existing = findExistingDailyCuts(chunk);
+      List<DiaryEntry> missing = chunk.stream()
+          .filter(entry -> !existing.contains(entry.getDailyCut().getId()))
+          .collect(Collectors.toList());
+      if (!missing.isEmpty() && !writeJournaledBatch(missing)) {
+        throw new CaloriesCalculatorServerException(RECOVERY_ERROR_MSG);
+      }
+      replayed += missing.size();
+    }
+    journal.clear();
+    log.info(RECOVERED_MSG, replayed, journaled.size());
+  }
+
+  private Set<UUID> findExistingDailyCuts(List<DiaryEntry> entries) {
+    String placeholders = String.join(", ", Collections.nCopies(entries.size(), "?"));
+    String sql = String.format(SELECT_EXISTING_DAILY_CUTS_SQL, placeholders);
+    Object[] ids = entries.stream().map(entry -> Uuids.toBytes(entry.getDailyCut().getId())).toArray();
+    Set<UUID> existing = new HashSet<>();
+    jdbcTemplate.query(sql, resultSet -> {
+      existing.add(Uuids.fromBytes(resultSet.getBytes(1)));
+    }, ids);
+    return existing;
+  }
+
+  private void writeBatch(List<DiaryEntry> entries) {
+    transactionTemplate.executeWithoutResult(status -> {
+      long[] changeSeqs = allocateChangeSeqs(entries);
+      jdbcTemplate.batchUpdate(INSERT_DAILY_CUT_SQL, entries, entries.size(), (statement, entry) -> {
+        DailyCut dailyCut = entry.getDailyCut();
+        statement.setBytes(1, Uuids.toBytes(dailyCut.getId()));
+        statement.setBigDecimal(2, dailyCut.getCalories());
+        statement.setBigDecimal(3, dailyCut.getProteins());
+        statement.setBigDecimal(4, dailyCut.getFats());
+        statement.setBigDecimal(5, dailyCut.getCarbs());
+        statement.setBigDecimal(6, dailyCut.getWeight());
+        statement.setTimestamp(7, Timestamp.valueOf(dailyCut.getCutDate()));
+      });
+      jdbcTemplate.batchUpdate(INSERT_USER_PROGRESS_SQL, new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement statement, int index) throws SQLException {
+          DiaryEntry entry = entries.get(index);
+          statement.setBytes(1, Uuids.toBytes(Uuids.timeOrdered()));
+          statement.setBytes(2, Uuids.toBytes(entry.getUserId()));
+          statement.setBytes(3, Uuids.toBytes(entry.getDailyCut().getId()));
+          statement.setTimestamp(4, Timestamp.valueOf(entry.getDailyCut().getCutDate()));
+          statement.setLong(5, changeSeqs[index]);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return entries.size();
+        }
+      });
+      nutritionRollupService.recordCreated(entries);
+    });
+  }
+
+  private long[] allocateChangeSeqs(List<DiaryEntry> entries) {
+    Map<UUID, List<Integer>> positionsByUser = new TreeMap<>();
+    for (int index = 0; index < entries.size(); index++) {
+      positionsByUser.computeIfAbsent(entries.get(index).getUserId(), userId -> new ArrayList<>()).add(index);
+    }
+    long[] changeSeqs = new long[entries.size()];
+    positionsByUser.forEach((userId, positions) -> {
+      long changeSeq = dailyCutSyncService.allocateChangeSeq(userId, positions.size()) - positions.size();
+      for (int position : positions) {
+        changeSeqs[position] = ++changeSeq;
+      }
+    });
+    return changeSeqs;
+  }
+
+  private void acknowledge(PendingEntry entry) {
+    latency.record(System.nanoTime() - entry.submittedAt, TimeUnit.NANOSECONDS);
+    entry.acknowledgement.complete(entry.entry.getDailyCut());
+  }
+
+  private void clearJournal() {
+    try {
+      journal.clear();
+    } catch (IOException e) {
+      log.error(JOURNAL_CLEAR_ERROR_MSG, e);
+    }
+  }
+
+  private void closeJournal() {
+    if (journal != null) {
+      try {
+        journal.close();
+      } catch (IOException e) {
+        log.error(JOURNAL_CLOSE_ERROR_MSG, e);
+      }
+    }
+  }
+
+  private static class PendingEntry {
+
+    private final DiaryEntry entry;
+    private final long submittedAt;
+    private final CompletableFuture<DailyCut> acknowledgement = new CompletableFuture<>();
+
+    private PendingEntry(DiaryEntry entry, long submittedAt) {
+      this.entry = entry;
+      this.submittedAt = submittedAt;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package polovinko.leontii.caloriescalculator.services.progress.ingest.impl;
+
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.DiaryEntry;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+class DiaryJournal implements Closeable {
+
+  private static final int MAGIC = 0x44494152;
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+  private static final int MAX_RECORD_SIZE = 4096;
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+  private final DataOutputStream output = new DataOutputStream(buffer);
+  private final ByteArrayOutputStream record = new ByteArrayOutputStream(MAX_RECORD_SIZE);
+  private final DataOutputStream recordOutput = new DataOutputStream(record);
+  private final CRC32 checksum = new CRC32();
+
+  private DiaryJournal(FileChannel channel) {
+    this.channel = channel;
+  }
+
+  static DiaryJournal open(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    return new DiaryJournal(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE));
+  }
+
+  List<DiaryEntry> read() throws IOException {
+    List<DiaryEntry> entries = new ArrayList<>();
+    channel.position(0);
+    InputStream inputStream = new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_SIZE);
+    DataInputStream input = new DataInputStream(inputStream);
+    long validSize = 0;
+    byte[] payload;
+    while ((payload = readRecord(input)) != null) {
+      DiaryEntry entry = readEntry(payload);
+      if (entry == null) {
+        break;
+      }
+      entries.add(entry);
+      validSize += HEADER_SIZE + payload.length;
+    }
+    if (validSize < channel.size()) {
+      channel.truncate(validSize);
+      channel.force(false);
+    }
+    return entries;
+  }
+
+  void append(List<DiaryEntry> entries) throws IOException {
+    buffer.reset();
+    for (DiaryEntry entry : entries) {
+      writeEntry(entry);
+    }
+    ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+    channel.position(channel.size());
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+    channel.force(false);
+  }
+
+  void clear() throws IOException {
+    channel.truncate(0);
+    channel.force(false);
+  }
+
+  long size() throws IOException {
+    return channel.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private void writeEntry(DiaryEntry entry) throws IOException {
+    DailyCut dailyCut = entry.getDailyCut();
+    record.reset();
+    writeUuid(entry.getUserId());
+    writeUuid(dailyCut.getId());
+    recordOutput.writeLong(dailyCut.getCutDate().toEpochSecond(ZoneOffset.UTC));
+    recordOutput.writeInt(dailyCut.getCutDate().getNano());
+    recordOutput.writeUTF(dailyCut.getCalories().toString());
+    recordOutput.writeUTF(dailyCut.getProteins().toString());
+    recordOutput.writeUTF(dailyCut.getFats().toString());
+    recordOutput.writeUTF(dailyCut.getCarbs().toString());
+    recordOutput.writeUTF(dailyCut.getWeight().toString());
+    byte[] payload = record.toByteArray();
+    output.writeInt(MAGIC);
+    output.writeInt(payload.length);
+    output.writeInt(computeChecksum(payload));
+    output.write(payload);
+  }
+
+  private void writeUuid(UUID uuid) throws IOException {
+    recordOutput.writeLong(uuid.getMostSignificantBits());
+    recordOutput.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private byte[] readRecord(DataInputStream input) throws IOException {
+    try {
+      if (input.readInt() != MAGIC) {
+        return null;
+      }
+      int length = input.readInt();
+      int expectedChecksum = input.readInt();
+      if (length <= 0 || length > MAX_RECORD_SIZE) {
+        return null;
+      }
+      byte[] payload = new byte[length];
+      input.readFully(payload);
+      return computeChecksum(payload) == expectedChecksum ? payload : null;
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  private int computeChecksum(byte[] payload) {
+    checksum.reset();
+    checksum.update(payload);
+    return (int) checksum.getValue();
+  }
+
+  private static DiaryEntry readEntry(byte[] payload) {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+    try {
+      UUID userId = new UUID(input.readLong(), input.readLong());
+      UUID dailyCutId = new UUID(input.readLong(), input.readLong());
+      LocalDateTime cutDate = LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC);
+      BigDecimal calories = new BigDecimal(input.readUTF());
+      BigDecimal proteins = new BigDecimal(input.readUTF());
+      BigDecimal fats = new BigDecimal(input.readUTF());
+      BigDecimal carbs = new BigDecimal(input.readUTF());
+      BigDecimal weight = new BigDecimal(input.readUTF());
+      return new DiaryEntry(userId, new DailyCut(dailyCutId, calories, proteins, fats, carbs, weight, cutDate));
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+}
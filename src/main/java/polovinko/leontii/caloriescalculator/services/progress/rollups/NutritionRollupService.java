@@ -0,0 +1,21 @@
+package polovinko.leontii.caloriescalculator.services.progress.rollups;
+
+import polovinko.leontii.caloriescalculator.dto.NutritionRollup;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.DiaryEntry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface NutritionRollupService {
+
+  void recordChange(UUID userId, DailyCut previous, DailyCut current);
+
+  void recordCreated(List<DiaryEntry> entries);
+
+  NutritionRollup getRollup(UUID userId, LocalDate from, LocalDate to);
+
+  void checkpoint();
+
+  void rebuild();
+}
@@ -0,0 +1,271 @@
+package polovinko.leontii.caloriescalculator.services.progress.rollups.impl;
+
+import static polovinko.leontii.caloriescalculator.services.progress.rollups.impl.NutritionFenwickTree.*;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import polovinko.leontii.caloriescalculator.dto.NutritionRollup;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.DiaryEntry;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+@Slf4j
+@DependsOnDatabaseInitialization
+public class DefaultNutritionRollupService implements NutritionRollupService {
+
+  private static final String METRIC_COLUMNS = "entries, calories, proteins, fats, carbs, weight";
+  private static final String SELECT_ROLLUPS_SQL =
+      "SELECT user_id, cut_day, " + METRIC_COLUMNS + " FROM nutrition_rollups";
+  private static final String SELECT_DELTAS_SQL =
+      "SELECT seq, user_id, cut_day, " + METRIC_COLUMNS + " FROM nutrition_rollup_deltas ORDER BY seq";
+  private static final String SELECT_DELTA_PAGE_SQL =
+      "SELECT seq, user_id, cut_day, " + METRIC_COLUMNS + " FROM nutrition_rollup_deltas ORDER BY seq LIMIT ?";
+  private static final String INSERT_DELTA_SQL = "INSERT INTO nutrition_rollup_deltas (user_id, cut_day, " +
+      METRIC_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String UPSERT_ROLLUP_SQL = "INSERT INTO nutrition_rollups (user_id, cut_day, " +
+      METRIC_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE entries = entries + VALUES(entries), " +
+      "calories = calories + VALUES(calories), proteins = proteins + VALUES(proteins), fats = fats + VALUES(fats), " +
+      "carbs = carbs + VALUES(carbs), weight = weight + VALUES(weight)";
+  private static final String DELETE_DELTA_SQL = "DELETE FROM nutrition_rollup_deltas WHERE seq = ?";
+  private static final String DELETE_EMPTY_ROLLUPS_SQL = "DELETE FROM nutrition_rollups WHERE entries = 0";
+  private static final int NUTRITION_SCALE = 1;
+  private static final String REBUILT_MSG = "Rebuilt nutrition rollups for {} users from checkpoint and {} deltas in {} ms";
+  private static final String CHECKPOINT_MSG = "Checkpointed {} nutrition rollup deltas";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int checkpointBatchSize;
+  private volatile ConcurrentMap<UUID, NutritionFenwickTree> rollups = new ConcurrentHashMap<>();
+
+  public DefaultNutritionRollupService(DataSource dataSource,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${nutrition.rollup.checkpointBatchSize}") int checkpointBatchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.checkpointBatchSize = checkpointBatchSize;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordChange(UUID userId, DailyCut previous, DailyCut current) {
+    List<DayDelta> deltas = new ArrayList<>(2);
+    if (previous != null) {
+      deltas.add(DayDelta.of(userId, previous, -1));
+    }
+    if (current != null) {
+      deltas.add(DayDelta.of(userId, current, 1));
+    }
+    for (DayDelta delta : deltas) {
+      jdbcTemplate.update(INSERT_DELTA_SQL, statement -> delta.bind(statement, 1));
+    }
+    applyAfterCommit(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordCreated(List<DiaryEntry> entries) {
+    Map<DayKey, DayDelta> folded = new LinkedHashMap<>();
+    for (DiaryEntry entry : entries) {
+      DayDelta delta = DayDelta.of(entry.getUserId(), entry.getDailyCut(), 1);
+      folded.merge(delta.key, delta, DayDelta::plus);
+    }
+    List<DayDelta> deltas = new ArrayList<>(folded.values());
+    jdbcTemplate.batchUpdate(INSERT_DELTA_SQL, deltas, deltas.size(), (statement, delta) -> delta.bind(statement, 1));
+    applyAfterCommit(deltas);
+  }
+
+  @Override
+  public NutritionRollup getRollup(UUID userId, LocalDate from, LocalDate to) {
+    NutritionFenwickTree tree = rollups.get(userId);
+    long[] totals = tree == null ? new long[METRICS] : tree.sum(from.toEpochDay(), to.toEpochDay());
+    long entries = totals[ENTRIES];
+    return new NutritionRollup(from, to, entries,
+        fromTenths(totals[CALORIES]),
+        fromTenths(totals[PROTEINS]),
+        fromTenths(totals[FATS]),
+        fromTenths(totals[CARBS]),
+        average(totals[CALORIES], entries),
+        average(totals[PROTEINS], entries),
+        average(totals[FATS], entries),
+        average(totals[CARBS], entries),
+        average(totals[WEIGHT], entries));
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${nutrition.rollup.checkpointInterval}",
+      initialDelayString = "${nutrition.rollup.checkpointInterval}")
+  public void checkpoint() {
+    int folded;
+    do {
+      folded = transactionTemplate.execute(status -> foldDeltas());
+      if (folded > 0) {
+        log.debug(CHECKPOINT_MSG, folded);
+      }
+    } while (folded == checkpointBatchSize);
+  }
+
+  @Override
+  @PostConstruct
+  public synchronized void rebuild() {
+    long startedAt = System.currentTimeMillis();
+    ConcurrentMap<UUID, NutritionFenwickTree> rebuiltRollups = new ConcurrentHashMap<>();
+    jdbcTemplate.query(SELECT_ROLLUPS_SQL, resultSet -> {
+      apply(rebuiltRollups, DayDelta.read(resultSet, 1));
+    });
+    long[] tailSize = new long[1];
+    jdbcTemplate.query(SELECT_DELTAS_SQL, resultSet -> {
+      apply(rebuiltRollups, DayDelta.read(resultSet, 2));
+      tailSize[0]++;
+    });
+    rollups = rebuiltRollups;
+    log.debug(REBUILT_MSG, rebuiltRollups.size(), tailSize[0], System.currentTimeMillis() - startedAt);
+  }
+
+  private int foldDeltas() {
+    List<Long> sequences = new ArrayList<>();
+    Map<DayKey, DayDelta> folded = new LinkedHashMap<>();
+    jdbcTemplate.query(SELECT_DELTA_PAGE_SQL, resultSet -> {
+      sequences.add(resultSet.getLong(1));
+      DayDelta delta = DayDelta.read(resultSet, 2);
+      folded.merge(delta.key, delta, DayDelta::plus);
+    }, checkpointBatchSize);
+    if (sequences.isEmpty()) {
+      return 0;
+    }
+    List<DayDelta> rows = new ArrayList<>(folded.values());
+    jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rows, rows.size(), (statement, delta) -> delta.bind(statement, 1));
+    jdbcTemplate.batchUpdate(DELETE_DELTA_SQL, sequences, sequences.size(),
+        (statement, sequence) -> statement.setLong(1, sequence));
+    jdbcTemplate.update(DELETE_EMPTY_ROLLUPS_SQL);
+    return sequences.size();
+  }
+
+  private void applyAfterCommit(List<DayDelta> deltas) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deltas.forEach(delta -> apply(rollups, delta));
+      }
+    });
+  }
+
+  private static void apply(ConcurrentMap<UUID, NutritionFenwickTree> targetRollups, DayDelta delta) {
+    targetRollups.computeIfAbsent(delta.key.userId, userId -> new NutritionFenwickTree(delta.key.day))
+        .add(delta.key.day, delta.metrics);
+  }
+
+  private static long toTenths(BigDecimal value) {
+    return value.setScale(NUTRITION_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  private static BigDecimal fromTenths(long value) {
+    return BigDecimal.valueOf(value, NUTRITION_SCALE);
+  }
+
+  private static BigDecimal average(long total, long entries) {
+    return entries == 0 ? null : fromTenths(total).divide(BigDecimal.valueOf(entries), NUTRITION_SCALE,
+        RoundingMode.HALF_UP);
+  }
+
+  private static class DayKey {
+
+    private final UUID userId;
+    private final long day;
+
+    private DayKey(UUID userId, long day) {
+      this.userId = userId;
+      this.day = day;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof DayKey)) {
+        return false;
+      }
+      DayKey key = (DayKey) other;
+      return day == key.day && userId.equals(key.userId);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * userId.hashCode() + Long.hashCode(day);
+    }
+  }
+
+  private static class DayDelta {
+
+    private final DayKey key;
+    private final long[] metrics;
+
+    private DayDelta(DayKey key, long[] metrics) {
+      this.key = key;
+      this.metrics = metrics;
+    }
+
+    private static DayDelta of(UUID userId, DailyCut dailyCut, int sign) {
+      long[] metrics = new long[METRICS];
+      metrics[ENTRIES] = sign;
+      metrics[CALORIES] = sign * toTenths(dailyCut.getCalories());
+      metrics[PROTEINS] = sign * toTenths(dailyCut.getProteins());
+      metrics[FATS] = sign * toTenths(dailyCut.getFats());
+      metrics[CARBS] = sign * toTenths(dailyCut.getCarbs());
+      metrics[WEIGHT] = sign * toTenths(dailyCut.getWeight());
+      return new DayDelta(new DayKey(userId, dailyCut.getCutDate().toLocalDate().toEpochDay()), metrics);
+    }
+
+    private static DayDelta read(ResultSet resultSet, int firstColumn) throws SQLException {
+      long[] metrics = new long[METRICS];
+      metrics[ENTRIES] = resultSet.getLong(firstColumn + 2);
+      for (int metric = CALORIES; metric < METRICS; metric++) {
+        metrics[metric] = toTenths(resultSet.getBigDecimal(firstColumn + 2 + metric));
+      }
+      UUID userId = Uuids.fromBytes(resultSet.getBytes(firstColumn));
+      return new DayDelta(new DayKey(userId, resultSet.getDate(firstColumn + 1).toLocalDate().toEpochDay()), metrics);
+    }
+
+    private DayDelta plus(DayDelta other) {
+      long[] sum = new long[METRICS];
+      for (int metric = 0; metric < METRICS; metric++) {
+        sum[metric] = metrics[metric] + other.metrics[metric];
+      }
+      return new DayDelta(key, sum);
+    }
+
+    private void bind(PreparedStatement statement, int firstParameter) throws SQLException {
+      statement.setBytes(firstParameter, Uuids.toBytes(key.userId));
+      statement.setDate(firstParameter + 1, Date.valueOf(LocalDate.ofEpochDay(key.day)));
+      statement.setLong(firstParameter + 2, metrics[ENTRIES]);
+      for (int metric = CALORIES; metric < METRICS; metric++) {
+        statement.setBigDecimal(firstParameter + 2 + metric, fromTenths(metrics[metric]));
+      }
+    }
+  }
+}
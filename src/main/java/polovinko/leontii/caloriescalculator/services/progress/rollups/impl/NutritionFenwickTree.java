@@ -0,0 +1,116 @@
+package polovinko.leontii.caloriescalculator.services.progress.rollups.impl;
+
+class NutritionFenwickTree {
+
+  static final int ENTRIES = 0;
+  static final int CALORIES = 1;
+  static final int PROTEINS = 2;
+  static final int FATS = 3;
+  static final int CARBS = 4;
+  static final int WEIGHT = 5;
+  static final int METRICS = 6;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long baseDay;
+  private long lastDay;
+  private int capacity;
+  private long[] tree;
+
+  NutritionFenwickTree(long firstDay) {
+    this.baseDay = firstDay;
+    this.lastDay = firstDay;
+    this.capacity = INITIAL_CAPACITY;
+    this.tree = new long[(INITIAL_CAPACITY + 1) * METRICS];
+  }
+
+  synchronized void add(long day, long[] delta) {
+    ensureCapacity(day);
+    lastDay = Math.max(lastDay, day);
+    for (int index = (int) (day - baseDay) + 1; index <= capacity; index += index & -index) {
+      int offset = index * METRICS;
+      for (int metric = 0; metric < METRICS; metric++) {
+        tree[offset + metric] += delta[metric];
+      }
+    }
+  }
+
+  synchronized long[] sum(long fromDay, long toDay) {
+    long[] result = new long[METRICS];
+    accumulatePrefix(toDay, result, 1);
+    accumulatePrefix(fromDay - 1, result, -1);
+    return result;
+  }
+
+  private void accumulatePrefix(long day, long[] result, int sign) {
+    if (day < baseDay) {
+      return;
+    }
+    for (int index = (int) Math.min(day - baseDay + 1, capacity); index > 0; index -= index & -index) {
+      int offset = index * METRICS;
+      for (int metric = 0; metric < METRICS; metric++) {
+        result[metric] += sign * tree[offset + metric];
+      }
+    }
+  }
+
+  private void ensureCapacity(long day) {
+    if (day < baseDay) {
+      rebase(Math.min(day, baseDay - capacity));
+    }
+    while (day - baseDay >= capacity) {
+      grow();
+    }
+  }
+
+  private void grow() {
+    long[] grown = new long[(capacity * 2 + 1) * METRICS];
+    System.arraycopy(tree, 0, grown, 0, tree.length);
+    long[] total = new long[METRICS];
+    accumulatePrefix(baseDay + capacity - 1, total, 1);
+    System.arraycopy(total, 0, grown, capacity * 2 * METRICS, METRICS);
+    capacity *= 2;
+    tree = grown;
+  }
+
+  private void rebase(long newBaseDay) {
+    int shift = Math.toIntExact(baseDay - newBaseDay);
+    int usedDays = (int) (lastDay - baseDay) + 1;
+    int newCapacity = capacity;
+    while (newCapacity < usedDays + shift) {
+      newCapacity *= 2;
+    }
+    toPointValues(tree, capacity);
+    long[] rebased = new long[(newCapacity + 1) * METRICS];
+    System.arraycopy(tree, METRICS, rebased, (shift + 1) * METRICS, usedDays * METRICS);
+    toTree(rebased, newCapacity);
+    baseDay = newBaseDay;
+    capacity = newCapacity;
+    tree = rebased;
+  }
+
+  private static void toTree(long[] values, int capacity) {
+    for (int index = 1; index <= capacity; index++) {
+      int parent = index + (index & -index);
+      if (parent <= capacity) {
+        addNode(values, parent, index, 1);
+      }
+    }
+  }
+
+  private static void toPointValues(long[] values, int capacity) {
+    for (int index = capacity; index > 0; index--) {
+      int parent = index + (index & -index);
+      if (parent <= capacity) {
+        addNode(values, parent, index, -1);
+      }
+    }
+  }
+
+  private static void addNode(long[] values, int target, int source, int sign) {
+    int targetOffset = target * METRICS;
+    int sourceOffset = source * METRICS;
+    for (int metric = 0; metric < METRICS; metric++) {
+      values[targetOffset + metric] += sign * values[sourceOffset + metric];
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package polovinko.leontii.caloriescalculator.services.progress.sync;
+
+import polovinko.leontii.caloriescalculator.dto.DailyCutSyncPage;
+import java.util.UUID;
+
+public interface DailyCutSyncService {
+
+  long allocateChangeSeq(UUID userId, int count);
+
+  void recordDeletion(UUID userId, UUID dailyCutId);
+
+  DailyCutSyncPage getChanges(UUID userId, long cursor, int limit);
+}
@@ -0,0 +1,101 @@
+package polovinko.leontii.caloriescalculator.services.progress.sync.impl;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import polovinko.leontii.caloriescalculator.dto.DailyCutSyncPage;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@AllArgsConstructor
+public class DefaultDailyCutSyncService implements DailyCutSyncService {
+
+  private static final String UPSERT_SEQUENCE_SQL = "INSERT INTO user_change_sequences (user_id, change_seq) " +
+      "VALUES (?, ?) ON DUPLICATE KEY UPDATE change_seq = change_seq + VALUES(change_seq)";
+  private static final String SELECT_SEQUENCE_SQL = "SELECT change_seq FROM user_change_sequences WHERE user_id = ?";
+  private static final String INSERT_TOMBSTONE_SQL = "INSERT INTO daily_cut_tombstones " +
+      "(daily_cut_id, user_id, change_seq) VALUES (?, ?, ?)";
+  private static final String SELECT_CHANGED_SQL = "SELECT up.change_seq, dc.id, dc.calories, dc.proteins, " +
+      "dc.fats, dc.carbs, dc.weight, dc.cut_date FROM user_progress up JOIN daily_cuts dc ON dc.id = up.daily_cut_id " +
+      "WHERE up.user_id = ? AND up.change_seq > ? ORDER BY up.change_seq LIMIT ?";
+  private static final String SELECT_DELETED_SQL = "SELECT change_seq, daily_cut_id FROM daily_cut_tombstones " +
+      "WHERE user_id = ? AND change_seq > ? ORDER BY change_seq LIMIT ?";
+  private static final RowMapper<Change> CHANGED_ROW_MAPPER = (resultSet, rowNumber) -> new Change(
+      resultSet.getLong(1),
+      new DailyCut(
+          Uuids.fromBytes(resultSet.getBytes(2)),
+          resultSet.getBigDecimal(3),
+          resultSet.getBigDecimal(4),
+          resultSet.getBigDecimal(5),
+          resultSet.getBigDecimal(6),
+          resultSet.getBigDecimal(7),
+          resultSet.getObject(8, LocalDateTime.class)),
+      null);
+  private static final RowMapper<Change> DELETED_ROW_MAPPER = (resultSet, rowNumber) -> new Change(
+      resultSet.getLong(1), null, Uuids.fromBytes(resultSet.getBytes(2)));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public long allocateChangeSeq(UUID userId, int count) {
+    byte[] user = Uuids.toBytes(userId);
+    jdbcTemplate.update(UPSERT_SEQUENCE_SQL, user, count);
+    return jdbcTemplate.queryForObject(SELECT_SEQUENCE_SQL, Long.class, (Object) user);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDeletion(UUID userId, UUID dailyCutId) {
+    long changeSeq = allocateChangeSeq(userId, 1);
+    jdbcTemplate.update(INSERT_TOMBSTONE_SQL, Uuids.toBytes(dailyCutId), Uuids.toBytes(userId), changeSeq);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public DailyCutSyncPage getChanges(UUID userId, long cursor, int limit) {
+    byte[] user = Uuids.toBytes(userId);
+    List<Change> changed = jdbcTemplate.query(SELECT_CHANGED_SQL, CHANGED_ROW_MAPPER, user, cursor, limit + 1);
+    List<Change> deleted = jdbcTemplate.query(SELECT_DELETED_SQL, DELETED_ROW_MAPPER, user, cursor, limit + 1);
+    List<DailyCut> changedPage = new ArrayList<>();
+    List<UUID> deletedPage = new ArrayList<>();
+    long nextCursor = cursor;
+    int changedIndex = 0;
+    int deletedIndex = 0;
+    while (changedIndex + deletedIndex < limit && (changedIndex < changed.size() || deletedIndex < deleted.size())) {
+      boolean takeChanged = deletedIndex == deleted.size() || (changedIndex < changed.size()
+          && changed.get(changedIndex).changeSeq < deleted.get(deletedIndex).changeSeq);
+      Change change = takeChanged ? changed.get(changedIndex++) : deleted.get(deletedIndex++);
+      if (takeChanged) {
+        changedPage.add(change.dailyCut);
+      } else {
+        deletedPage.add(change.deletedId);
+      }
+      nextCursor = change.changeSeq;
+    }
+    boolean hasMore = changedIndex < changed.size() || deletedIndex < deleted.size();
+    return new DailyCutSyncPage(changedPage, deletedPage, nextCursor, hasMore);
+  }
+
+  private static class Change {
+
+    private final long changeSeq;
+    private final DailyCut dailyCut;
+    private final UUID deletedId;
+
+    private Change(long changeSeq, DailyCut dailyCut, UUID deletedId) {
+      this.changeSeq = changeSeq;
+      this.dailyCut = dailyCut;
+      this.deletedId = deletedId;
+    }
+  }
+}
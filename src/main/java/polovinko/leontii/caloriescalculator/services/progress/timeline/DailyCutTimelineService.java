@@ -0,0 +1,9 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline;
+
+import polovinko.leontii.caloriescalculator.dto.DailyCutTimelinePage;
+import java.util.UUID;
+
+public interface DailyCutTimelineService {
+
+  DailyCutTimelinePage getTimeline(UUID userId, String cursor, TimelineDirection direction, int limit);
+}
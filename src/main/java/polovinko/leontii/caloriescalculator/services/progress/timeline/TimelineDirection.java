@@ -0,0 +1,7 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline;
+
+public enum TimelineDirection {
+
+  OLDER,
+  NEWER
+}
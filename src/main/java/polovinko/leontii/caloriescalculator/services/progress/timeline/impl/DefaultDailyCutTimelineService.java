@@ -0,0 +1,87 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline.impl;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import polovinko.leontii.caloriescalculator.dto.DailyCutTimelinePage;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.DailyCutTimelineService;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.TimelineDirection;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@AllArgsConstructor
+public class DefaultDailyCutTimelineService implements DailyCutTimelineService {
+
+  private static final String SELECT_TIMELINE_SQL = "SELECT dc.id, dc.calories, dc.proteins, dc.fats, dc.carbs, " +
+      "dc.weight, dc.cut_date FROM user_progress up JOIN daily_cuts dc ON dc.id = up.daily_cut_id " +
+      "WHERE up.user_id = ?";
+  static final String SELECT_LATEST_SQL = SELECT_TIMELINE_SQL +
+      " ORDER BY up.user_id DESC, up.cut_date DESC, up.daily_cut_id DESC LIMIT ?";
+  static final String SELECT_OLDER_SQL = SELECT_TIMELINE_SQL +
+      " AND up.cut_date <= ? AND (up.cut_date < ? OR up.daily_cut_id < ?)" +
+      " ORDER BY up.user_id DESC, up.cut_date DESC, up.daily_cut_id DESC LIMIT ?";
+  static final String SELECT_NEWER_SQL = SELECT_TIMELINE_SQL +
+      " AND up.cut_date >= ? AND (up.cut_date > ? OR up.daily_cut_id > ?)" +
+      " ORDER BY up.user_id, up.cut_date, up.daily_cut_id LIMIT ?";
+  private static final RowMapper<DailyCut> DAILY_CUT_ROW_MAPPER = (resultSet, rowNumber) -> new DailyCut(
+      Uuids.fromBytes(resultSet.getBytes(1)),
+      resultSet.getBigDecimal(2),
+      resultSet.getBigDecimal(3),
+      resultSet.getBigDecimal(4),
+      resultSet.getBigDecimal(5),
+      resultSet.getBigDecimal(6),
+      resultSet.getObject(7, LocalDateTime.class));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional(readOnly = true)
+  public DailyCutTimelinePage getTimeline(UUID userId, String cursor, TimelineDirection direction, int limit) {
+    byte[] user = Uuids.toBytes(userId);
+    if (cursor == null) {
+      List<DailyCut> dailyCuts = jdbcTemplate.query(SELECT_LATEST_SQL, DAILY_CUT_ROW_MAPPER, user,
+          limit + 1);
+      List<DailyCut> page = trim(dailyCuts, limit);
+      return new DailyCutTimelinePage(page, page.size() < dailyCuts.size() ? toCursor(last(page)) : null, null);
+    }
+    TimelineCursor timelineCursor = TimelineCursor.decode(cursor);
+    Timestamp cutDate = Timestamp.valueOf(timelineCursor.getCutDate());
+    byte[] dailyCutId = Uuids.toBytes(timelineCursor.getDailyCutId());
+    if (direction == TimelineDirection.NEWER) {
+      List<DailyCut> dailyCuts = jdbcTemplate.query(SELECT_NEWER_SQL, DAILY_CUT_ROW_MAPPER, user,
+          cutDate, cutDate, dailyCutId, limit + 1);
+      List<DailyCut> page = trim(dailyCuts, limit);
+      String newerCursor = page.size() < dailyCuts.size() ? toCursor(last(page)) : null;
+      String olderCursor = page.isEmpty() ? cursor : toCursor(page.get(0));
+      Collections.reverse(page);
+      return new DailyCutTimelinePage(page, olderCursor, newerCursor);
+    }
+    List<DailyCut> dailyCuts = jdbcTemplate.query(SELECT_OLDER_SQL, DAILY_CUT_ROW_MAPPER, user,
+        cutDate, cutDate, dailyCutId, limit + 1);
+    List<DailyCut> page = trim(dailyCuts, limit);
+    String olderCursor = page.size() < dailyCuts.size() ? toCursor(last(page)) : null;
+    String newerCursor = page.isEmpty() ? cursor : toCursor(page.get(0));
+    return new DailyCutTimelinePage(page, olderCursor, newerCursor);
+  }
+
+  private static List<DailyCut> trim(List<DailyCut> dailyCuts, int limit) {
+    return dailyCuts.size() > limit ? new ArrayList<>(dailyCuts.subList(0, limit)) : dailyCuts;
+  }
+
+  private static DailyCut last(List<DailyCut> dailyCuts) {
+    return dailyCuts.get(dailyCuts.size() - 1);
+  }
+
+  private static String toCursor(DailyCut dailyCut) {
+    return new TimelineCursor(dailyCut.getCutDate(), dailyCut.getId()).encode();
+  }
+}
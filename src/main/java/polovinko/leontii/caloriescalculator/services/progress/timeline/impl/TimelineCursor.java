@@ -0,0 +1,44 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import polovinko.leontii.caloriescalculator.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+class TimelineCursor {
+
+  private static final char SEPARATOR = '|';
+  private static final String INVALID_CURSOR_MSG = "Timeline cursor is not valid";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final LocalDateTime cutDate;
+  private final UUID dailyCutId;
+
+  String encode() {
+    String value = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(cutDate) + SEPARATOR + dailyCutId;
+    return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static TimelineCursor decode(String cursor) {
+    try {
+      String value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+      int separator = value.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidCursorException(INVALID_CURSOR_MSG);
+      }
+      return new TimelineCursor(
+          LocalDateTime.parse(value.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+          UUID.fromString(value.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidCursorException(INVALID_CURSOR_MSG);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package polovinko.leontii.caloriescalculator.utils;
+
+import lombok.AllArgsConstructor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class CoarseClock {
+
+  public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+  private static volatile Tick currentTick = createTick(currentEpochSecond());
+
+  public static LocalDateTime now() {
+    return getTick(currentEpochSecond()).time;
+  }
+
+  public static void writeFormatted(OutputStream outputStream, LocalDateTime time) throws IOException {
+    Tick tick = currentTick;
+    if (tick.time.equals(time)) {
+      outputStream.write(tick.formatted);
+    } else {
+      outputStream.write(TIMESTAMP_FORMATTER.format(time).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static Tick getTick(long epochSecond) {
+    Tick tick = currentTick;
+    if (tick.epochSecond != epochSecond) {
+      tick = createTick(epochSecond);
+      currentTick = tick;
+    }
+    return tick;
+  }
+
+  private static long currentEpochSecond() {
+    return System.currentTimeMillis() / 1000;
+  }
+
+  private static Tick createTick(long epochSecond) {
+    LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    return new Tick(epochSecond, time, TIMESTAMP_FORMATTER.format(time).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @AllArgsConstructor
+  private static class Tick {
+
+    private final long epochSecond;
+    private final LocalDateTime time;
+    private final byte[] formatted;
+  }
+}
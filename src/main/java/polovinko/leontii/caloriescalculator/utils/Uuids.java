@@ -0,0 +1,56 @@
+package polovinko.leontii.caloriescalculator.utils;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Uuids {
+
+  public static final int BYTES = 16;
+
+  private static final int COUNTER_BITS = 12;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3fffffffffffffffL;
+  private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+  private static final String INVALID_LENGTH_MSG = "UUID must be stored in exactly 16 bytes, got %d";
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+  public static UUID timeOrdered() {
+    long timestamp = nextTimestamp(System.currentTimeMillis());
+    long mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16 | VERSION_7 |
+        (timestamp & ((1L << COUNTER_BITS) - 1));
+    long leastSignificantBits = RANDOM.nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  public static byte[] toBytes(UUID uuid) {
+    return ByteBuffer.allocate(BYTES)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  public static UUID fromBytes(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    if (bytes.length != BYTES) {
+      throw new IllegalArgumentException(String.format(INVALID_LENGTH_MSG, bytes.length));
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  private static long nextTimestamp(long currentMillis) {
+    long candidate = currentMillis << COUNTER_BITS;
+    while (true) {
+      long last = LAST_TIMESTAMP.get();
+      long next = Math.max(candidate, last + 1);
+      if (LAST_TIMESTAMP.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS calories_calculator.revoked_tokens
+(
+    token_id    VARCHAR(36)     NOT NULL,
+    expires_at  TIMESTAMP       NOT NULL
+);
+ALTER TABLE calories_calculator.revoked_tokens ADD CONSTRAINT revoked_tokens_pkey PRIMARY KEY (token_id);
+CREATE INDEX idx_revoked_tokens_expires_at ON calories_calculator.revoked_tokens (expires_at);
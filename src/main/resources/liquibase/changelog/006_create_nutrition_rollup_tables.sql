@@ -0,0 +1,33 @@
+CREATE TABLE IF NOT EXISTS calories_calculator.nutrition_rollups
+(
+    user_id     VARCHAR(255)    NOT NULL,
+    cut_day     DATE            NOT NULL,
+    entries     INT             NOT NULL,
+    calories    DECIMAL(14,1)   NOT NULL,
+    proteins    DECIMAL(14,1)   NOT NULL,
+    fats        DECIMAL(14,1)   NOT NULL,
+    carbs       DECIMAL(14,1)   NOT NULL,
+    weight      DECIMAL(14,1)   NOT NULL
+);
+ALTER TABLE calories_calculator.nutrition_rollups ADD CONSTRAINT nutrition_rollups_pkey PRIMARY KEY (user_id, cut_day);
+
+CREATE TABLE IF NOT EXISTS calories_calculator.nutrition_rollup_deltas
+(
+    seq         BIGINT          NOT NULL AUTO_INCREMENT,
+    user_id     VARCHAR(255)    NOT NULL,
+    cut_day     DATE            NOT NULL,
+    entries     INT             NOT NULL,
+    calories    DECIMAL(14,1)   NOT NULL,
+    proteins    DECIMAL(14,1)   NOT NULL,
+    fats        DECIMAL(14,1)   NOT NULL,
+    carbs       DECIMAL(14,1)   NOT NULL,
+    weight      DECIMAL(14,1)   NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+INSERT INTO calories_calculator.nutrition_rollups (user_id, cut_day, entries, calories, proteins, fats, carbs, weight)
+SELECT up.user_id, DATE(dc.cut_date), COUNT(*), SUM(dc.calories), SUM(dc.proteins), SUM(dc.fats), SUM(dc.carbs),
+       SUM(dc.weight)
+FROM calories_calculator.daily_cuts dc
+JOIN calories_calculator.user_progress up ON up.daily_cut_id = dc.id
+GROUP BY up.user_id, DATE(dc.cut_date);
@@ -0,0 +1,11 @@
+ALTER TABLE calories_calculator.user_progress
+ADD COLUMN cut_date TIMESTAMP NULL;
+
+UPDATE calories_calculator.user_progress up
+JOIN calories_calculator.daily_cuts dc ON dc.id = up.daily_cut_id
+SET up.cut_date = dc.cut_date;
+
+ALTER TABLE calories_calculator.user_progress
+MODIFY cut_date TIMESTAMP NOT NULL;
+
+CREATE INDEX idx_user_progress_timeline ON calories_calculator.user_progress (user_id, cut_date, daily_cut_id);
@@ -0,0 +1,50 @@
+ALTER TABLE calories_calculator.user_progress DROP FOREIGN KEY fk_user_id;
+ALTER TABLE calories_calculator.user_progress DROP FOREIGN KEY fk_daily_cut_id;
+DROP INDEX idx_user_progress_timeline ON calories_calculator.user_progress;
+
+ALTER TABLE calories_calculator.users ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE calories_calculator.users SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE calories_calculator.users DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE calories_calculator.users CHANGE id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+ALTER TABLE calories_calculator.products ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE calories_calculator.products SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE calories_calculator.products DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE calories_calculator.products CHANGE id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+ALTER TABLE calories_calculator.daily_cuts ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE calories_calculator.daily_cuts SET id_bin = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE calories_calculator.daily_cuts DROP PRIMARY KEY, DROP COLUMN id;
+ALTER TABLE calories_calculator.daily_cuts CHANGE id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+ALTER TABLE calories_calculator.user_progress
+    ADD COLUMN id_bin BINARY(16) NULL,
+    ADD COLUMN user_id_bin BINARY(16) NULL,
+    ADD COLUMN daily_cut_id_bin BINARY(16) NULL;
+UPDATE calories_calculator.user_progress
+SET id_bin = UNHEX(REPLACE(id, '-', '')),
+    user_id_bin = UNHEX(REPLACE(user_id, '-', '')),
+    daily_cut_id_bin = UNHEX(REPLACE(daily_cut_id, '-', ''));
+ALTER TABLE calories_calculator.user_progress DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN user_id,
+    DROP COLUMN daily_cut_id;
+ALTER TABLE calories_calculator.user_progress
+    CHANGE id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE user_id_bin user_id BINARY(16) NOT NULL AFTER id,
+    CHANGE daily_cut_id_bin daily_cut_id BINARY(16) NOT NULL AFTER user_id,
+    ADD PRIMARY KEY (id);
+ALTER TABLE calories_calculator.user_progress ADD CONSTRAINT fk_user_id FOREIGN KEY (user_id)
+    REFERENCES calories_calculator.users(id) ON DELETE CASCADE;
+ALTER TABLE calories_calculator.user_progress ADD CONSTRAINT fk_daily_cut_id FOREIGN KEY (daily_cut_id)
+    REFERENCES calories_calculator.daily_cuts(id) ON DELETE CASCADE;
+CREATE INDEX idx_user_progress_timeline ON calories_calculator.user_progress (user_id, cut_date, daily_cut_id);
+
+ALTER TABLE calories_calculator.nutrition_rollups ADD COLUMN user_id_bin BINARY(16) NULL;
+UPDATE calories_calculator.nutrition_rollups SET user_id_bin = UNHEX(REPLACE(user_id, '-', ''));
+ALTER TABLE calories_calculator.nutrition_rollups DROP PRIMARY KEY, DROP COLUMN user_id;
+ALTER TABLE calories_calculator.nutrition_rollups CHANGE user_id_bin user_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (user_id, cut_day);
+
+ALTER TABLE calories_calculator.nutrition_rollup_deltas ADD COLUMN user_id_bin BINARY(16) NULL;
+UPDATE calories_calculator.nutrition_rollup_deltas SET user_id_bin = UNHEX(REPLACE(user_id, '-', ''));
+ALTER TABLE calories_calculator.nutrition_rollup_deltas DROP COLUMN user_id;
+ALTER TABLE calories_calculator.nutrition_rollup_deltas CHANGE user_id_bin user_id BINARY(16) NOT NULL AFTER seq;
@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX idx_users_email ON calories_calculator.users (email);
+CREATE INDEX idx_user_progress_daily_cut_id ON calories_calculator.user_progress (daily_cut_id);
@@ -0,0 +1,49 @@
+ALTER TABLE calories_calculator.user_progress
+ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE TEMPORARY TABLE calories_calculator.user_progress_change_seqs
+(
+    seq     BIGINT      NOT NULL AUTO_INCREMENT,
+    id      BINARY(16)  NOT NULL,
+    PRIMARY KEY (seq),
+    UNIQUE KEY (id)
+);
+
+INSERT INTO calories_calculator.user_progress_change_seqs (id)
+SELECT id FROM calories_calculator.user_progress
+ORDER BY user_id, cut_date, daily_cut_id;
+
+UPDATE calories_calculator.user_progress up
+JOIN calories_calculator.user_progress_change_seqs numbered ON numbered.id = up.id
+SET up.change_seq = numbered.seq;
+
+DROP TEMPORARY TABLE calories_calculator.user_progress_change_seqs;
+
+ALTER TABLE calories_calculator.user_progress
+ALTER COLUMN change_seq DROP DEFAULT;
+
+CREATE INDEX idx_user_progress_changes ON calories_calculator.user_progress (user_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS calories_calculator.user_change_sequences
+(
+    user_id     BINARY(16)  NOT NULL,
+    change_seq  BIGINT      NOT NULL,
+    PRIMARY KEY (user_id)
+);
+ALTER TABLE calories_calculator.user_change_sequences ADD CONSTRAINT fk_change_sequences_user_id
+FOREIGN KEY (user_id) REFERENCES calories_calculator.users(id) ON DELETE CASCADE;
+
+INSERT INTO calories_calculator.user_change_sequences (user_id, change_seq)
+SELECT user_id, MAX(change_seq) FROM calories_calculator.user_progress GROUP BY user_id;
+
+CREATE TABLE IF NOT EXISTS calories_calculator.daily_cut_tombstones
+(
+    daily_cut_id    BINARY(16)  NOT NULL,
+    user_id         BINARY(16)  NOT NULL,
+    change_seq      BIGINT      NOT NULL,
+    PRIMARY KEY (daily_cut_id)
+);
+ALTER TABLE calories_calculator.daily_cut_tombstones ADD CONSTRAINT fk_tombstones_user_id
+FOREIGN KEY (user_id) REFERENCES calories_calculator.users(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_daily_cut_tombstones_changes ON calories_calculator.daily_cut_tombstones (user_id, change_seq);
@@ -0,0 +1,56 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import polovinko.leontii.caloriescalculator.dao.RevokedTokenRepository;
+import polovinko.leontii.caloriescalculator.helpers.JwtCodecGenerator;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.cache.impl.DefaultJwtPrincipalCache;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.impl.DefaultJwtService;
+import polovinko.leontii.caloriescalculator.services.jwt.impl.OpaqueJwtService;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.impl.DefaultOpaqueTokenStore;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.impl.DefaultJwtRevocationService;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+
+class BenchmarkFixtures {
+
+  static final String REQUEST_URI = "/api/user";
+
+  static JwtCodec createJwtCodec() {
+    return JwtCodecGenerator.createJwtCodec(SECRET_KEY);
+  }
+
+  static User createUser() {
+    return UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+  }
+
+  static JwtRevocationService createRevocationService() {
+    return new DefaultJwtRevocationService(Mockito.mock(RevokedTokenRepository.class), 100_000, 0.01);
+  }
+
+  static DefaultJwtService createJwtService(JwtCodec jwtCodec, JwtRevocationService revocationService) {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    return new DefaultJwtService(TOKEN_VALIDITY, TOKEN_VALIDITY, null, principalCache, jwtCodec, revocationService);
+  }
+
+  static OpaqueJwtService createOpaqueJwtService() {
+    DefaultOpaqueTokenStore tokenStore = new DefaultOpaqueTokenStore(new SimpleMeterRegistry());
+    return new OpaqueJwtService(TOKEN_VALIDITY, TOKEN_VALIDITY, null, tokenStore);
+  }
+
+  static MockHttpServletRequest createRequest(String jwt) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", REQUEST_URI);
+    if (jwt != null) {
+      request.addHeader(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + jwt);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,41 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+
+class BulkWriteHttpServletResponse extends MockHttpServletResponse {
+
+  private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+  private final ServletOutputStream outputStream = new ServletOutputStream() {
+
+    @Override
+    public void write(int b) {
+      body.write(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      body.write(bytes, offset, length);
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+    }
+  };
+
+  @Override
+  public ServletOutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  int getBodySize() {
+    return body.size();
+  }
+}
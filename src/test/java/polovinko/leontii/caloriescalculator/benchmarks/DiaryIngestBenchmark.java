@@ -0,0 +1,175 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import polovinko.leontii.caloriescalculator.config.DiaryIngestProperties;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryAcknowledgement;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.impl.DefaultDiaryEntryWriter;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.impl.DefaultNutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.impl.DefaultDailyCutSyncService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class DiaryIngestBenchmark {
+
+  private static final int ENTRIES_PER_INVOCATION = 100;
+  private static final int USERS = 1000;
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 12, 8, 30);
+  private static final String[] CREATE_TABLES_SQL = {
+      "CREATE TABLE daily_cuts (id BINARY(16) PRIMARY KEY, calories DECIMAL(6,1) NOT NULL, " +
+          "proteins DECIMAL(5,1) NOT NULL, fats DECIMAL(5,1) NOT NULL, carbs DECIMAL(5,1) NOT NULL, " +
+          "weight DECIMAL(4,1) NOT NULL, cut_date TIMESTAMP NOT NULL)",
+      "CREATE TABLE user_progress (id BINARY(16) PRIMARY KEY, user_id BINARY(16) NOT NULL, " +
+          "daily_cut_id BINARY(16) NOT NULL, cut_date TIMESTAMP NOT NULL, change_seq BIGINT NOT NULL)",
+      "CREATE INDEX idx_user_progress_timeline ON user_progress (user_id, cut_date, daily_cut_id)",
+      "CREATE INDEX idx_user_progress_changes ON user_progress (user_id, change_seq)",
+      "CREATE TABLE user_change_sequences (user_id BINARY(16) PRIMARY KEY, change_seq BIGINT NOT NULL)",
+      "CREATE TABLE nutrition_rollups (user_id BINARY(16) NOT NULL, cut_day DATE NOT NULL, entries INT NOT NULL, " +
+          "calories DECIMAL(14,1) NOT NULL, proteins DECIMAL(14,1) NOT NULL, fats DECIMAL(14,1) NOT NULL, " +
+          "carbs DECIMAL(14,1) NOT NULL, weight DECIMAL(14,1) NOT NULL, PRIMARY KEY (user_id, cut_day))",
+      "CREATE TABLE nutrition_rollup_deltas (seq BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BINARY(16) NOT NULL, " +
+          "cut_day DATE NOT NULL, entries INT NOT NULL, calories DECIMAL(14,1) NOT NULL, " +
+          "proteins DECIMAL(14,1) NOT NULL, fats DECIMAL(14,1) NOT NULL, carbs DECIMAL(14,1) NOT NULL, " +
+          "weight DECIMAL(14,1) NOT NULL)"
+  };
+  private static final String INSERT_DAILY_CUT_SQL = "INSERT INTO daily_cuts " +
+      "(id, calories, proteins, fats, carbs, weight, cut_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_USER_PROGRESS_SQL = "INSERT INTO user_progress " +
+      "(id, user_id, daily_cut_id, cut_date, change_seq) VALUES (?, ?, ?, ?, ?)";
+
+  public enum IngestMode {
+    SINGLE_ROW,
+    WRITE_BEHIND
+  }
+
+  @Param({"SINGLE_ROW", "WRITE_BEHIND"})
+  private IngestMode mode;
+  private UUID[] userIds;
+  private Path directory;
+  private Server server;
+  private HikariDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private DefaultNutritionRollupService nutritionRollupService;
+  private DefaultDailyCutSyncService dailyCutSyncService;
+  private DefaultDiaryEntryWriter diaryEntryWriter;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, SQLException {
+    userIds = new UUID[USERS];
+    for (int i = 0; i < USERS; i++) {
+      userIds[i] = Uuids.timeOrdered();
+    }
+    directory = Files.createTempDirectory("diary-ingest-");
+    server = Server.createTcpServer("-tcpPort", "0", "-baseDir", directory.toString(), "-ifNotExists").start();
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/db;MODE=MySQL");
+    dataSource.setUsername("sa");
+    dataSource.setPassword("sa");
+    dataSource.setMaximumPoolSize(8);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    for (String sql : CREATE_TABLES_SQL) {
+      jdbcTemplate.execute(sql);
+    }
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    nutritionRollupService = new DefaultNutritionRollupService(dataSource, transactionManager, 10_000);
+    nutritionRollupService.rebuild();
+    dailyCutSyncService = new DefaultDailyCutSyncService(jdbcTemplate);
+    DiaryIngestProperties properties = new DiaryIngestProperties();
+    properties.setQueueCapacity(65_536);
+    properties.setBatchSize(1000);
+    properties.setFlushInterval(Duration.ofMillis(5));
+    properties.setRetryInterval(Duration.ofSeconds(1));
+    properties.setShutdownTimeout(Duration.ofSeconds(30));
+    properties.setAcknowledgement(DiaryAcknowledgement.COMMIT);
+    diaryEntryWriter = new DefaultDiaryEntryWriter(dataSource, transactionManager, nutritionRollupService,
+        dailyCutSyncService, properties, new SimpleMeterRegistry());
+    diaryEntryWriter.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    diaryEntryWriter.shutdown();
+    dataSource.close();
+    server.stop();
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRIES_PER_INVOCATION)
+  public void ingest() {
+    if (mode == IngestMode.SINGLE_ROW) {
+      for (int i = 0; i < ENTRIES_PER_INVOCATION; i++) {
+        UUID userId = nextUserId();
+        DailyCut dailyCut = createDailyCut(Uuids.timeOrdered());
+        transactionTemplate.executeWithoutResult(status -> insertSingleRow(userId, dailyCut));
+      }
+    } else {
+      List<CompletableFuture<DailyCut>> acknowledgements = new ArrayList<>(ENTRIES_PER_INVOCATION);
+      for (int i = 0; i < ENTRIES_PER_INVOCATION; i++) {
+        acknowledgements.add(diaryEntryWriter.submit(nextUserId(), createDailyCut(null)));
+      }
+      acknowledgements.forEach(CompletableFuture::join);
+    }
+  }
+
+  private void insertSingleRow(UUID userId, DailyCut dailyCut) {
+    Timestamp cutDate = Timestamp.valueOf(dailyCut.getCutDate());
+    jdbcTemplate.update(INSERT_DAILY_CUT_SQL, Uuids.toBytes(dailyCut.getId()), dailyCut.getCalories(),
+        dailyCut.getProteins(), dailyCut.getFats(), dailyCut.getCarbs(), dailyCut.getWeight(), cutDate);
+    jdbcTemplate.update(INSERT_USER_PROGRESS_SQL, Uuids.toBytes(Uuids.timeOrdered()), Uuids.toBytes(userId),
+        Uuids.toBytes(dailyCut.getId()), cutDate, dailyCutSyncService.allocateChangeSeq(userId, 1));
+    nutritionRollupService.recordChange(userId, null, dailyCut);
+  }
+
+  private UUID nextUserId() {
+    return userIds[ThreadLocalRandom.current().nextInt(USERS)];
+  }
+
+  private static DailyCut createDailyCut(UUID id) {
+    return new DailyCut(id, new BigDecimal("2000.0"), new BigDecimal("120.5"), new BigDecimal("70.0"),
+        new BigDecimal("210.0"), new BigDecimal("80.4"), MONDAY.plusDays(ThreadLocalRandom.current().nextInt(7)));
+  }
+}
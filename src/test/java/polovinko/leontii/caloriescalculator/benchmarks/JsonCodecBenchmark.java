@@ -0,0 +1,78 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.USER_EMAIL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import polovinko.leontii.caloriescalculator.config.Config;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.dto.UserLoginRequest;
+import polovinko.leontii.caloriescalculator.services.json.codec.impl.ErrorMessageJsonCodec;
+import polovinko.leontii.caloriescalculator.services.json.codec.impl.UserLoginRequestJsonCodec;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+  private static final String LOGIN_JSON = "{\"email\":\"" + USER_EMAIL + "\",\"password\":\"user\"}";
+
+  private ObjectMapper objectMapper;
+  private UserLoginRequestJsonCodec loginRequestCodec;
+  private ErrorMessageJsonCodec errorMessageCodec;
+  private byte[] loginJson;
+  private ErrorMessage errorMessage;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new Config().objectMapper();
+    loginRequestCodec = new UserLoginRequestJsonCodec(objectMapper);
+    errorMessageCodec = new ErrorMessageJsonCodec(objectMapper);
+    loginJson = LOGIN_JSON.getBytes(StandardCharsets.UTF_8);
+    errorMessage = new ErrorMessage(JwtUtils.JWT_NOT_FOUND_MSG, CoarseClock.now(), HttpStatus.UNAUTHORIZED);
+  }
+
+  @Benchmark
+  public UserLoginRequest readLoginRequestWithObjectMapper() throws IOException {
+    return objectMapper.readValue(new ByteArrayInputStream(loginJson), UserLoginRequest.class);
+  }
+
+  @Benchmark
+  public UserLoginRequest readLoginRequestWithCodec() throws IOException {
+    return loginRequestCodec.read(new ByteArrayInputStream(loginJson));
+  }
+
+  @Benchmark
+  public int writeErrorMessageWithObjectMapper() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+    objectMapper.writeValue(outputStream, errorMessage);
+    return outputStream.size();
+  }
+
+  @Benchmark
+  public int writeErrorMessageWithCodec() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+    errorMessageCodec.write(errorMessage, outputStream);
+    return outputStream.size();
+  }
+}
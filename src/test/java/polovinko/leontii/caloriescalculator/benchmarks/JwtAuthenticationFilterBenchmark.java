@@ -0,0 +1,55 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.USER_EMAIL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import polovinko.leontii.caloriescalculator.config.Config;
+import polovinko.leontii.caloriescalculator.filters.JwtAuthenticationFilter;
+import polovinko.leontii.caloriescalculator.helpers.JsonMapperGenerator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String LOGIN_JSON = "{\"email\":\"" + USER_EMAIL + "\",\"password\":\"user\"}";
+
+  private JwtAuthenticationFilter filter;
+  private byte[] loginJson;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    filter = new JwtAuthenticationFilter();
+    filter.setJsonMapper(JsonMapperGenerator.createJsonMapper(new Config().objectMapper()));
+    filter.setAuthenticationManager(authentication -> authentication);
+    loginJson = LOGIN_JSON.getBytes(StandardCharsets.UTF_8);
+    response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public Authentication parseLoginRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/sign-in");
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(loginJson);
+    return filter.attemptAuthentication(request, response);
+  }
+}
@@ -0,0 +1,75 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.FAKE_JWT;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.ISSUER;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.TOKEN_VALIDITY;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import polovinko.leontii.caloriescalculator.config.RouteConfig;
+import polovinko.leontii.caloriescalculator.filters.JwtAuthorizationFilter;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthorizationFilterBenchmark {
+
+  private static final FilterChain NOOP_CHAIN = (request, response) -> {};
+
+  @Param({"VALID", "MISSING", "MALFORMED"})
+  private String scenario;
+
+  private JwtAuthorizationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    JwtCodec jwtCodec = BenchmarkFixtures.createJwtCodec();
+    JwtRevocationService revocationService = BenchmarkFixtures.createRevocationService();
+    filter = new JwtAuthorizationFilter(BenchmarkFixtures.createJwtService(jwtCodec, revocationService),
+        revocationService, new RouteConfig().routeTable());
+    request = BenchmarkFixtures.createRequest(createJwt(jwtCodec));
+    response = new MockHttpServletResponse();
+  }
+
+  private String createJwt(JwtCodec jwtCodec) {
+    switch (scenario) {
+      case "VALID":
+        return jwtCodec.encode(BenchmarkFixtures.createUser(), ISSUER, TOKEN_VALIDITY);
+      case "MALFORMED":
+        return FAKE_JWT;
+      default:
+        return null;
+    }
+  }
+
+  @Benchmark
+  public Object doFilter() throws ServletException, IOException {
+    filter.doFilter(request, response, NOOP_CHAIN);
+    Object authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+}
@@ -0,0 +1,55 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.ISSUER;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.TOKEN_VALIDITY;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtCodecBenchmark {
+
+  private JwtCodec jwtCodec;
+  private User user;
+  private String jwt;
+
+  @Setup
+  public void setUp() {
+    jwtCodec = BenchmarkFixtures.createJwtCodec();
+    user = BenchmarkFixtures.createUser();
+    jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+  }
+
+  @Benchmark
+  public String encode() {
+    return jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+  }
+
+  @Benchmark
+  public Claims decode() {
+    return jwtCodec.decode(jwt);
+  }
+
+  @Benchmark
+  public JwtDecodingResult tryDecodePrincipal() {
+    return jwtCodec.tryDecodePrincipal(jwt);
+  }
+}
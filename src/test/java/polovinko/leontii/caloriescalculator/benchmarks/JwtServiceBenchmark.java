@@ -0,0 +1,59 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.ISSUER;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+  @Param({"jwt", "opaque"})
+  private String mode;
+  private JwtService jwtService;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    User user = BenchmarkFixtures.createUser();
+    if ("opaque".equals(mode)) {
+      jwtService = BenchmarkFixtures.createOpaqueJwtService();
+    } else {
+      JwtCodec jwtCodec = BenchmarkFixtures.createJwtCodec();
+      jwtService = BenchmarkFixtures.createJwtService(jwtCodec, BenchmarkFixtures.createRevocationService());
+    }
+    request = BenchmarkFixtures.createRequest(jwtService.createAccessToken(user, ISSUER));
+  }
+
+
+  @Benchmark
+  public Claims getClaimsFromRequest() {
+    return jwtService.getClaimsFromRequest(request);
+  }
+
+  @Benchmark
+  public JwtPrincipal getPrincipalFromRequest() {
+    return jwtService.getPrincipalFromRequest(request);
+  }
+}
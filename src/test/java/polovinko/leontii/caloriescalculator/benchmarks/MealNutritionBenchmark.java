@@ -0,0 +1,122 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import polovinko.leontii.caloriescalculator.dto.MealItemRequest;
+import polovinko.leontii.caloriescalculator.dto.MealNutrition;
+import polovinko.leontii.caloriescalculator.dto.MealRequest;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import polovinko.leontii.caloriescalculator.services.meals.impl.DefaultMealNutritionCalculator;
+import polovinko.leontii.caloriescalculator.services.products.impl.DefaultProductCatalog;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MealNutritionBenchmark {
+
+  private static final int PRODUCTS = 10000;
+  private static final BigDecimal HUNDRED_GRAMS = BigDecimal.valueOf(100);
+  private static final String CREATE_PRODUCTS_SQL = "CREATE TABLE products (id BINARY(16) PRIMARY KEY, " +
+      "name VARCHAR(255), proteins DECIMAL(5,1), fats DECIMAL(5,1), carbs DECIMAL(5,1), calories DECIMAL(6,1))";
+  private static final String INSERT_PRODUCT_SQL = "INSERT INTO products VALUES (?, ?, ?, ?, ?, ?)";
+
+  @Param({"1", "100"})
+  private int meals;
+  @Param({"10"})
+  private int itemsPerMeal;
+  private DefaultProductCatalog productCatalog;
+  private DefaultMealNutritionCalculator mealNutritionCalculator;
+  private List<MealRequest> requests;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:meals-" + meals + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(CREATE_PRODUCTS_SQL);
+    Random random = new Random(meals);
+    List<Object[]> rows = new ArrayList<>(PRODUCTS);
+    UUID[] productIds = new UUID[PRODUCTS];
+    for (int i = 0; i < PRODUCTS; i++) {
+      productIds[i] = UUID.randomUUID();
+      rows.add(new Object[]{Uuids.toBytes(productIds[i]), "product " + i, randomDecimal(random, 1000),
+          randomDecimal(random, 1000), randomDecimal(random, 1000), randomDecimal(random, 9000)});
+    }
+    jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, rows);
+    productCatalog = new DefaultProductCatalog(dataSource, Files.createTempDirectory("meals"), 1000);
+    productCatalog.rebuild();
+    mealNutritionCalculator = new DefaultMealNutritionCalculator(productCatalog, meals * itemsPerMeal);
+    requests = new ArrayList<>(meals);
+    for (int meal = 0; meal < meals; meal++) {
+      List<MealItemRequest> items = new ArrayList<>(itemsPerMeal);
+      for (int item = 0; item < itemsPerMeal; item++) {
+        items.add(new MealItemRequest(productIds[random.nextInt(PRODUCTS)], randomDecimal(random, 500)));
+      }
+      requests.add(new MealRequest(items));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    productCatalog.shutdown();
+  }
+
+  @Benchmark
+  public List<MealNutrition> fixedPoint() {
+    return mealNutritionCalculator.calculateAll(requests);
+  }
+
+  @Benchmark
+  public List<MealNutrition> bigDecimal() {
+    List<MealNutrition> results = new ArrayList<>(requests.size());
+    for (MealRequest meal : requests) {
+      BigDecimal proteins = BigDecimal.ZERO;
+      BigDecimal fats = BigDecimal.ZERO;
+      BigDecimal carbs = BigDecimal.ZERO;
+      BigDecimal calories = BigDecimal.ZERO;
+      for (MealItemRequest item : meal.getItems()) {
+        ProductNutrition nutrition = productCatalog.findNutrition(item.getProductId()).orElseThrow();
+        proteins = proteins.add(nutrition.getProteins().multiply(item.getGrams()));
+        fats = fats.add(nutrition.getFats().multiply(item.getGrams()));
+        carbs = carbs.add(nutrition.getCarbs().multiply(item.getGrams()));
+        calories = calories.add(nutrition.getCalories().multiply(item.getGrams()));
+      }
+      results.add(new MealNutrition(toDecimal(proteins), toDecimal(fats), toDecimal(carbs), toDecimal(calories)));
+    }
+    return results;
+  }
+
+  private static BigDecimal toDecimal(BigDecimal total) {
+    return total.divide(HUNDRED_GRAMS).setScale(1, RoundingMode.HALF_UP);
+  }
+
+  private static BigDecimal randomDecimal(Random random, int maxUnits) {
+    return BigDecimal.valueOf(random.nextInt(maxUnits * 10 + 1), 1);
+  }
+}
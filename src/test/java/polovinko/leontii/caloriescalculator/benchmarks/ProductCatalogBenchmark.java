@@ -0,0 +1,73 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import polovinko.leontii.caloriescalculator.services.products.impl.DefaultProductCatalog;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductCatalogBenchmark {
+
+  private static final String CREATE_PRODUCTS_SQL = "CREATE TABLE products (id BINARY(16) PRIMARY KEY, " +
+      "name VARCHAR(255), proteins DECIMAL(5,1), fats DECIMAL(5,1), carbs DECIMAL(5,1), calories DECIMAL(6,1))";
+  private static final String INSERT_PRODUCT_SQL = "INSERT INTO products VALUES (?, ?, 1.5, 2.5, 3.5, 123.4)";
+
+  @Param({"1000", "100000"})
+  private int products;
+  private DefaultProductCatalog productCatalog;
+  private UUID[] productIds;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:products-" + products + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(CREATE_PRODUCTS_SQL);
+    List<Object[]> rows = new ArrayList<>(products);
+    productIds = new UUID[products];
+    for (int i = 0; i < products; i++) {
+      productIds[i] = UUID.randomUUID();
+      rows.add(new Object[]{Uuids.toBytes(productIds[i]), "product " + i});
+    }
+    jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, rows);
+    productCatalog = new DefaultProductCatalog(dataSource, Files.createTempDirectory("products"), 1000);
+    productCatalog.rebuild();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    productCatalog.shutdown();
+  }
+
+  @Benchmark
+  public Optional<ProductNutrition> findNutrition() {
+    return productCatalog.findNutrition(productIds[ThreadLocalRandom.current().nextInt(productIds.length)]);
+  }
+}
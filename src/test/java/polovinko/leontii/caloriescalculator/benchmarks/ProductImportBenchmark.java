@@ -0,0 +1,69 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportFormat;
+import polovinko.leontii.caloriescalculator.services.products.imports.impl.DefaultProductImportService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductImportBenchmark {
+
+  private static final int PRODUCTS = 20_000;
+  private static final String CREATE_PRODUCTS_SQL = "CREATE TABLE products (id BINARY(16) PRIMARY KEY, " +
+      "name VARCHAR(255), proteins DECIMAL(5,1), fats DECIMAL(5,1), carbs DECIMAL(5,1), calories DECIMAL(6,1))";
+
+  @Param({"1", "1000"})
+  private int batchSize;
+  private DefaultProductImportService productImportService;
+  private byte[] csv;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:import-" + batchSize + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "sa");
+    new JdbcTemplate(dataSource).execute(CREATE_PRODUCTS_SQL);
+    productImportService = new DefaultProductImportService(dataSource, new DataSourceTransactionManager(dataSource),
+        event -> {
+        }, new ObjectMapper(), batchSize, 4, 100);
+    StringBuilder content = new StringBuilder("id,name,proteins,fats,carbs,calories\n");
+    for (int i = 0; i < PRODUCTS; i++) {
+      content.append(UUID.randomUUID()).append(",Product ").append(i).append(",12.5,6.2,59.5,352.0\n");
+    }
+    csv = content.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    productImportService.shutdown();
+  }
+
+  @Benchmark
+  public ProductImportReport importProducts() {
+    return productImportService.importProducts(new ByteArrayInputStream(csv), ProductImportFormat.CSV);
+  }
+}
@@ -0,0 +1,46 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import polovinko.leontii.caloriescalculator.config.Config;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.helpers.JsonMapperGenerator;
+import polovinko.leontii.caloriescalculator.services.writers.response.ResponseErrorWriter;
+import polovinko.leontii.caloriescalculator.services.writers.response.impl.DefaultResponseErrorWriter;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseErrorWriterBenchmark {
+
+  private ResponseErrorWriter errorWriter;
+  private ErrorMessage errorMessage;
+
+  @Setup
+  public void setUp() {
+    errorWriter = new DefaultResponseErrorWriter(JsonMapperGenerator.createJsonMapper(new Config().objectMapper()));
+    errorMessage = new ErrorMessage(JwtUtils.JWT_NOT_FOUND_MSG, CoarseClock.now(), HttpStatus.UNAUTHORIZED);
+  }
+
+  @Benchmark
+  public int writeErrorMessage() {
+    BulkWriteHttpServletResponse response = new BulkWriteHttpServletResponse();
+    errorWriter.writeErrorMessage(response, errorMessage);
+    return response.getBodySize();
+  }
+}
@@ -0,0 +1,68 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteAccess;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteRule;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.impl.DefaultRouteTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteTableBenchmark {
+
+  @Param({"4", "32", "256"})
+  private int ruleCount;
+
+  private DefaultRouteTable routeTable;
+  private List<AntPathRequestMatcher> antMatchers;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    List<RouteRule> rules = new ArrayList<>();
+    antMatchers = new ArrayList<>();
+    for (int i = 0; i < ruleCount; i++) {
+      String pattern = "/api/resource" + i + "/**";
+      rules.add(new RouteRule(pattern, RouteAccess.AUTHENTICATED));
+      antMatchers.add(new AntPathRequestMatcher(pattern));
+    }
+    rules.add(new RouteRule("/api/user/**", RouteAccess.PERMIT_ALL));
+    antMatchers.add(new AntPathRequestMatcher("/api/user/**"));
+    routeTable = new DefaultRouteTable(rules, RouteAccess.AUTHENTICATED);
+    request = new MockHttpServletRequest("GET", "/api/user/diary/2022-05-10");
+    request.setServletPath("/api/user/diary/2022-05-10");
+  }
+
+  @Benchmark
+  public RouteAccess routeTable() {
+    return routeTable.resolve(request);
+  }
+
+  @Benchmark
+  public int antMatcherChain() {
+    for (int i = 0; i < antMatchers.size(); i++) {
+      if (antMatchers.get(i).matches(request)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,123 @@
+package polovinko.leontii.caloriescalculator.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.util.FileSystemUtils;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final int USERS = 10_000;
+  private static final String CREATE_PROGRESS_SQL = "CREATE TABLE user_progress (id %1$s PRIMARY KEY, " +
+      "user_id %1$s NOT NULL, daily_cut_id %1$s NOT NULL)";
+  private static final String CREATE_USER_INDEX_SQL = "CREATE INDEX idx_user_id ON user_progress (user_id)";
+  private static final String CREATE_DAILY_CUT_INDEX_SQL =
+      "CREATE INDEX idx_daily_cut_id ON user_progress (daily_cut_id)";
+  private static final String INSERT_PROGRESS_SQL =
+      "INSERT INTO user_progress (id, user_id, daily_cut_id) VALUES (?, ?, ?)";
+  private static final String DISK_SPACE_SQL = "SELECT DISK_SPACE_USED('USER_PROGRESS')";
+
+  public enum KeyType {
+    VARCHAR_RANDOM("VARCHAR(255)"),
+    BINARY_TIME_ORDERED("BINARY(16)");
+
+    private final String columnType;
+
+    KeyType(String columnType) {
+      this.columnType = columnType;
+    }
+
+    Object nextId() {
+      return this == VARCHAR_RANDOM ? UUID.randomUUID().toString() : Uuids.toBytes(Uuids.timeOrdered());
+    }
+
+    Object toKey(UUID uuid) {
+      return this == VARCHAR_RANDOM ? uuid.toString() : Uuids.toBytes(uuid);
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class StorageCounters {
+
+    public long tableAndIndexBytes;
+  }
+
+  @Param({"VARCHAR_RANDOM", "BINARY_TIME_ORDERED"})
+  private KeyType keyType;
+  @Param({"2000000"})
+  private int rows;
+  private Object[] userIds;
+  private Path directory;
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+
+  @Setup(Level.Trial)
+  public void setUpUsers() {
+    userIds = new Object[USERS];
+    for (int i = 0; i < USERS; i++) {
+      userIds[i] = keyType.toKey(UUID.randomUUID());
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("uuid-keys-");
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:" + directory.resolve("db") + ";MODE=MySQL", "sa", "sa", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(String.format(CREATE_PROGRESS_SQL, keyType.columnType));
+    jdbcTemplate.execute(CREATE_USER_INDEX_SQL);
+    jdbcTemplate.execute(CREATE_DAILY_CUT_INDEX_SQL);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    dataSource.destroy();
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Benchmark
+  public void insertProgress(StorageCounters counters) {
+    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < rows; i++) {
+      batch.add(new Object[]{keyType.nextId(), userIds[i % USERS], keyType.nextId()});
+      if (batch.size() == BATCH_SIZE) {
+        jdbcTemplate.batchUpdate(INSERT_PROGRESS_SQL, batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_PROGRESS_SQL, batch);
+    }
+    counters.tableAndIndexBytes = jdbcTemplate.queryForObject(DISK_SPACE_SQL, Long.class);
+  }
+}
@@ -0,0 +1,35 @@
+package polovinko.leontii.caloriescalculator.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import polovinko.leontii.caloriescalculator.dao.ProductRepository;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import java.util.UUID;
+
+@SpringBootTest(properties = "products.import.file=src/test/resources/imports/products.jsonl")
+@ActiveProfiles("test")
+class ProductImportCommandIntegrationTest {
+
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private ProductCatalog productCatalog;
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    productCatalog.rebuild();
+  }
+
+  @Test
+  void run_whenImportFileIsConfigured_thenValidProductsAreImportedOnStartup() {
+    assertEquals(2, productRepository.count());
+    assertTrue(productRepository.existsById(UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4")));
+    assertTrue(productRepository.existsById(UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c5")));
+  }
+}
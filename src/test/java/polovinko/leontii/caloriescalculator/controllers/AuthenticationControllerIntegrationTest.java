@@ -2,6 +2,7 @@ package polovinko.leontii.caloriescalculator.controllers;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,10 +18,14 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.dao.UserRepository;
 import polovinko.leontii.caloriescalculator.helpers.TestConstants;
 import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
 import polovinko.leontii.caloriescalculator.models.User;
 import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.UserCache;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import java.time.Duration;
 import java.util.UUID;
@@ -42,8 +47,12 @@ class AuthenticationControllerIntegrationTest {
   private MockMvc mockMvc;
   @Value("${jwt.validity.refreshToken}")
   private Duration refreshTokenValidity;
-  @Value("${jwt.secretKey}")
-  private String secretKey;
+  @Autowired
+  private JwtCodec jwtCodec;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private UserCache userCache;
   private MockHttpServletRequestBuilder request;
 
   @BeforeEach
@@ -51,6 +60,11 @@ class AuthenticationControllerIntegrationTest {
     request = MockMvcRequestBuilders.get("/api/auth/refresh-token");
   }
 
+  @AfterEach
+  void tearDown() {
+    userCache.invalidateAll();
+  }
+
   @Test
   void refreshToken_whenJwtContainsValidUserClaims_thenRefreshAndAccessTokensReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.USER, "validUser");
@@ -111,6 +125,44 @@ class AuthenticationControllerIntegrationTest {
     assertTrue(response.getContentAsString().contains(expectedErrorMessage));
   }
 
+  @Test
+  void refreshToken_whenUserIsLockedAfterPreviousRefresh_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    user.setId(VALID_USER_ID);
+    setUpRefreshToken(user);
+    assertEquals(HttpStatus.OK.value(), mockMvc.perform(request).andReturn().getResponse().getStatus());
+
+    User storedUser = userRepository.findUserByEmail("validUser").orElseThrow();
+    storedUser.setLocked(true);
+    userRepository.save(storedUser);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains("Active user with email 'validUser' not found."));
+  }
+
+  @Test
+  void refreshToken_whenPasswordIsChangedAfterTokenIssuing_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    user.setId(VALID_USER_ID);
+    setUpRefreshToken(user);
+
+    User storedUser = userRepository.findUserByEmail("validUser").orElseThrow();
+    storedUser.setPassword("newPasswordHash");
+    userRepository.save(storedUser);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(1, userRepository.findUserByEmail("validUser").orElseThrow().getTokenVersion());
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains("JWT is invalid"));
+  }
+
   @Test
   void refreshToken_whenRefreshTokenIsMalformed_thenErrorMessageIsReturned() throws Exception {
     request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + TestConstants.FAKE_JWT);
@@ -154,11 +206,46 @@ class AuthenticationControllerIntegrationTest {
     assertTrue(response.getContentAsString().contains("JWT is invalid"));
   }
 
+  @Test
+  void refreshToken_whenAccessTokenIsPassed_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    user.setId(VALID_USER_ID);
+    String accessToken = jwtCodec.encode(user, JwtTokenType.ACCESS, TestConstants.ISSUER, refreshTokenValidity);
+    request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + accessToken);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains(JwtUtils.INVALID_JWT_ERROR_MESSAGE));
+  }
+
+  @Test
+  void refreshToken_whenRefreshTokenIsRevoked_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    user.setId(VALID_USER_ID);
+    String refreshToken = jwtCodec.encode(user, JwtTokenType.REFRESH, TestConstants.ISSUER, refreshTokenValidity);
+    MockHttpServletResponse signOutResponse = mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/sign-out")
+            .header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + refreshToken))
+        .andReturn()
+        .getResponse();
+    request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + refreshToken);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(HttpStatus.OK.value(), signOutResponse.getStatus());
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains(JwtUtils.REVOKED_JWT_MSG));
+  }
+
   @Test
   void refreshToken_whenRefreshTokenIsExpired_thenErrorMessageIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.USER, "validUser");
     user.setId(VALID_USER_ID);
-    String refreshToken = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, Duration.ofMillis(1), secretKey);
+    String refreshToken = jwtCodec.encode(user, JwtTokenType.REFRESH, TestConstants.ISSUER, Duration.ofMillis(1));
     request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + refreshToken);
 
     MockHttpServletResponse response = mockMvc.perform(request)
@@ -197,7 +284,7 @@ class AuthenticationControllerIntegrationTest {
   }
 
   private void setUpRefreshToken(User user) {
-    String refreshToken = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, refreshTokenValidity, secretKey);
+    String refreshToken = jwtCodec.encode(user, JwtTokenType.REFRESH, TestConstants.ISSUER, refreshTokenValidity);
     request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + refreshToken);
   }
 }
@@ -0,0 +1,174 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.helpers.TestConstants;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.time.Duration;
+import java.util.UUID;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DailyCutControllerIntegrationTest {
+
+  private static final String DAILY_CUTS_URL = "/api/user/daily-cuts";
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final String DAILY_CUT = "{\"cutDate\":\"2026-10-12T08:30:00\",\"calories\":2000.0," +
+      "\"proteins\":120.5,\"fats\":70.0,\"carbs\":210.0,\"weight\":80.4}";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private JwtCodec jwtCodec;
+  @Value("${jwt.validity.accessToken}")
+  private Duration tokenValidity;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+  private String jwt;
+
+  @BeforeEach
+  void setUp() {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    user.setId(USER_ID);
+    jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
+    nutritionRollupService.rebuild();
+  }
+
+  @AfterEach
+  void tearDown() {
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void createDailyCut_whenDailyCutIsCreated_thenItIsIncludedIntoRollup() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(postDailyCut(DAILY_CUT)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").isNotEmpty())
+        .andExpect(jsonPath("$.cutDate").value("2026-10-12T08:30:00"));
+
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/rollup"))
+            .param("from", "2026-10-12")
+            .param("to", "2026-10-18"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.from").value("2026-10-12"))
+        .andExpect(jsonPath("$.entries").value(1))
+        .andExpect(jsonPath("$.totalCalories").value(2000.0))
+        .andExpect(jsonPath("$.averageWeight").value(80.4));
+  }
+
+  @Test
+  void createDailyCut_whenValuesAreMissing_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.post(DAILY_CUTS_URL))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"calories\":2000.0}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void updateDailyCut_whenDailyCutBelongsToAnotherUser_thenNotFoundIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.put(DAILY_CUTS_URL + "/" + UUID.randomUUID()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(DAILY_CUT))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getRollup_whenRangeIsReversed_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/rollup"))
+            .param("from", "2026-10-18")
+            .param("to", "2026-10-12"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getTimeline_whenDailyCutsExist_thenNewestPageIsReturnedWithOlderCursor() throws Exception {
+    for (String day : new String[]{"12", "13", "14"}) {
+      mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(postDailyCut(DAILY_CUT.replace("2026-10-12",
+              "2026-10-" + day))))
+          .andExpect(status().isCreated());
+    }
+
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/timeline"))
+            .param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.dailyCuts.length()").value(2))
+        .andExpect(jsonPath("$.dailyCuts[0].cutDate").value("2026-10-14T08:30:00"))
+        .andExpect(jsonPath("$.dailyCuts[1].cutDate").value("2026-10-13T08:30:00"))
+        .andExpect(jsonPath("$.olderCursor").isNotEmpty())
+        .andExpect(jsonPath("$.newerCursor").isEmpty());
+  }
+
+  @Test
+  void getTimeline_whenCursorIsInvalid_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/timeline"))
+            .param("cursor", "broken"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Timeline cursor is not valid"));
+  }
+
+  @Test
+  void getTimeline_whenLimitIsOutOfRange_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/timeline"))
+            .param("limit", "0"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getChanges_whenDailyCutIsCreated_thenItIsReturnedWithNextCursor() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(postDailyCut(DAILY_CUT)))
+        .andExpect(status().isCreated());
+
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/sync"))
+            .param("cursor", "0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.changed.length()").value(1))
+        .andExpect(jsonPath("$.changed[0].cutDate").value("2026-10-12T08:30:00"))
+        .andExpect(jsonPath("$.deleted").isEmpty())
+        .andExpect(jsonPath("$.cursor").value(1))
+        .andExpect(jsonPath("$.hasMore").value(false));
+  }
+
+  @Test
+  void getChanges_whenLimitIsOutOfRange_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(DAILY_CUTS_URL + "/sync"))
+            .param("limit", "1001"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private MvcResult postDailyCut(String dailyCut) throws Exception {
+    return mockMvc.perform(authorized(MockMvcRequestBuilders.post(DAILY_CUTS_URL))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(dailyCut))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+
+  private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+    return request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + jwt);
+  }
+}
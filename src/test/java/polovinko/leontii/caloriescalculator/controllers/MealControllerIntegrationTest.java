@@ -0,0 +1,109 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.dao.ProductRepository;
+import polovinko.leontii.caloriescalculator.helpers.TestConstants;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class MealControllerIntegrationTest {
+
+  private static final String MEALS_URL = "/api/user/meals/nutrition";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private JwtCodec jwtCodec;
+  @Value("${jwt.validity.accessToken}")
+  private Duration tokenValidity;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private ProductCatalog productCatalog;
+  private UUID oatmealId;
+  private UUID milkId;
+
+  @BeforeEach
+  void setUp() {
+    oatmealId = productRepository.save(createProduct("Oatmeal", "12.5", "6.2", "59.5", "352.0")).getId();
+    milkId = productRepository.save(createProduct("Milk", "3.2", "2.5", "4.7", "52.0")).getId();
+    productCatalog.rebuild();
+  }
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    productCatalog.rebuild();
+  }
+
+  @Test
+  void calculateNutrition_whenMealIsPosted_thenTotalsAreReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.post(MEALS_URL))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"items\":[{\"productId\":\"" + oatmealId + "\",\"grams\":60}," +
+                "{\"productId\":\"" + milkId + "\",\"grams\":250.0}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.proteins").value(15.5))
+        .andExpect(jsonPath("$.fats").value(10.0))
+        .andExpect(jsonPath("$.carbs").value(47.5))
+        .andExpect(jsonPath("$.calories").value(341.2));
+  }
+
+  @Test
+  void calculateNutrition_whenBatchIsPosted_thenTotalsAreReturnedPerMealInOrder() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.post(MEALS_URL + "/batch"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[{\"items\":[{\"productId\":\"" + oatmealId + "\",\"grams\":100}]}," +
+                "{\"items\":[{\"productId\":\"" + milkId + "\",\"grams\":50.5}]}]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].calories").value(352.0))
+        .andExpect(jsonPath("$[1].calories").value(26.3))
+        .andExpect(jsonPath("$[1].proteins").value(1.6));
+  }
+
+  @Test
+  void calculateNutrition_whenProductIsUnknown_thenBadRequestIsReturned() throws Exception {
+    UUID unknownId = UUID.randomUUID();
+
+    mockMvc.perform(authorized(MockMvcRequestBuilders.post(MEALS_URL))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"items\":[{\"productId\":\"" + unknownId + "\",\"grams\":60}]}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Meal 0 item 0 references unknown product " + unknownId));
+  }
+
+  private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+    return request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX +
+        jwtCodec.encode(UserGenerator.createUser(UserRole.USER, "validUser"), TestConstants.ISSUER, tokenValidity));
+  }
+
+  private static Product createProduct(String name, String proteins, String fats, String carbs, String calories) {
+    return new Product(null, name, new BigDecimal(proteins), new BigDecimal(fats), new BigDecimal(carbs),
+        new BigDecimal(calories));
+  }
+}
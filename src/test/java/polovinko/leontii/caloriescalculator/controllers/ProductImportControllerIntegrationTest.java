@@ -0,0 +1,99 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.dao.ProductRepository;
+import polovinko.leontii.caloriescalculator.helpers.TestConstants;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.net.URI;
+import java.time.Duration;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ProductImportControllerIntegrationTest {
+
+  private static final String IMPORT_URL = "/api/admin/products/import";
+  private static final String CSV = "name,proteins,fats,carbs,calories\nRice,7.0,0.6,77.0,330.0\nBroken,x,1,1,1\n";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private JwtCodec jwtCodec;
+  @Value("${jwt.validity.accessToken}")
+  private Duration tokenValidity;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private ProductCatalog productCatalog;
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    productCatalog.rebuild();
+  }
+
+  @Test
+  void importProducts_whenAdminUploadsCsv_thenReportIsReturned() throws Exception {
+    mockMvc.perform(createRequest(UserRole.ADMIN, "text/csv", CSV))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.importedRows").value(1))
+        .andExpect(jsonPath("$.rejectedRows").value(1))
+        .andExpect(jsonPath("$.rejects[0].lineNumber").value(3))
+        .andExpect(jsonPath("$.rejects[0].reason").value("Field 'proteins' is not a number"));
+  }
+
+  @Test
+  void importProducts_whenUserUploadsCsv_thenAccessIsDenied() throws Exception {
+    mockMvc.perform(createRequest(UserRole.USER, "text/csv", CSV))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void importProducts_whenUserUploadsCsvToPercentEncodedPath_thenAccessIsDenied() throws Exception {
+    mockMvc.perform(createRequest(URI.create("/api/%61dmin/products/import"), UserRole.USER, "text/csv", CSV))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void importProducts_whenContentTypeIsUnsupported_thenUnsupportedMediaTypeIsReturned() throws Exception {
+    mockMvc.perform(createRequest(UserRole.ADMIN, MediaType.APPLICATION_JSON_VALUE, "[]"))
+        .andExpect(status().isUnsupportedMediaType());
+  }
+
+  @Test
+  void importProducts_whenCsvHeaderIsIncomplete_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(createRequest(UserRole.ADMIN, "text/csv", "name,proteins\nRice,7.0\n"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("CSV header does not contain required column 'fats'"));
+  }
+
+  private MockHttpServletRequestBuilder createRequest(UserRole role, String contentType, String content) {
+    return createRequest(URI.create(IMPORT_URL), role, contentType, content);
+  }
+
+  private MockHttpServletRequestBuilder createRequest(URI uri, UserRole role, String contentType, String content) {
+    String jwt = jwtCodec.encode(UserGenerator.createUser(role, TestConstants.USER_EMAIL), TestConstants.ISSUER,
+        tokenValidity);
+    return MockMvcRequestBuilders.post(uri)
+        .header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + jwt)
+        .contentType(contentType)
+        .content(content);
+  }
+}
@@ -0,0 +1,216 @@
+package polovinko.leontii.caloriescalculator.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.helpers.TestConstants;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class ProgressExportControllerIntegrationTest {
+
+  private static final String USER_EXPORT_URL = "/api/user/progress/export";
+  private static final String ADMIN_EXPORT_URL = "/api/admin/progress/export";
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final String CSV_HEADER = "user_id,daily_cut_id,cut_date,calories,proteins,fats,carbs,weight\n";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private JwtCodec jwtCodec;
+  @Value("${jwt.validity.accessToken}")
+  private Duration tokenValidity;
+  @Value("${web.streaming.timeout}")
+  private Duration streamingTimeout;
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+  private DailyCut dailyCut;
+
+  @BeforeEach
+  void setUp() {
+    dailyCut = dailyCutService.createDailyCut(USER_ID, new DailyCut(null, new BigDecimal("2000.0"),
+        new BigDecimal("120.5"), new BigDecimal("70.0"), new BigDecimal("210.0"), new BigDecimal("80.4"),
+        LocalDateTime.of(2026, 10, 12, 8, 30)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void exportUserProgress_whenCsvIsRequested_thenRowsAreStreamedAsAttachment() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"progress.csv\""))
+        .andExpect(content().string(CSV_HEADER + USER_ID + "," + dailyCut.getId() +
+            ",2026-10-12T08:30:00,2000.0,120.5,70.0,210.0,80.4\n"));
+  }
+
+  @Test
+  void exportUserProgress_whenGzipIsAccepted_thenBodyIsCompressed() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andReturn();
+
+    String body = gunzip(result.getResponse().getContentAsByteArray());
+    assertTrue(body.startsWith("{\"userId\":\"" + USER_ID + "\",\"dailyCutId\":\"" + dailyCut.getId() + "\""));
+    assertTrue(body.endsWith("}\n"));
+  }
+
+  @Test
+  void exportUserProgress_whenGzipIsRefused_thenBodyIsNotCompressed() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .param("format", "csv")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(content().string(CSV_HEADER + USER_ID + "," + dailyCut.getId() +
+            ",2026-10-12T08:30:00,2000.0,120.5,70.0,210.0,80.4\n"));
+  }
+
+  @Test
+  void exportUserProgress_whenOnlyIdentityIsAccepted_thenBodyIsNotCompressed() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .param("format", "csv")
+            .header(HttpHeaders.ACCEPT_ENCODING, "identity"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+        .andExpect(content().string(CSV_HEADER + USER_ID + "," + dailyCut.getId() +
+            ",2026-10-12T08:30:00,2000.0,120.5,70.0,210.0,80.4\n"));
+  }
+
+  @Test
+  void exportUserProgress_whenAnyEncodingIsAccepted_thenBodyIsCompressed() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .header(HttpHeaders.ACCEPT_ENCODING, "deflate, *;q=0.5"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andReturn();
+
+    assertTrue(gunzip(result.getResponse().getContentAsByteArray()).endsWith("}\n"));
+  }
+
+  @Test
+  void exportUserProgress_whenExportStarts_thenStreamingTimeoutIsApplied() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    assertEquals(streamingTimeout.toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void exportUserProgress_whenFormatIsUnknown_thenBadRequestIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(USER_EXPORT_URL), UserRole.USER)
+            .param("format", "xml"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void exportAllProgress_whenUserIsNotAdmin_thenForbiddenIsReturned() throws Exception {
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(ADMIN_EXPORT_URL), UserRole.USER))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void exportAllProgress_whenUserRequestsPercentEncodedPath_thenForbiddenIsReturned() throws Exception {
+    URI encodedUri = URI.create("/api/%61dmin/progress/export");
+
+    mockMvc.perform(authorized(MockMvcRequestBuilders.get(encodedUri), UserRole.USER))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void exportAllProgress_whenUserIsAdmin_thenEveryRowIsStreamed() throws Exception {
+    MvcResult asyncResult = mockMvc.perform(authorized(MockMvcRequestBuilders.get(ADMIN_EXPORT_URL), UserRole.ADMIN)
+            .param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"progress-all.csv\""))
+        .andExpect(content().string(CSV_HEADER + USER_ID + "," + dailyCut.getId() +
+            ",2026-10-12T08:30:00,2000.0,120.5,70.0,210.0,80.4\n"));
+  }
+
+  private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, UserRole role) {
+    User user = UserGenerator.createUser(role, "validUser");
+    user.setId(USER_ID);
+    return request.header(HttpHeaders.AUTHORIZATION,
+        JwtUtils.BEARER_PREFIX + jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity));
+  }
+
+  private static String gunzip(byte[] body) throws IOException {
+    try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
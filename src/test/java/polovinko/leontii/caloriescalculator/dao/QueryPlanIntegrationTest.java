@@ -0,0 +1,169 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+import polovinko.leontii.caloriescalculator.helpers.CapturingStatementInspector;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+    "polovinko.leontii.caloriescalculator.helpers.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class QueryPlanIntegrationTest {
+
+  private static final int SEEDED_ROWS = 5_000;
+  private static final int FULL_SCAN_THRESHOLD = 1_000;
+  private static final String MYSQL_URL_PROPERTY = "queryPlans.mysql.url";
+  private static final String BINARY_ID = "CAST(X'0000000000000000' || CAST(CAST(x AS BIGINT) AS BINARY(8)) " +
+      "AS BINARY(16))";
+  private static final Pattern H2_TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+  private static final Map<Class<?>, Object> SAMPLE_ARGUMENTS = Map.of(
+      String.class, "user2500@example.com",
+      UUID.class, new UUID(0, 2500),
+      Instant.class, Instant.parse("2026-10-18T00:00:00Z"));
+
+  @Autowired
+  private ApplicationContext applicationContext;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("INSERT INTO users (id, email, enabled, first_name, last_name, password, role) " +
+        "SELECT " + BINARY_ID + ", CONCAT('user', x, '@example.com'), 1, 'user', 'user', 'password', 'USER' " +
+        "FROM SYSTEM_RANGE(1, ?)", SEEDED_ROWS);
+    jdbcTemplate.update("INSERT INTO products (id, name, proteins, fats, carbs, calories) " +
+        "SELECT " + BINARY_ID + ", CONCAT('Product ', x), 12.5, 6.2, 59.5, 352.0 FROM SYSTEM_RANGE(1, ?)",
+        SEEDED_ROWS);
+    jdbcTemplate.update("INSERT INTO daily_cuts (id, calories, proteins, fats, carbs, weight, cut_date) " +
+        "SELECT " + BINARY_ID + ", 2000.0, 120.5, 70.0, 210.0, 80.4, " +
+        "DATEADD('HOUR', -x, TIMESTAMP '2026-10-18 08:30:00') FROM SYSTEM_RANGE(1, ?)", SEEDED_ROWS);
+    jdbcTemplate.update("INSERT INTO user_progress (id, user_id, daily_cut_id, cut_date) " +
+        "SELECT " + BINARY_ID + ", " + BINARY_ID + ", " + BINARY_ID + ", " +
+        "DATEADD('HOUR', -x, TIMESTAMP '2026-10-18 08:30:00') FROM SYSTEM_RANGE(1, ?)", SEEDED_ROWS);
+    jdbcTemplate.update("INSERT INTO revoked_tokens (token_id, expires_at) " +
+        "SELECT CONCAT('token-', x), DATEADD('MINUTE', x, TIMESTAMP '2026-10-17 00:00:00') " +
+        "FROM SYSTEM_RANGE(1, ?)", SEEDED_ROWS);
+    jdbcTemplate.execute("ANALYZE");
+  }
+
+  @TestFactory
+  Stream<DynamicTest> repositoryQueries_whenExplainedOnH2_thenNoSeededTableIsFullyScanned() {
+    return explainRepositoryQueries(this::findH2FullScans);
+  }
+
+  @TestFactory
+  @EnabledIfSystemProperty(named = MYSQL_URL_PROPERTY, matches = ".+")
+  Stream<DynamicTest> repositoryQueries_whenExplainedOnMySql_thenNoLargeTableIsFullyScanned() {
+    JdbcTemplate mySqlTemplate = new JdbcTemplate(new DriverManagerDataSource(System.getProperty(MYSQL_URL_PROPERTY),
+        System.getProperty("queryPlans.mysql.username"), System.getProperty("queryPlans.mysql.password")));
+    return explainRepositoryQueries((sql, arguments) -> findMySqlFullScans(mySqlTemplate, sql, arguments));
+  }
+
+  private Stream<DynamicTest> explainRepositoryQueries(BiFunction<String, Object[], List<String>> fullScanFinder) {
+    Repositories repositories = new Repositories(applicationContext);
+    return StreamSupport.stream(repositories.spliterator(), false)
+        .map(domainType -> repositories.getRequiredRepositoryInformation(domainType))
+        .flatMap(information -> information.getQueryMethods().stream()
+            .map(method -> DynamicTest.dynamicTest(information.getRepositoryInterface().getSimpleName() + "." +
+                method.getName(), () -> assertNoFullScans(information, method, fullScanFinder))));
+  }
+
+  private void assertNoFullScans(RepositoryInformation information, Method method,
+                                 BiFunction<String, Object[], List<String>> fullScanFinder) {
+    Object repository = applicationContext.getBean(information.getRepositoryInterface());
+    Object[] arguments = Stream.of(method.getParameterTypes()).map(SAMPLE_ARGUMENTS::get).toArray();
+    assertFalse(Stream.of(arguments).anyMatch(Objects::isNull), "No sample argument for " + method);
+
+    List<String> statements = captureStatements(repository, method, arguments);
+
+    assertFalse(statements.isEmpty(), "No SQL was issued by " + method);
+    for (String sql : statements) {
+      List<String> fullScans = fullScanFinder.apply(sql, toJdbcArguments(arguments));
+      assertTrue(fullScans.isEmpty(), method.getName() + " fully scans " + fullScans + ":\n" + sql);
+    }
+  }
+
+  private List<String> captureStatements(Object repository, Method method, Object[] arguments) {
+    entityManagerFactory.getCache().evictAll();
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.executeWithoutResult(status -> {
+      CapturingStatementInspector.clear();
+      ReflectionUtils.invokeMethod(method, repository, arguments);
+      status.setRollbackOnly();
+    });
+    return CapturingStatementInspector.getStatements();
+  }
+
+  private List<String> findH2FullScans(String sql, Object[] arguments) {
+    String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, arguments));
+    List<String> fullScans = new ArrayList<>();
+    Matcher matcher = H2_TABLE_SCAN.matcher(plan);
+    while (matcher.find()) {
+      String table = matcher.group(1);
+      Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+      if (rows > FULL_SCAN_THRESHOLD) {
+        fullScans.add(table + " (" + rows + " rows)");
+      }
+    }
+    return fullScans;
+  }
+
+  private static List<String> findMySqlFullScans(JdbcTemplate mySqlTemplate, String sql, Object[] arguments) {
+    return mySqlTemplate.queryForList("EXPLAIN " + sql, arguments).stream()
+        .filter(row -> "ALL".equals(row.get("type")))
+        .filter(row -> row.get("rows") != null && ((Number) row.get("rows")).longValue() > FULL_SCAN_THRESHOLD)
+        .map(row -> row.get("table") + " (" + row.get("rows") + " rows)")
+        .collect(Collectors.toList());
+  }
+
+  private static Object[] toJdbcArguments(Object[] arguments) {
+    return Stream.of(arguments)
+        .map(argument -> {
+          if (argument instanceof UUID) {
+            return Uuids.toBytes((UUID) argument);
+          }
+          if (argument instanceof Instant) {
+            return Timestamp.from((Instant) argument);
+          }
+          return argument;
+        })
+        .toArray();
+  }
+}
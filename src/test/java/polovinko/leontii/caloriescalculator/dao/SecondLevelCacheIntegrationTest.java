@@ -0,0 +1,142 @@
+package polovinko.leontii.caloriescalculator.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import polovinko.leontii.caloriescalculator.helpers.CapturingStatementInspector;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.ProductsChangedEvent;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+    "polovinko.leontii.caloriescalculator.helpers.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class SecondLevelCacheIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final String USER_EMAIL = "validUser";
+
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void findById_whenUserWasLoadedBefore_thenNoSqlIsIssued() {
+    userRepository.findById(USER_ID).orElseThrow();
+    CapturingStatementInspector.clear();
+
+    User user = userRepository.findById(USER_ID).orElseThrow();
+
+    assertEquals(USER_EMAIL, user.getEmail());
+    assertTrue(CapturingStatementInspector.getStatements().isEmpty());
+  }
+
+  @Test
+  void findUserByEmail_whenUserWasLoadedBefore_thenNoSqlIsIssued() {
+    userRepository.findUserByEmail(USER_EMAIL).orElseThrow();
+    CapturingStatementInspector.clear();
+
+    User user = userRepository.findUserByEmail(USER_EMAIL).orElseThrow();
+
+    assertEquals(USER_ID, user.getId());
+    assertTrue(CapturingStatementInspector.getStatements().isEmpty());
+  }
+
+  @Test
+  void findUserByEmail_whenEmailIsChangedThroughRepository_thenNaturalIdCacheFollowsTheNewEmail() {
+    User user = userRepository.findUserByEmail(USER_EMAIL).orElseThrow();
+    user.setEmail("renamedUser");
+    userRepository.save(user);
+    CapturingStatementInspector.clear();
+
+    User renamedUser = userRepository.findUserByEmail("renamedUser").orElseThrow();
+
+    assertEquals(USER_ID, renamedUser.getId());
+    assertTrue(CapturingStatementInspector.getStatements().isEmpty());
+    assertTrue(userRepository.findUserByEmail(USER_EMAIL).isEmpty());
+  }
+
+  @Test
+  void findById_whenUserIsUpdatedThroughRepository_thenUpdatedStateIsReturned() {
+    User user = userRepository.findById(USER_ID).orElseThrow();
+    user.setLocked(true);
+    userRepository.save(user);
+
+    User updatedUser = userRepository.findById(USER_ID).orElseThrow();
+
+    assertTrue(updatedUser.isLocked());
+    assertEquals(1, updatedUser.getTokenVersion());
+    assertTrue(userRepository.findActiveUserByEmail(USER_EMAIL).isEmpty());
+  }
+
+  @Test
+  void findById_whenUserIsDeletedThroughRepository_thenNothingIsReturned() {
+    userRepository.findUserByEmail(USER_EMAIL).orElseThrow();
+
+    userRepository.deleteById(USER_ID);
+
+    assertTrue(userRepository.findById(USER_ID).isEmpty());
+    assertTrue(userRepository.findUserByEmail(USER_EMAIL).isEmpty());
+  }
+
+  @Test
+  void findById_whenProductWasLoadedBefore_thenNoSqlIsIssued() {
+    Product product = productRepository.save(new Product(null, "Oats", new BigDecimal("12.5"),
+        new BigDecimal("6.2"), new BigDecimal("59.5"), new BigDecimal("352.0")));
+    productRepository.findById(product.getId()).orElseThrow();
+    CapturingStatementInspector.clear();
+
+    Product cachedProduct = productRepository.findById(product.getId()).orElseThrow();
+
+    assertEquals("Oats", cachedProduct.getName());
+    assertTrue(CapturingStatementInspector.getStatements().isEmpty());
+  }
+
+  @Test
+  void findById_whenProductsAreChangedOutsideOfHibernate_thenProductRegionIsEvicted() {
+    Product product = productRepository.save(new Product(null, "Oats", new BigDecimal("12.5"),
+        new BigDecimal("6.2"), new BigDecimal("59.5"), new BigDecimal("352.0")));
+    productRepository.findById(product.getId()).orElseThrow();
+
+    jdbcTemplate.update("UPDATE products SET name = ? WHERE id = ?", "Rolled oats",
+        Uuids.toBytes(product.getId()));
+    eventPublisher.publishEvent(new ProductsChangedEvent());
+
+    assertEquals("Rolled oats", productRepository.findById(product.getId()).orElseThrow().getName());
+  }
+
+  @Test
+  void findById_whenRegionIsHit_thenHitIsExposedAsCacheMetric() {
+    userRepository.findById(USER_ID).orElseThrow();
+    double hits = getHits(User.CACHE_REGION);
+
+    userRepository.findById(USER_ID).orElseThrow();
+
+    assertEquals(hits + 1, getHits(User.CACHE_REGION));
+  }
+
+  private double getHits(String region) {
+    return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+  }
+}
@@ -0,0 +1,61 @@
+package polovinko.leontii.caloriescalculator.dao.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import polovinko.leontii.caloriescalculator.dao.UserRepository;
+import polovinko.leontii.caloriescalculator.models.User;
+import java.util.UUID;
+
+@SpringBootTest(properties = {
+    "datasource.routing.enabled=true",
+    "datasource.routing.lagQuery=SELECT 0",
+    "datasource.routing.replicas[0].url=jdbc:h2:mem:replica;MODE=MySQL;DB_CLOSE_DELAY=-1;" +
+        "INIT=RUNSCRIPT FROM 'classpath:scripts/replica_users_creation.sql'",
+    "datasource.routing.replicas[0].username=sa",
+    "datasource.routing.replicas[0].password=sa"})
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DataSourceRoutingIntegrationTest {
+
+  private static final UUID PRIMARY_USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @Test
+  void findUserByEmail_whenLookupIsReadOnly_thenReplicaIsQueried() {
+    assertTrue(userRepository.findUserByEmail("replicaUser").isPresent());
+    assertTrue(userRepository.findUserByEmail("validUser").isEmpty());
+  }
+
+  @Test
+  void findUserByEmail_whenRequestHasWritten_thenPrimaryIsQueried() {
+    User user = new TransactionTemplate(transactionManager)
+        .execute(status -> userRepository.findById(PRIMARY_USER_ID).orElseThrow());
+
+    assertEquals("validUser", user.getEmail());
+    assertTrue(userRepository.findUserByEmail("validUser").isPresent());
+    assertTrue(userRepository.findUserByEmail("replicaUser").isEmpty());
+  }
+}
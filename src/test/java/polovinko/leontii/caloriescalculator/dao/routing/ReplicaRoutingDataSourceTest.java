@@ -0,0 +1,182 @@
+package polovinko.leontii.caloriescalculator.dao.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+class ReplicaRoutingDataSourceTest {
+
+  private static final String LAG_QUERY = "SELECT seconds FROM replication_lag";
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+  private HikariDataSource primary;
+  private Replica firstReplica;
+  private Replica secondReplica;
+
+  @BeforeEach
+  void setUp() {
+    primary = createNode("primary");
+    firstReplica = new Replica("replica-0", createNode("replica-0"));
+    secondReplica = new Replica("replica-1", createNode("replica-1"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    List.of(primary, firstReplica.getDataSource(), secondReplica.getDataSource()).forEach(HikariDataSource::close);
+  }
+
+  @Test
+  void getConnection_whenTransactionIsReadOnly_thenReplicaIsUsed() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+
+    assertEquals("replica-0", router.readOnly());
+  }
+
+  @Test
+  void getConnection_whenTransactionIsReadWrite_thenPrimaryIsUsed() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+
+    assertEquals("primary", router.readWrite());
+  }
+
+  @Test
+  void getConnection_whenNoTransactionIsActive_thenPrimaryIsUsed() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+
+    assertEquals("primary", router.jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+  }
+
+  @Test
+  void getConnection_whenStrategyIsRoundRobin_thenReplicasAreUsedInTurn() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica, secondReplica);
+
+    assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"),
+        List.of(router.readOnly(), router.readOnly(), router.readOnly(), router.readOnly()));
+  }
+
+  @Test
+  void getConnection_whenStrategyIsLeastConnections_thenLeastBusyReplicaIsUsed() throws Exception {
+    Router router = new Router(ReplicaSelectionStrategy.LEAST_CONNECTIONS, firstReplica, secondReplica);
+
+    try (Connection ignored = firstReplica.getDataSource().getConnection()) {
+      assertEquals("replica-1", router.readOnly());
+      assertEquals("replica-1", router.readOnly());
+    }
+  }
+
+  @Test
+  void getConnection_whenReplicaLagsBehind_thenReadsFallBackToOtherNodes() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica, secondReplica);
+    setLag(firstReplica, 30);
+
+    router.routingDataSource.checkReplicaLag();
+
+    assertFalse(firstReplica.isAvailable());
+    assertEquals(List.of("replica-1", "replica-1"), List.of(router.readOnly(), router.readOnly()));
+  }
+
+  @Test
+  void getConnection_whenAllReplicasLagBehind_thenPrimaryIsUsedUntilTheyCatchUp() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+    setLag(firstReplica, 30);
+    router.routingDataSource.checkReplicaLag();
+
+    assertEquals("primary", router.readOnly());
+
+    setLag(firstReplica, 0);
+    router.routingDataSource.checkReplicaLag();
+
+    assertEquals("replica-0", router.readOnly());
+  }
+
+  @Test
+  void getConnection_whenReplicaReportsNoLag_thenReplicaIsTreatedAsNotReplicating() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+    new JdbcTemplate(firstReplica.getDataSource()).update("UPDATE replication_lag SET seconds = NULL");
+
+    router.routingDataSource.checkReplicaLag();
+
+    assertEquals("primary", router.readOnly());
+  }
+
+  @Test
+  void getConnection_whenReplicaCannotBeChecked_thenPrimaryIsUsed() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+    new JdbcTemplate(firstReplica.getDataSource()).execute("DROP TABLE replication_lag");
+
+    router.routingDataSource.checkReplicaLag();
+
+    assertEquals("primary", router.readOnly());
+  }
+
+  @Test
+  void getConnection_whenRequestHasWritten_thenLaterReadsInThatRequestStayOnPrimary() {
+    Router router = new Router(ReplicaSelectionStrategy.ROUND_ROBIN, firstReplica);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertEquals("replica-0", router.readOnly());
+
+    router.readWrite();
+
+    assertEquals("primary", router.readOnly());
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertEquals("replica-0", router.readOnly());
+  }
+
+  private static HikariDataSource createNode(String name) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(name);
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    dataSource.setMaximumPoolSize(4);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(32))");
+    jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+    jdbcTemplate.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+    jdbcTemplate.update("INSERT INTO replication_lag VALUES (0)");
+    return dataSource;
+  }
+
+  private static void setLag(Replica replica, long seconds) {
+    new JdbcTemplate(replica.getDataSource()).update("UPDATE replication_lag SET seconds = ?", seconds);
+  }
+
+  private class Router {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate readWriteTransaction;
+
+    Router(ReplicaSelectionStrategy strategy, Replica... replicas) {
+      routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replicas), strategy, LAG_QUERY, MAX_LAG);
+      LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+      DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+      jdbcTemplate = new JdbcTemplate(dataSource);
+      readOnlyTransaction = new TransactionTemplate(transactionManager);
+      readOnlyTransaction.setReadOnly(true);
+      readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    String readOnly() {
+      return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    String readWrite() {
+      return readWriteTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+  }
+}
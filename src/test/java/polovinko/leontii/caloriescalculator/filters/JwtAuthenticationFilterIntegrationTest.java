@@ -2,6 +2,7 @@ package polovinko.leontii.caloriescalculator.filters;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,13 +10,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.UserCache;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -26,10 +35,13 @@ import polovinko.leontii.caloriescalculator.utils.JwtUtils;
     scripts = "classpath:scripts/truncate_tables.sql")
 class JwtAuthenticationFilterIntegrationTest {
 
+  private static final long SIGN_IN_TIMEOUT_SECONDS = 5;
   private static final String REQUEST_BODY = "{\"email\":\"%s\", \"password\":\"%s\"}";
 
   @Autowired
   private MockMvc mockMvc;
+  @Autowired
+  private UserCache userCache;
   private MockHttpServletRequestBuilder request;
 
   @BeforeEach
@@ -38,13 +50,16 @@ class JwtAuthenticationFilterIntegrationTest {
     request.contentType(MediaType.APPLICATION_JSON);
   }
 
+  @AfterEach
+  void tearDown() {
+    userCache.invalidateAll();
+  }
+
   @Test
   void authenticationTest_whenValidCredentialsPassed_thenAuthenticationSucceeds() throws Exception {
     request.content(String.format(REQUEST_BODY, "validUser", "user"));
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.OK.value(), response.getStatus());
     assertNotNull(response.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER));
@@ -55,9 +70,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenNonRegisteredEmailPassed_thenErrorMessageIsReturned() throws Exception {
     request.content(String.format(REQUEST_BODY, "user", "user"));
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -68,9 +81,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenEmailIsNotPassed_thenErrorMessageIsReturned() throws Exception {
     request.content("{\"password\":\"user\"}");
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -81,9 +92,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenInvalidPasswordPassed_thenErrorMessageIsReturned() throws Exception {
     request.content(String.format(REQUEST_BODY, "validUser", "userr"));
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -94,9 +103,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenPasswordIsNotPassed_thenErrorMessageIsReturned() throws Exception {
     request.content("{\"email\":\"validUser\"}");
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -107,9 +114,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenJsonFormatIsIncorrect_thenErrorMessageIsReturned() throws Exception {
     request.content("{email:validUser}");
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -118,9 +123,7 @@ class JwtAuthenticationFilterIntegrationTest {
 
   @Test
   void authenticationTest_whenPayloadIsEmpty_thenErrorMessageIsReturned() throws Exception {
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -131,9 +134,7 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenUserIsLocked_thenErrorMessageIsReturned() throws Exception {
     request.content(String.format(REQUEST_BODY, "lockedUser", "user"));
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
@@ -144,12 +145,50 @@ class JwtAuthenticationFilterIntegrationTest {
   void authenticationTest_whenUserIsDisabled_thenErrorMessageIsReturned() throws Exception {
     request.content(String.format(REQUEST_BODY, "disabledUser", "user"));
 
-    MockHttpServletResponse response = mockMvc.perform(request)
-        .andReturn()
-        .getResponse();
+    MockHttpServletResponse response = performSignIn();
 
     assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
     assertEquals(MediaType.APPLICATION_JSON.toString(), response.getContentType());
     assertTrue(response.getContentAsString().contains("User is disabled"));
   }
+
+  private MockHttpServletResponse performSignIn() throws Exception {
+    MvcResult result = mockMvc.perform(request).andReturn();
+    MockHttpServletRequest servletRequest = result.getRequest();
+    AsyncContext asyncContext = servletRequest.getAsyncContext();
+    if (asyncContext != null) {
+      CountDownLatch completion = new CountDownLatch(1);
+      asyncContext.addListener(new CompletionListener(completion));
+      if (servletRequest.isAsyncStarted() && !completion.await(SIGN_IN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        fail("Sign-in did not complete within " + SIGN_IN_TIMEOUT_SECONDS + " seconds");
+      }
+    }
+    return result.getResponse();
+  }
+
+  private static class CompletionListener implements AsyncListener {
+
+    private final CountDownLatch completion;
+
+    private CompletionListener(CountDownLatch completion) {
+      this.completion = completion;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      completion.countDown();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
 }
@@ -0,0 +1,102 @@
+package polovinko.leontii.caloriescalculator.filters;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import polovinko.leontii.caloriescalculator.handlers.errors.ErrorHandler;
+import polovinko.leontii.caloriescalculator.helpers.JsonMapperGenerator;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+  private static final String REQUEST_BODY = "{\"email\":\"validUser\", \"password\":\"user\"}";
+
+  @Mock
+  private AuthenticationManager authenticationManager;
+  @Mock
+  private JwtService jwtService;
+  @Mock
+  private ErrorHandler errorHandler;
+  private JwtAuthenticationFilter jwtAuthenticationFilter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    jwtAuthenticationFilter = new JwtAuthenticationFilter();
+    jwtAuthenticationFilter.setAuthenticationManager(authenticationManager);
+    jwtAuthenticationFilter.setJwtUtils(jwtService);
+    jwtAuthenticationFilter.setJsonMapper(JsonMapperGenerator.createJsonMapper(new ObjectMapper()));
+    jwtAuthenticationFilter.setErrorHandler(errorHandler);
+    jwtAuthenticationFilter.setAuthenticationFailureHandler(errorHandler);
+    request = new MockHttpServletRequest("POST", "/api/auth/sign-in");
+    request.setContent(REQUEST_BODY.getBytes(StandardCharsets.UTF_8));
+    request.setAsyncSupported(true);
+    response = new MockHttpServletResponse();
+  }
+
+  @Test
+  void attemptAuthentication_whenExecutorAcceptsTask_thenAuthenticationCompletesAsynchronously() {
+    User user = UserGenerator.createUser(UserRole.USER, "validUser");
+    when(authenticationManager.authenticate(any()))
+        .thenReturn(new UsernamePasswordAuthenticationToken(user, null, UserRole.USER.getAuthorities()));
+    when(jwtService.createAccessToken(same(user), any())).thenReturn("accessToken");
+    when(jwtService.createRefreshToken(same(user), any())).thenReturn("refreshToken");
+    jwtAuthenticationFilter.setSignInExecutor(task -> {
+      assertTrue(request.isAsyncStarted());
+      task.run();
+    });
+
+    assertNull(jwtAuthenticationFilter.attemptAuthentication(request, response));
+
+    assertFalse(request.isAsyncStarted());
+    assertEquals("accessToken", response.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER));
+    assertEquals("refreshToken", response.getHeader(JwtUtils.REFRESH_TOKEN_RESPONSE_HEADER));
+  }
+
+  @Test
+  void attemptAuthentication_whenExecutorIsSaturated_thenServiceUnavailableErrorIsWritten() {
+    jwtAuthenticationFilter.setSignInExecutor(task -> {
+      throw new RejectedExecutionException();
+    });
+
+    assertNull(jwtAuthenticationFilter.attemptAuthentication(request, response));
+
+    assertFalse(request.isAsyncStarted());
+    assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    verify(errorHandler).handleError(same(request), same(response), any(RejectedExecutionException.class),
+        eq(HttpStatus.SERVICE_UNAVAILABLE));
+    verifyNoInteractions(authenticationManager);
+  }
+
+  @Test
+  void attemptAuthentication_whenAsyncIsNotSupported_thenAuthenticationRunsOnCallingThread() {
+    UsernamePasswordAuthenticationToken authResult = new UsernamePasswordAuthenticationToken("validUser", null);
+    when(authenticationManager.authenticate(any())).thenReturn(authResult);
+    request.setAsyncSupported(false);
+
+    assertSame(authResult, jwtAuthenticationFilter.attemptAuthentication(request, response));
+  }
+}
@@ -3,6 +3,7 @@ package polovinko.leontii.caloriescalculator.filters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,10 +17,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.dao.RevokedTokenRepository;
 import polovinko.leontii.caloriescalculator.helpers.TestConstants;
 import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
 import polovinko.leontii.caloriescalculator.models.User;
 import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import java.time.Duration;
 
@@ -34,15 +39,25 @@ class JwtAuthorizationFilterIntegrationTest {
   @Autowired
   private MockMvc mockMvc;
   private MockHttpServletRequestBuilder request;
-  @Value("${jwt.secretKey}")
-  private String secretKey;
+  @Autowired
+  private JwtCodec jwtCodec;
   @Value("${jwt.validity.accessToken}")
   private Duration tokenValidity;
+  @Autowired
+  private RevokedTokenRepository revokedTokenRepository;
+  @Autowired
+  private JwtRevocationService revocationService;
+
+  @AfterEach
+  void tearDown() {
+    revokedTokenRepository.deleteAll();
+    revocationService.reloadRevocations();
+  }
 
   @Test
   void doFilterInternal_whenUserTriesToGetUsersContent_thenUsersContentIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.USER, TestConstants.USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, tokenValidity, secretKey);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
     setUpRequest(USER_API, jwt);
 
     mockMvc.perform(request)
@@ -53,7 +68,7 @@ class JwtAuthorizationFilterIntegrationTest {
   @Test
   void doFilterInternal_whenAdminTriesToGetUsersContent_thenErrorMessageIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.ADMIN, TestConstants.USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, tokenValidity, secretKey);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
     setUpRequest(USER_API, jwt);
 
     MockHttpServletResponse response = mockMvc.perform(request)
@@ -67,7 +82,7 @@ class JwtAuthorizationFilterIntegrationTest {
   @Test
   void doFilterInternal_whenAdminTriesToGetAdminsContent_thenAdminsContentIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.ADMIN, TestConstants.USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, tokenValidity, secretKey);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
     setUpRequest(ADMIN_API, jwt);
 
     mockMvc.perform(request)
@@ -78,7 +93,7 @@ class JwtAuthorizationFilterIntegrationTest {
   @Test
   void doFilterInternal_whenUserTriesToGetAdminsContent_thenErrorMessageIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.USER, TestConstants.USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, tokenValidity, secretKey);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
     setUpRequest(ADMIN_API, jwt);
 
     MockHttpServletResponse response = mockMvc.perform(request)
@@ -92,7 +107,7 @@ class JwtAuthorizationFilterIntegrationTest {
   @Test
   void doFilterInternal_whenJwtIsExpired_thenErrorMessageIsReturned() throws Exception {
     User user = UserGenerator.createUser(UserRole.ADMIN, TestConstants.USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, TestConstants.ISSUER, Duration.ofMillis(1), secretKey);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, Duration.ofMillis(1));
     setUpRequest(USER_API, jwt);
 
     MockHttpServletResponse response = mockMvc.perform(request)
@@ -103,6 +118,20 @@ class JwtAuthorizationFilterIntegrationTest {
     assertTrue(response.getContentAsString().contains("JWT expired at"));
   }
 
+  @Test
+  void doFilterInternal_whenRefreshTokenIsUsedAsBearer_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, TestConstants.USER_EMAIL);
+    String jwt = jwtCodec.encode(user, JwtTokenType.REFRESH, TestConstants.ISSUER, tokenValidity);
+    setUpRequest(USER_API, jwt);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains("JWT of type 'REFRESH' cannot be used as an access token"));
+  }
+
   @Test
   void doFilterInternal_whenAuthorizationHeaderIsAbsent_thenErrorMessageIsReturned() throws Exception {
     request = MockMvcRequestBuilders.get(USER_API);
@@ -168,6 +197,29 @@ class JwtAuthorizationFilterIntegrationTest {
     assertTrue(response.getContentAsString().contains(JwtUtils.JWT_NOT_FOUND_MSG));
   }
 
+  @Test
+  void doFilterInternal_whenJwtIsRevokedBySignOut_thenErrorMessageIsReturned() throws Exception {
+    User user = UserGenerator.createUser(UserRole.USER, TestConstants.USER_EMAIL);
+    String jwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
+    String anotherJwt = jwtCodec.encode(user, TestConstants.ISSUER, tokenValidity);
+    mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/sign-out")
+            .header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + jwt))
+        .andExpect(status().isOk());
+    revocationService.reloadRevocations();
+    setUpRequest(USER_API, jwt);
+
+    MockHttpServletResponse response = mockMvc.perform(request)
+        .andReturn()
+        .getResponse();
+
+    assertEquals(1, revokedTokenRepository.count());
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+    assertTrue(response.getContentAsString().contains(JwtUtils.REVOKED_JWT_MSG));
+    setUpRequest(USER_API, anotherJwt);
+    mockMvc.perform(request)
+        .andExpect(status().isOk());
+  }
+
   private void setUpRequest(String endPoint, String jwt) {
     request = MockMvcRequestBuilders.get(endPoint);
     request.contentType(MediaType.APPLICATION_JSON);
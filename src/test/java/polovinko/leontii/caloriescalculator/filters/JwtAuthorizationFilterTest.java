@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.impl.DefaultClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +12,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import polovinko.leontii.caloriescalculator.config.RouteConfig;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.UserRole;
 import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
-import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.revocation.JwtRevocationService;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -28,6 +32,8 @@ public class JwtAuthorizationFilterTest {
   @Mock
   private JwtService jwtService;
   @Mock
+  private JwtRevocationService revocationService;
+  @Mock
   private HttpServletRequest request;
   @Mock
   private FilterChain filterChain;
@@ -35,7 +41,8 @@ public class JwtAuthorizationFilterTest {
 
   @BeforeEach
   void setUp() {
-    jwtAuthorizationFilter = new JwtAuthorizationFilter(jwtService);
+    jwtAuthorizationFilter = new JwtAuthorizationFilter(jwtService, revocationService, new RouteConfig().routeTable());
+    when(request.getContextPath()).thenReturn("");
   }
 
   @Test
@@ -58,31 +65,46 @@ public class JwtAuthorizationFilterTest {
 
   @Test
   void doFilterInternal_whenRequestToAuthorizePassed_thenFilterAuthorizeRequest() throws ServletException, IOException {
-    List<SimpleGrantedAuthority> expectedAuthorities = List.of(new SimpleGrantedAuthority(JwtUtils.ROLE_CLAIM));
-    DefaultClaims claims = mock(DefaultClaims.class);
-    when(claims.get(JwtUtils.ROLE_CLAIM)).thenReturn(JwtUtils.ROLE_CLAIM);
-    when(jwtService.getClaimsFromRequest(request)).thenReturn(claims);
+    List<SimpleGrantedAuthority> expectedAuthorities = List.of(new SimpleGrantedAuthority(UserRole.USER.name()));
+    JwtPrincipal principal = new JwtPrincipal("email", UserRole.USER, "userId", "tokenId", 0, JwtTokenType.ACCESS, 0);
+    when(jwtService.decodePrincipalFromRequest(request)).thenReturn(JwtDecodingResult.valid(principal));
     when(request.getRequestURI()).thenReturn("/api/home");
 
     jwtAuthorizationFilter.doFilterInternal(request, null, filterChain);
 
-    verify(jwtService).getClaimsFromRequest(same(request));
+    verify(jwtService).decodePrincipalFromRequest(same(request));
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     assertEquals(1, authentication.getAuthorities().size());
     assertEquals(expectedAuthorities, authentication.getAuthorities());
+    assertSame(UserRole.USER.getAuthorities(), authentication.getAuthorities());
+    assertEquals("email", authentication.getPrincipal());
   }
 
   @Test
-  void doFilterInternal_whenExceptionThrownWhileGettingClaimsFromRequest_thenFilterSetsErrorRequestAttribute()
+  void doFilterInternal_whenJwtIsNotDecoded_thenFilterSetsErrorRequestAttribute()
       throws ServletException, IOException {
 
+    JwtDecodingResult result = JwtDecodingResult.invalid(JwtDecodingStatus.MALFORMED, () -> "Server error message");
+    when(request.getRequestURI()).thenReturn("/api/home");
+    when(jwtService.decodePrincipalFromRequest(request)).thenReturn(result);
+
+    jwtAuthorizationFilter.doFilterInternal(request, null, filterChain);
+
+    verify(request).setAttribute("jwt_parsing_error", result);
+  }
+
+  @Test
+  void doFilterInternal_whenTokenIsRevoked_thenFilterSetsErrorRequestAttribute() throws ServletException, IOException {
+    SecurityContextHolder.getContext().setAuthentication(null);
+    JwtPrincipal principal = new JwtPrincipal("email", UserRole.USER, "userId", "tokenId", 0, JwtTokenType.ACCESS, 0);
     when(request.getRequestURI()).thenReturn("/api/home");
-    when(jwtService.getClaimsFromRequest(request))
-        .thenThrow(new JwtException("Server error message"));
+    when(jwtService.decodePrincipalFromRequest(request)).thenReturn(JwtDecodingResult.valid(principal));
+    when(revocationService.isRevoked(principal)).thenReturn(true);
 
     jwtAuthorizationFilter.doFilterInternal(request, null, filterChain);
 
-    verify(request).setAttribute("jwt_parsing_error", "Server error message");
+    verify(request).setAttribute("jwt_parsing_error", JwtDecodingResult.REVOKED);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
   }
 
   @Test
@@ -91,6 +113,7 @@ public class JwtAuthorizationFilterTest {
 
     SecurityContextHolder.getContext().setAuthentication(null);
     when(request.getRequestURI()).thenReturn("/api/home");
+    when(jwtService.decodePrincipalFromRequest(request)).thenReturn(JwtDecodingResult.MISSING);
 
     jwtAuthorizationFilter.doFilterInternal(request, null, filterChain);
 
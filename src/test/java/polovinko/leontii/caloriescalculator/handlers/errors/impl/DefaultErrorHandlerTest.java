@@ -20,7 +20,9 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
 import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
 import polovinko.leontii.caloriescalculator.services.writers.response.ResponseErrorWriter;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -70,6 +72,17 @@ class DefaultErrorHandlerTest {
     assertNotNull(errorMessage.getHappenedAt());
   }
 
+  @Test
+  void handleError_whenJwtDecodingResultAttributeIsPassed_thenResultMessageIsReturned() {
+    RuntimeException exception = new UsernameNotFoundException(ERROR_MESSAGE);
+    when(request.getAttribute(JWT_ERROR_ATTRIBUTE)).thenReturn(JwtDecodingResult.MISSING);
+
+    defaultErrorHandler.handleError(request, response, exception, HttpStatus.UNAUTHORIZED);
+
+    verify(errorWriter).writeErrorMessage(same(response), errorMessageCaptor.capture());
+    assertEquals(JwtUtils.JWT_NOT_FOUND_MSG, errorMessageCaptor.getValue().getMessage());
+  }
+
   @Test
   void handleJwtExceptions_whenExceptionIsPassed_thenResponseIsReturned() {
     JwtException exception = new JwtException(ERROR_MESSAGE);
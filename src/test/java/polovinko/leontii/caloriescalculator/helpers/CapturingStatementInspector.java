@@ -0,0 +1,26 @@
+package polovinko.leontii.caloriescalculator.helpers;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+  private static final List<String> STATEMENTS = new ArrayList<>();
+
+  public static synchronized void clear() {
+    STATEMENTS.clear();
+  }
+
+  public static synchronized List<String> getStatements() {
+    return new ArrayList<>(STATEMENTS);
+  }
+
+  @Override
+  public String inspect(String sql) {
+    synchronized (CapturingStatementInspector.class) {
+      STATEMENTS.add(sql);
+    }
+    return sql;
+  }
+}
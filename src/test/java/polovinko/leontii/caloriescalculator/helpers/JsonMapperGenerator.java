@@ -0,0 +1,17 @@
+package polovinko.leontii.caloriescalculator.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import polovinko.leontii.caloriescalculator.services.json.codec.impl.ErrorMessageJsonCodec;
+import polovinko.leontii.caloriescalculator.services.json.codec.impl.UserLoginRequestJsonCodec;
+import polovinko.leontii.caloriescalculator.services.json.impl.DefaultJsonMapper;
+import java.util.List;
+
+public class JsonMapperGenerator {
+
+  public static DefaultJsonMapper createJsonMapper(ObjectMapper objectMapper) {
+    return new DefaultJsonMapper(objectMapper, List.of(
+        new UserLoginRequestJsonCodec(objectMapper),
+        new ErrorMessageJsonCodec(objectMapper)
+    ));
+  }
+}
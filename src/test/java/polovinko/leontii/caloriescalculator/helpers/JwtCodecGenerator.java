@@ -0,0 +1,30 @@
+package polovinko.leontii.caloriescalculator.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import polovinko.leontii.caloriescalculator.config.JwtKeyringProperties;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.impl.DefaultJwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.impl.DefaultJwtKeyringProvider;
+import java.util.Map;
+
+public class JwtCodecGenerator {
+
+  public static final String KEY_ID = "testKey";
+
+  public static DefaultJwtCodec createJwtCodec(String secretKey) {
+    JwtKeyringProperties properties = createKeyringProperties(KEY_ID, Map.of(KEY_ID, secretKey));
+    return createJwtCodec(properties);
+  }
+
+  public static DefaultJwtCodec createJwtCodec(JwtKeyringProperties properties) {
+    ObjectMapper objectMapper = new ObjectMapper();
+    DefaultJwtKeyringProvider keyringProvider = new DefaultJwtKeyringProvider(properties, objectMapper, event -> {});
+    return new DefaultJwtCodec(keyringProvider, objectMapper);
+  }
+
+  public static JwtKeyringProperties createKeyringProperties(String activeKeyId, Map<String, String> keys) {
+    JwtKeyringProperties properties = new JwtKeyringProperties();
+    properties.setActiveKeyId(activeKeyId);
+    properties.setKeys(keys);
+    return properties;
+  }
+}
@@ -0,0 +1,23 @@
+package polovinko.leontii.caloriescalculator.helpers;
+
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import javax.persistence.EntityManagerFactory;
+
+public class SecondLevelCacheEvictingListener extends AbstractTestExecutionListener {
+
+  @Override
+  public void beforeTestMethod(TestContext testContext) {
+    evictAll(testContext);
+  }
+
+  @Override
+  public void afterTestMethod(TestContext testContext) {
+    evictAll(testContext);
+  }
+
+  private static void evictAll(TestContext testContext) {
+    testContext.getApplicationContext().getBeansOfType(EntityManagerFactory.class).values()
+        .forEach(entityManagerFactory -> entityManagerFactory.getCache().evictAll());
+  }
+}
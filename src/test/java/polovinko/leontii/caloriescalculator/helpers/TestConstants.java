@@ -11,4 +11,5 @@ public class TestConstants {
   public static final String INCORRECT_BEARER_PREFIX = "Baerer ";
   public static final String FAKE_JWT = "fakeJsonWebToken";
   public static final Duration TOKEN_VALIDITY = Duration.ofMinutes(10);
+  public static final long CACHE_SIZE = 100;
 }
@@ -0,0 +1,86 @@
+package polovinko.leontii.caloriescalculator.services.authorization.cache.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.CACHE_SIZE;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.USER_EMAIL;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.models.UserSecurityChangedEvent;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DefaultUserCacheTest {
+
+  private static final Duration LONG_TTL = Duration.ofMinutes(10);
+  private static final Duration SHORT_TTL = Duration.ofMillis(50);
+
+  private final AtomicInteger loadedUsers = new AtomicInteger();
+  private final User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+
+  @Test
+  void getUser_whenSameEmailIsPassedTwice_thenUserIsLoadedOnce() {
+    DefaultUserCache userCache = createUserCache(true, LONG_TTL, LONG_TTL);
+
+    Optional<User> firstUser = userCache.getUser(USER_EMAIL, this::loadUser);
+    Optional<User> secondUser = userCache.getUser(USER_EMAIL, this::loadUser);
+
+    assertSame(user, firstUser.orElseThrow());
+    assertSame(user, secondUser.orElseThrow());
+    assertEquals(1, loadedUsers.get());
+    assertEquals(1, userCache.getStats().hitCount());
+  }
+
+  @Test
+  void getUser_whenCacheIsDisabled_thenUserIsLoadedEveryTime() {
+    DefaultUserCache userCache = createUserCache(false, LONG_TTL, LONG_TTL);
+
+    userCache.getUser(USER_EMAIL, this::loadUser);
+    userCache.getUser(USER_EMAIL, this::loadUser);
+
+    assertEquals(2, loadedUsers.get());
+  }
+
+  @Test
+  void getUser_whenUserDoesNotExist_thenAbsenceIsCachedForNegativeTtl() throws InterruptedException {
+    DefaultUserCache userCache = createUserCache(true, LONG_TTL, SHORT_TTL);
+
+    assertTrue(userCache.getUser(USER_EMAIL, this::loadMissingUser).isEmpty());
+    assertTrue(userCache.getUser(USER_EMAIL, this::loadMissingUser).isEmpty());
+    assertEquals(1, loadedUsers.get());
+
+    Thread.sleep(SHORT_TTL.toMillis() * 2);
+
+    userCache.getUser(USER_EMAIL, this::loadMissingUser);
+    assertEquals(2, loadedUsers.get());
+  }
+
+  @Test
+  void onUserSecurityChanged_whenEventIsPublished_thenUserIsReloaded() {
+    DefaultUserCache userCache = createUserCache(true, LONG_TTL, LONG_TTL);
+    userCache.getUser(USER_EMAIL, this::loadUser);
+
+    userCache.onUserSecurityChanged(new UserSecurityChangedEvent(USER_EMAIL));
+    userCache.getUser(USER_EMAIL, this::loadUser);
+
+    assertEquals(2, loadedUsers.get());
+  }
+
+  private DefaultUserCache createUserCache(boolean enabled, Duration ttl, Duration negativeTtl) {
+    return new DefaultUserCache(enabled, CACHE_SIZE, ttl, negativeTtl, new SimpleMeterRegistry());
+  }
+
+  private Optional<User> loadUser(String email) {
+    loadedUsers.incrementAndGet();
+    return Optional.of(user);
+  }
+
+  private Optional<User> loadMissingUser(String email) {
+    loadedUsers.incrementAndGet();
+    return Optional.empty();
+  }
+}
@@ -2,25 +2,39 @@ package polovinko.leontii.caloriescalculator.services.authorization.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.CACHE_SIZE;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import polovinko.leontii.caloriescalculator.dao.UserRepository;
 import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.impl.DefaultUserCache;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultUserServiceTest {
 
   @Mock
   private UserRepository userRepository;
-  @InjectMocks
   private DefaultUserService defaultUserService;
 
+  @BeforeEach
+  void setUp() {
+    Duration ttl = Duration.ofMinutes(1);
+    DefaultUserCache userCache = new DefaultUserCache(false, CACHE_SIZE, ttl, ttl, new SimpleMeterRegistry());
+    defaultUserService = new DefaultUserService(userRepository, userCache);
+  }
+
   @Test
   void loadUserByUsername_whenDbContainsUserWithPassedEmail_thenUserIsReturned() {
     User user = new User();
@@ -39,22 +53,52 @@ class DefaultUserServiceTest {
   }
 
   @Test
-  void loadActiveUserByEmail_whenDbContainsActiveUserWithPassedEmail_thenUserIsReturned() {
-    User user = new User();
-    when(userRepository.findActiveUserByEmail("email")).thenReturn(Optional.of(user));
+  void loadActiveUserTokenState_whenDbContainsActiveUserWithPassedId_thenTokenStateIsReturned() {
+    UUID userId = UUID.randomUUID();
+    UserTokenState tokenState = new UserTokenState("email", UserRole.USER, true, false, 3);
+    when(userRepository.findTokenStateById(userId)).thenReturn(Optional.of(tokenState));
 
-    User userDetails = defaultUserService.loadActiveUserByEmail("email");
-
-    assertSame(user, userDetails);
+    assertSame(tokenState, defaultUserService.loadActiveUserTokenState("email", userId));
   }
 
   @Test
-  void loadUserByUsername_whenDbDoesNotContainActiveUserWithPassedEmail_thenExceptionIsThrown() {
+  void loadActiveUserTokenState_whenDbDoesNotContainUserWithPassedId_thenExceptionIsThrown() {
     String expectedErrorMessage = "Active user with email 'email' not found. " +
         "Either user does not exist, or user is not active.";
 
-    UsernameNotFoundException exception =
-        assertThrows(UsernameNotFoundException.class, () -> defaultUserService.loadActiveUserByEmail("email"));
+    UsernameNotFoundException exception = assertThrows(UsernameNotFoundException.class,
+        () -> defaultUserService.loadActiveUserTokenState("email", UUID.randomUUID()));
     assertEquals(expectedErrorMessage, exception.getMessage());
   }
+
+  @Test
+  void loadActiveUserTokenState_whenUserWithPassedIdIsDisabled_thenExceptionIsThrown() {
+    UUID userId = UUID.randomUUID();
+    UserTokenState tokenState = new UserTokenState("email", UserRole.USER, false, false, 3);
+    when(userRepository.findTokenStateById(userId)).thenReturn(Optional.of(tokenState));
+
+    assertThrows(UsernameNotFoundException.class,
+        () -> defaultUserService.loadActiveUserTokenState("email", userId));
+  }
+
+  @Test
+  void loadActiveUserTokenState_whenUserWithPassedIdHasOtherEmail_thenExceptionIsThrown() {
+    UUID userId = UUID.randomUUID();
+    UserTokenState tokenState = new UserTokenState("otherEmail", UserRole.USER, false, false, 3);
+    when(userRepository.findTokenStateById(userId)).thenReturn(Optional.of(tokenState));
+
+    AuthenticationServiceException exception = assertThrows(AuthenticationServiceException.class,
+        () -> defaultUserService.loadActiveUserTokenState("email", userId));
+    assertEquals("JWT is invalid", exception.getMessage());
+  }
+
+  @Test
+  void loadActiveUserTokenState_whenUserWithPassedIdIsLocked_thenExceptionIsThrown() {
+    UUID userId = UUID.randomUUID();
+    UserTokenState tokenState = new UserTokenState("email", UserRole.USER, true, true, 3);
+    when(userRepository.findTokenStateById(userId)).thenReturn(Optional.of(tokenState));
+
+    assertThrows(UsernameNotFoundException.class,
+        () -> defaultUserService.loadActiveUserTokenState("email", userId));
+  }
 }
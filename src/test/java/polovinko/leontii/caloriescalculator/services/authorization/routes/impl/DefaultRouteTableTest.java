@@ -0,0 +1,65 @@
+package polovinko.leontii.caloriescalculator.services.authorization.routes.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import polovinko.leontii.caloriescalculator.config.RouteConfig;
+import polovinko.leontii.caloriescalculator.models.JwtAuthentication;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteAccess;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteRule;
+import polovinko.leontii.caloriescalculator.services.authorization.routes.RouteTable;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import java.util.List;
+
+class DefaultRouteTableTest {
+
+  private final RouteTable routeTable = new RouteConfig().routeTable();
+
+  @Test
+  void resolve_whenExactRouteIsRegistered_thenExactRouteWinsOverSubtree() {
+    assertSame(RouteAccess.ANONYMOUS, routeTable.resolve("/api/auth/sign-in"));
+    assertSame(RouteAccess.ANONYMOUS, routeTable.resolve("/api/auth/refresh-token"));
+    assertSame(RouteAccess.PERMIT_ALL, routeTable.resolve("/api/auth/sign-out"));
+  }
+
+  @Test
+  void resolve_whenPathIsInsideSubtree_thenDeepestSubtreeIsReturned() {
+    assertSame(RouteAccess.PERMIT_ALL, routeTable.resolve("/api/auth"));
+    assertSame(RouteAccess.PERMIT_ALL, routeTable.resolve("/api/auth/sign-in/extra"));
+    assertTrue(routeTable.resolve("/api/admin/users/1").getAllowedAuthorities().contains("ADMIN"));
+  }
+
+  @Test
+  void resolve_whenNoRuleMatches_thenDefaultAccessIsReturned() {
+    assertSame(RouteAccess.AUTHENTICATED, routeTable.resolve("/api/unknown"));
+    assertSame(RouteAccess.AUTHENTICATED, routeTable.resolve("/"));
+    assertSame(RouteAccess.AUTHENTICATED, routeTable.resolve(""));
+  }
+
+  @Test
+  void constructor_whenPatternIsDuplicated_thenExceptionIsThrown() {
+    List<RouteRule> rules = List.of(
+        new RouteRule("/api/user/**", RouteAccess.PERMIT_ALL),
+        new RouteRule("/api/user/**", RouteAccess.AUTHENTICATED)
+    );
+
+    assertThrows(IllegalArgumentException.class, () -> new DefaultRouteTable(rules, RouteAccess.AUTHENTICATED));
+  }
+
+  @Test
+  void isGranted_whenRoleIsRequired_thenOnlyAuthenticationsWithThatRoleAreGranted() {
+    RouteAccess access = routeTable.resolve("/api/user");
+    JwtAuthentication user = new JwtAuthentication(new JwtPrincipal("email", UserRole.USER, "id", "jti", 0, JwtTokenType.ACCESS, 0));
+    JwtAuthentication admin = new JwtAuthentication(new JwtPrincipal("email", UserRole.ADMIN, "id", "jti", 0, JwtTokenType.ACCESS, 0));
+    AnonymousAuthenticationToken anonymous =
+        new AnonymousAuthenticationToken("key", "anonymousUser", UserRole.USER.getAuthorities());
+
+    assertTrue(access.isGranted(user));
+    assertFalse(access.isGranted(admin));
+    assertFalse(access.isGranted(anonymous));
+    assertFalse(access.isGranted(null));
+  }
+}
@@ -0,0 +1,75 @@
+package polovinko.leontii.caloriescalculator.services.json.codec.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+class ErrorMessageJsonCodecTest {
+
+  private ObjectMapper objectMapper;
+  private ErrorMessageJsonCodec codec;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.findAndRegisterModules();
+    codec = new ErrorMessageJsonCodec(objectMapper);
+  }
+
+  @Test
+  void write_whenErrorMessageIsPassed_thenSameJsonAsObjectMapperIsWritten() throws IOException {
+    ErrorMessage errorMessage = new ErrorMessage(JwtUtils.INVALID_JWT_ERROR_MESSAGE, CoarseClock.now(),
+        HttpStatus.UNAUTHORIZED);
+
+    assertEquals(objectMapper.writeValueAsString(errorMessage), write(errorMessage));
+  }
+
+  @Test
+  void write_whenFieldsAreNull_thenNullsAreWritten() throws IOException {
+    ErrorMessage errorMessage = new ErrorMessage(null, null, HttpStatus.UNAUTHORIZED);
+
+    assertEquals(objectMapper.writeValueAsString(errorMessage), write(errorMessage));
+  }
+
+  @Test
+  void read_whenWrittenMessageIsRead_thenFieldsAreRestored() throws IOException {
+    LocalDateTime happenedAt = LocalDateTime.of(2022, 10, 18, 12, 30, 15);
+    ErrorMessage errorMessage = new ErrorMessage("Active user with email 'a\"b@gmail.com' not found", happenedAt,
+        HttpStatus.UNAUTHORIZED);
+
+    ErrorMessage result = read(write(errorMessage));
+
+    assertEquals(errorMessage.getMessage(), result.getMessage());
+    assertEquals(happenedAt, result.getHappenedAt());
+    assertNull(result.getHttpStatus());
+  }
+
+  @Test
+  void read_whenHappenedAtIsMalformed_thenThrowsException() {
+    assertThrows(JsonProcessingException.class, () -> read("{\"message\":\"m\",\"happenedAt\":\"yesterday\"}"));
+  }
+
+  private String write(ErrorMessage errorMessage) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    codec.write(errorMessage, outputStream);
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+
+  private ErrorMessage read(String json) throws IOException {
+    return codec.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+}
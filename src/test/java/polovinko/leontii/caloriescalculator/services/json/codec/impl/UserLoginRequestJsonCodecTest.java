@@ -0,0 +1,70 @@
+package polovinko.leontii.caloriescalculator.services.json.codec.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.dto.UserLoginRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class UserLoginRequestJsonCodecTest {
+
+  private ObjectMapper objectMapper;
+  private UserLoginRequestJsonCodec codec;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    codec = new UserLoginRequestJsonCodec(objectMapper);
+  }
+
+  @Test
+  void read_whenValidJsonIsPassed_thenFieldsAreRead() throws IOException {
+    UserLoginRequest loginRequest = read("{\"email\":\"user@gmail.com\",\"password\":\"pa\\\"ss\"}");
+
+    assertEquals("user@gmail.com", loginRequest.getEmail());
+    assertEquals("pa\"ss", loginRequest.getPassword());
+  }
+
+  @Test
+  void read_whenUnknownFieldsArePresent_thenTheyAreSkipped() throws IOException {
+    UserLoginRequest loginRequest = read("{\"extra\":{\"nested\":[1,2]},\"email\":\"user@gmail.com\",\"password\":null}");
+
+    assertEquals("user@gmail.com", loginRequest.getEmail());
+    assertNull(loginRequest.getPassword());
+  }
+
+  @Test
+  void read_whenBodyIsNotAnObject_thenThrowsException() {
+    assertThrows(JsonProcessingException.class, () -> read("[]"));
+    assertThrows(JsonProcessingException.class, () -> read(""));
+  }
+
+  @Test
+  void read_whenFieldIsNotScalar_thenThrowsException() {
+    assertThrows(JsonProcessingException.class, () -> read("{\"email\":{\"value\":\"user@gmail.com\"}}"));
+  }
+
+  @Test
+  void write_whenLoginRequestIsPassed_thenObjectMapperReadsSameValues() throws IOException {
+    UserLoginRequest loginRequest = new UserLoginRequest();
+    loginRequest.setEmail("user@gmail.com");
+    loginRequest.setPassword("päss");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    codec.write(loginRequest, outputStream);
+
+    assertEquals(loginRequest, objectMapper.readValue(outputStream.toByteArray(), UserLoginRequest.class));
+  }
+
+  private UserLoginRequest read(String json) throws IOException {
+    return codec.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+}
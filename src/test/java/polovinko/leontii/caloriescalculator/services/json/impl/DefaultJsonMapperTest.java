@@ -0,0 +1,82 @@
+package polovinko.leontii.caloriescalculator.services.json.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import polovinko.leontii.caloriescalculator.dto.UserLoginRequest;
+import polovinko.leontii.caloriescalculator.services.json.codec.JsonCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultJsonMapperTest {
+
+  @Mock
+  private JsonCodec<UserLoginRequest> loginRequestCodec;
+  @Mock
+  private JsonCodec<UserLoginRequest> duplicateCodec;
+
+  @Test
+  void readValue_whenCodecIsRegistered_thenCodecIsUsed() throws IOException {
+    UserLoginRequest loginRequest = new UserLoginRequest();
+    when(loginRequestCodec.getType()).thenReturn(UserLoginRequest.class);
+    when(loginRequestCodec.read(any(InputStream.class))).thenReturn(loginRequest);
+    DefaultJsonMapper jsonMapper = new DefaultJsonMapper(new ObjectMapper(), List.of(loginRequestCodec));
+
+    assertSame(loginRequest, jsonMapper.readValue(new ByteArrayInputStream(new byte[0]), UserLoginRequest.class));
+  }
+
+  @Test
+  void writeValue_whenCodecIsRegistered_thenCodecIsUsed() throws IOException {
+    UserLoginRequest loginRequest = new UserLoginRequest();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    when(loginRequestCodec.getType()).thenReturn(UserLoginRequest.class);
+    DefaultJsonMapper jsonMapper = new DefaultJsonMapper(new ObjectMapper(), List.of(loginRequestCodec));
+
+    jsonMapper.writeValue(outputStream, loginRequest);
+
+    verify(loginRequestCodec).write(same(loginRequest), same(outputStream));
+  }
+
+  @Test
+  void readValue_whenCodecIsNotRegistered_thenObjectMapperIsUsed() throws IOException {
+    DefaultJsonMapper jsonMapper = new DefaultJsonMapper(new ObjectMapper(), List.of());
+    byte[] json = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+    Map<?, ?> result = jsonMapper.readValue(new ByteArrayInputStream(json), Map.class);
+
+    assertEquals(Map.of("key", "value"), result);
+  }
+
+  @Test
+  void writeValue_whenCodecIsNotRegistered_thenObjectMapperIsUsed() throws IOException {
+    DefaultJsonMapper jsonMapper = new DefaultJsonMapper(new ObjectMapper(), List.of());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    jsonMapper.writeValue(outputStream, Map.of("key", "value"));
+
+    assertEquals("{\"key\":\"value\"}", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void constructor_whenTwoCodecsHandleSameType_thenThrowsException() {
+    when(loginRequestCodec.getType()).thenReturn(UserLoginRequest.class);
+    when(duplicateCodec.getType()).thenReturn(UserLoginRequest.class);
+    List<JsonCodec<?>> codecs = List.of(loginRequestCodec, duplicateCodec);
+
+    assertThrows(IllegalArgumentException.class, () -> new DefaultJsonMapper(new ObjectMapper(), codecs));
+  }
+}
@@ -0,0 +1,105 @@
+package polovinko.leontii.caloriescalculator.services.jwt.cache.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.helpers.JwtCodecGenerator;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DefaultJwtPrincipalCacheTest {
+
+  private final AtomicInteger parsedTokens = new AtomicInteger();
+  private final JwtCodec jwtCodec = JwtCodecGenerator.createJwtCodec(SECRET_KEY);
+
+  @Test
+  void getDecodingResult_whenSameJwtIsPassedTwice_thenJwtIsParsedOnce() {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    String jwt = buildJwt(TOKEN_VALIDITY);
+
+    JwtDecodingResult firstResult = principalCache.getDecodingResult(jwt, this::decode);
+    JwtDecodingResult secondResult = principalCache.getDecodingResult(jwt, this::decode);
+
+    assertSame(firstResult, secondResult);
+    assertEquals(1, parsedTokens.get());
+    assertEquals(1, principalCache.getStats().hitCount());
+    assertEquals(1, principalCache.getStats().missCount());
+  }
+
+  @Test
+  void getDecodingResult_whenCacheIsDisabled_thenJwtIsParsedEveryTime() {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(false, CACHE_SIZE, new SimpleMeterRegistry());
+    String jwt = buildJwt(TOKEN_VALIDITY);
+
+    principalCache.getDecodingResult(jwt, this::decode);
+    principalCache.getDecodingResult(jwt, this::decode);
+
+    assertEquals(2, parsedTokens.get());
+  }
+
+  @Test
+  void getDecodingResult_whenDecodingFails_thenInvalidResultIsReturnedAndNothingIsCached() {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    String jwt = buildJwt(TOKEN_VALIDITY) + "!";
+
+    assertEquals(JwtDecodingStatus.BAD_SIGNATURE, principalCache.getDecodingResult(jwt, this::decode).getStatus());
+    assertEquals(JwtDecodingStatus.BAD_SIGNATURE, principalCache.getDecodingResult(jwt, this::decode).getStatus());
+    assertEquals(2, parsedTokens.get());
+  }
+
+  @Test
+  void getDecodingResult_whenJwtExpiresBeforeSecondCall_thenJwtIsParsedAgain() throws InterruptedException {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    String jwt = buildJwt(Duration.ofSeconds(2));
+
+    principalCache.getDecodingResult(jwt, this::decode);
+    Thread.sleep(2100);
+
+    assertEquals(JwtDecodingStatus.EXPIRED, principalCache.getDecodingResult(jwt, this::decode).getStatus());
+    assertEquals(2, parsedTokens.get());
+  }
+
+  @Test
+  void invalidateAll_whenJwtIsCached_thenJwtIsParsedAgain() {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    String jwt = buildJwt(TOKEN_VALIDITY);
+
+    principalCache.getDecodingResult(jwt, this::decode);
+    principalCache.invalidateAll();
+    principalCache.getDecodingResult(jwt, this::decode);
+
+    assertEquals(2, parsedTokens.get());
+  }
+
+  @Test
+  void getDecodingResult_whenCacheIsFull_thenEntriesAreEvicted() throws InterruptedException {
+    DefaultJwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, 1, new SimpleMeterRegistry());
+
+    for (int i = 0; i < 10; i++) {
+      principalCache.getDecodingResult(buildJwt(TOKEN_VALIDITY), this::decode);
+    }
+    for (int attempt = 0; attempt < 50 && principalCache.getStats().evictionCount() == 0; attempt++) {
+      Thread.sleep(20);
+    }
+
+    assertTrue(principalCache.getStats().evictionCount() > 0);
+  }
+
+  private JwtDecodingResult decode(String jwt) {
+    parsedTokens.incrementAndGet();
+    return jwtCodec.tryDecodePrincipal(jwt);
+  }
+
+  private String buildJwt(Duration validity) {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    return jwtCodec.encode(user, ISSUER, validity);
+  }
+}
@@ -0,0 +1,277 @@
+package polovinko.leontii.caloriescalculator.services.jwt.codec.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.helpers.JwtCodecGenerator;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtSigningKey;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+class DefaultJwtCodecTest {
+
+  private final DefaultJwtCodec jwtCodec = JwtCodecGenerator.createJwtCodec(SECRET_KEY);
+
+  @Test
+  void encode_whenValidDataIsPassed_thenValidJwtIsReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    UUID userId = user.getId();
+
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+    Claims claims = jwtCodec.decode(jwt);
+    Instant issuedDate = claims.getIssuedAt().toInstant();
+    Instant expirationDate = claims.getExpiration().toInstant();
+
+    assertEquals(USER_EMAIL, claims.getSubject());
+    assertEquals(userId.toString(), claims.get(JwtUtils.USER_ID_CLAIM));
+    assertEquals(UserRole.USER.name(), claims.get(JwtUtils.ROLE_CLAIM));
+    assertEquals(ISSUER, claims.getIssuer());
+    assertNotNull(issuedDate);
+    assertNotNull(expirationDate);
+    assertTrue(issuedDate.isBefore(expirationDate));
+    assertEquals(TOKEN_VALIDITY.getSeconds(), expirationDate.getEpochSecond() - issuedDate.getEpochSecond());
+  }
+
+  @Test
+  void encode_whenTokenTypeIsPassed_thenTokenTypeClaimIsWritten() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+
+    Claims accessClaims = jwtCodec.decode(jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY));
+    Claims refreshClaims = jwtCodec.decode(jwtCodec.encode(user, JwtTokenType.REFRESH, ISSUER, TOKEN_VALIDITY));
+
+    assertEquals(JwtTokenType.ACCESS.name(), accessClaims.get(JwtUtils.TOKEN_TYPE_CLAIM));
+    assertEquals(JwtTokenType.REFRESH.name(), refreshClaims.get(JwtUtils.TOKEN_TYPE_CLAIM));
+  }
+
+  @Test
+  void tryDecodePrincipal_whenUserHasTokenVersion_thenPrincipalContainsTokenVersion() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    user.setTokenVersion(7);
+
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+
+    assertEquals(7, jwtCodec.tryDecodePrincipal(jwt).getPrincipal().getTokenVersion());
+    assertEquals(7, JwtPrincipal.fromClaims(jwtCodec.decode(jwt)).getTokenVersion());
+  }
+
+  @Test
+  void encode_whenJwtIsBuilt_thenHeaderContainsAlgorithmAndKeyId() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+    String header = new String(Base64.getUrlDecoder().decode(jwt.substring(0, jwt.indexOf('.'))),
+        StandardCharsets.UTF_8);
+
+    assertEquals("{\"alg\":\"HS512\",\"kid\":\"" + JwtCodecGenerator.KEY_ID + "\"}", header);
+  }
+
+  @Test
+  void decode_whenJwtIsSignedWithDifferentSecretKey_thenThrowsException() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = JwtCodecGenerator.createJwtCodec("AnotherTestSecretKey").encode(user, ISSUER, TOKEN_VALIDITY);
+
+    assertThrows(SignatureException.class, () -> jwtCodec.decode(jwt));
+  }
+
+  @Test
+  void decode_whenJwtIsIncorrect_thenThrowsException() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+
+    assertThrows(SignatureException.class, () -> jwtCodec.decode(jwt + "!"));
+    assertThrows(SignatureException.class, () -> jwtCodec.decode(jwt.substring(0, jwt.length() - 2)));
+    MalformedJwtException exception = assertThrows(MalformedJwtException.class, () -> jwtCodec.decode(FAKE_JWT));
+    assertTrue(exception.getMessage().startsWith("JWT strings must contain exactly 2 period characters."));
+  }
+
+  @Test
+  void decode_whenPayloadIsTampered_thenThrowsException() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String[] parts = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY).split("\\.");
+    User admin = UserGenerator.createUser(UserRole.ADMIN, USER_EMAIL);
+    String[] adminParts = jwtCodec.encode(admin, ISSUER, TOKEN_VALIDITY).split("\\.");
+
+    assertThrows(SignatureException.class, () -> jwtCodec.decode(parts[0] + "." + adminParts[1] + "." + parts[2]));
+  }
+
+  @Test
+  void decode_whenAlgorithmIsNone_thenThrowsException() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String[] parts = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY).split("\\.");
+    String header = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(SignatureException.class, () -> jwtCodec.decode(header + "." + parts[1] + "."));
+  }
+
+  @Test
+  void decode_whenJwtIsExpired_thenThrowsException() throws InterruptedException {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, Duration.ofMillis(1));
+    Thread.sleep(5);
+
+    ExpiredJwtException exception = assertThrows(ExpiredJwtException.class, () -> jwtCodec.decode(jwt));
+    assertTrue(exception.getMessage().startsWith("JWT expired at"));
+  }
+
+  @Test
+  void decode_whenJwtIsNotPassed_thenThrowsException() {
+    assertThrows(IllegalArgumentException.class, () -> jwtCodec.decode(null));
+    assertThrows(IllegalArgumentException.class, () -> jwtCodec.decode(""));
+    assertThrows(IllegalArgumentException.class, () -> jwtCodec.decode(WHITE_SPACES));
+  }
+
+  @Test
+  void decode_whenJwtIsSignedWithRetiringKey_thenClaimsReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    DefaultJwtCodec retiringCodec = JwtCodecGenerator.createJwtCodec(
+        JwtCodecGenerator.createKeyringProperties("old", Map.of("old", "OldSecretKey")));
+    DefaultJwtCodec rotatedCodec = JwtCodecGenerator.createJwtCodec(
+        JwtCodecGenerator.createKeyringProperties("new", Map.of("old", "OldSecretKey", "new", "NewSecretKey")));
+    String jwt = retiringCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+
+    Claims claims = rotatedCodec.decode(jwt);
+
+    assertEquals(USER_EMAIL, claims.getSubject());
+  }
+
+  @Test
+  void decode_whenJwtIsSignedWithRemovedKey_thenThrowsException() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    DefaultJwtCodec retiredCodec = JwtCodecGenerator.createJwtCodec(
+        JwtCodecGenerator.createKeyringProperties("old", Map.of("old", "OldSecretKey")));
+    DefaultJwtCodec rotatedCodec = JwtCodecGenerator.createJwtCodec(
+        JwtCodecGenerator.createKeyringProperties("new", Map.of("new", "NewSecretKey")));
+    String jwt = retiredCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+
+    assertThrows(SignatureException.class, () -> rotatedCodec.decode(jwt));
+  }
+
+  @Test
+  void tryDecodePrincipal_whenOwnJwtIsPassed_thenPrincipalReturned() {
+    User user = UserGenerator.createUser(UserRole.ADMIN, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+
+    JwtPrincipal principal = jwtCodec.tryDecodePrincipal(jwt).getPrincipal();
+
+    assertEquals(USER_EMAIL, principal.getSubject());
+    assertEquals(UserRole.ADMIN, principal.getRole());
+    assertEquals(user.getId().toString(), principal.getUserId());
+    assertEquals(jwtCodec.decode(jwt).getExpiration().toInstant().getEpochSecond(), principal.getExpiresAt());
+    assertSame(UserRole.ADMIN.getAuthorities(), principal.getAuthorities());
+    assertEquals(JwtTokenType.ACCESS, principal.getTokenType());
+  }
+
+  @Test
+  void tryDecodePrincipal_whenJwtWithoutKeyIdIsPassed_thenPrincipalIsReturnedByFallback() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String[] parts = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY).split("\\.");
+    String header = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("{\"alg\":\"HS512\"}".getBytes(StandardCharsets.UTF_8));
+    String content = header + "." + parts[1];
+    String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        new JwtSigningKey(JwtCodecGenerator.KEY_ID, SECRET_KEY).sign(content.getBytes(StandardCharsets.US_ASCII)));
+
+    JwtPrincipal principal = jwtCodec.tryDecodePrincipal(content + "." + signature).getPrincipal();
+
+    assertEquals(USER_EMAIL, principal.getSubject());
+    assertEquals(UserRole.USER, principal.getRole());
+  }
+
+  @Test
+  void tryDecodePrincipal_whenJwtIsInvalid_thenStatusAndMessageAreReturnedWithoutException()
+      throws InterruptedException {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+    String expiredJwt = jwtCodec.encode(user, ISSUER, Duration.ofMillis(1));
+    Thread.sleep(5);
+
+    JwtDecodingResult valid = jwtCodec.tryDecodePrincipal(jwt);
+    JwtDecodingResult missing = jwtCodec.tryDecodePrincipal(WHITE_SPACES);
+    JwtDecodingResult malformed = jwtCodec.tryDecodePrincipal(FAKE_JWT);
+    JwtDecodingResult badSignature = jwtCodec.tryDecodePrincipal(jwt + "!");
+    JwtDecodingResult expired = jwtCodec.tryDecodePrincipal(expiredJwt);
+
+    assertEquals(USER_EMAIL, valid.getPrincipal().getSubject());
+    assertEquals(JwtDecodingStatus.MISSING, missing.getStatus());
+    assertEquals(JwtUtils.JWT_NOT_FOUND_MSG, missing.getMessage());
+    assertEquals(JwtDecodingStatus.MALFORMED, malformed.getStatus());
+    assertEquals("JWT strings must contain exactly 2 period characters. Found: 0", malformed.getMessage());
+    assertEquals(JwtDecodingStatus.BAD_SIGNATURE, badSignature.getStatus());
+    assertEquals(JwtDecodingStatus.EXPIRED, expired.getStatus());
+    assertTrue(expired.getMessage().startsWith("JWT expired at"));
+    assertNull(expired.getPrincipal());
+  }
+
+  @Test
+  void tryDecodePrincipal_whenRefreshJwtIsPassed_thenWrongTokenTypeIsReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, JwtTokenType.REFRESH, ISSUER, TOKEN_VALIDITY);
+
+    JwtDecodingResult result = jwtCodec.tryDecodePrincipal(jwt);
+
+    assertEquals(JwtDecodingStatus.WRONG_TOKEN_TYPE, result.getStatus());
+    assertEquals("JWT of type 'REFRESH' cannot be used as an access token", result.getMessage());
+    assertEquals(JwtTokenType.REFRESH, JwtPrincipal.fromClaims(jwtCodec.decode(jwt)).getTokenType());
+  }
+
+  @Test
+  void tryDecodePrincipal_whenGarbageJwtIsPassed_thenItIsRejectedWithoutFallbackDecoding() {
+    DefaultJwtCodec codec = spy(JwtCodecGenerator.createJwtCodec(SECRET_KEY));
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String notJsonHeader = encoder.encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+    String noneHeader = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+    String[] parts = codec.encode(UserGenerator.createUser(UserRole.USER, USER_EMAIL), ISSUER, TOKEN_VALIDITY)
+        .split("\\.");
+    String unmappableContent = parts[0] + "." + encoder.encodeToString("{}".getBytes(StandardCharsets.UTF_8));
+    String unmappableJwt = unmappableContent + "." + encoder.encodeToString(new JwtSigningKey(
+        JwtCodecGenerator.KEY_ID, SECRET_KEY).sign(unmappableContent.getBytes(StandardCharsets.US_ASCII)));
+
+    JwtDecodingResult shortHeader = codec.tryDecodePrincipal("a.b.c");
+    JwtDecodingResult invalidBase64 = codec.tryDecodePrincipal("!!!!.b.c");
+    JwtDecodingResult notJson = codec.tryDecodePrincipal(notJsonHeader + ".b.c");
+    JwtDecodingResult unsupportedAlgorithm = codec.tryDecodePrincipal(noneHeader + ".b.c");
+    JwtDecodingResult unmappable = codec.tryDecodePrincipal(unmappableJwt);
+
+    assertEquals(JwtDecodingStatus.MALFORMED, shortHeader.getStatus());
+    assertEquals("Unable to read JSON value: a", shortHeader.getMessage());
+    assertEquals(JwtDecodingStatus.MALFORMED, invalidBase64.getStatus());
+    assertEquals(JwtDecodingStatus.MALFORMED, notJson.getStatus());
+    assertEquals(JwtDecodingStatus.BAD_SIGNATURE, unsupportedAlgorithm.getStatus());
+    assertEquals("JWT signature algorithm 'none' is not supported", unsupportedAlgorithm.getMessage());
+    assertEquals(JwtDecodingStatus.MALFORMED, unmappable.getStatus());
+    verify(codec, never()).decode(anyString());
+  }
+
+  @Test
+  void tryDecodePrincipal_whenForeignJwtIsInvalid_thenFallbackStatusIsReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = JwtCodecGenerator.createJwtCodec(
+        JwtCodecGenerator.createKeyringProperties("other", Map.of("other", "OtherSecretKey")))
+        .encode(user, ISSUER, TOKEN_VALIDITY);
+
+    JwtDecodingResult result = jwtCodec.tryDecodePrincipal(jwt);
+
+    assertEquals(JwtDecodingStatus.BAD_SIGNATURE, result.getStatus());
+    assertEquals("JWT signing key 'other' is not recognized", result.getMessage());
+  }
+}
@@ -7,17 +7,23 @@ import static polovinko.leontii.caloriescalculator.utils.JwtUtils.BEARER_PREFIX;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
+import polovinko.leontii.caloriescalculator.helpers.JwtCodecGenerator;
 import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
 import polovinko.leontii.caloriescalculator.models.User;
 import polovinko.leontii.caloriescalculator.models.UserRole;
 import polovinko.leontii.caloriescalculator.services.authorization.UserService;
 import polovinko.leontii.caloriescalculator.services.authorization.impl.DefaultUserService;
+import polovinko.leontii.caloriescalculator.services.jwt.cache.JwtPrincipalCache;
+import polovinko.leontii.caloriescalculator.services.jwt.cache.impl.DefaultJwtPrincipalCache;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtCodec;
 import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import javax.servlet.http.HttpServletRequest;
 import java.time.Instant;
@@ -28,17 +34,20 @@ class DefaultJwtServiceTest {
   @Mock
   private HttpServletRequest request;
   private DefaultJwtService jwtService;
+  private JwtCodec jwtCodec;
 
   @BeforeEach
   void setUp() {
-    UserService userService = new DefaultUserService(null);
-    jwtService = new DefaultJwtService(SECRET_KEY, TOKEN_VALIDITY, TOKEN_VALIDITY, userService);
+    UserService userService = new DefaultUserService(null, null);
+    JwtPrincipalCache principalCache = new DefaultJwtPrincipalCache(true, CACHE_SIZE, new SimpleMeterRegistry());
+    jwtCodec = JwtCodecGenerator.createJwtCodec(SECRET_KEY);
+    jwtService = new DefaultJwtService(TOKEN_VALIDITY, TOKEN_VALIDITY, userService, principalCache, jwtCodec, null);
   }
 
   @Test
   void getClaimsFromRequest_whenValidJwtPassed_thenClaimsReturned() {
     User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
-    String jwt = JwtUtils.buildJwtToken(user, ISSUER, TOKEN_VALIDITY, SECRET_KEY);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(BEARER_PREFIX + jwt);
 
     Claims claims = jwtService.getClaimsFromRequest(request);
@@ -55,6 +64,38 @@ class DefaultJwtServiceTest {
     assertEquals(TOKEN_VALIDITY.getSeconds(), expirationDate.getEpochSecond() - issuedDate.getEpochSecond());
   }
 
+  @Test
+  void getPrincipalFromRequest_whenValidJwtPassed_thenPrincipalReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(BEARER_PREFIX + jwt);
+
+    JwtPrincipal principal = jwtService.getPrincipalFromRequest(request);
+
+    assertEquals(user.getEmail(), principal.getSubject());
+    assertEquals(user.getId().toString(), principal.getUserId());
+    assertEquals(user.getRole(), principal.getRole());
+  }
+
+  @Test
+  void getPrincipalFromRequest_whenSameJwtPassedTwice_thenCachedPrincipalReturned() {
+    User user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+    String jwt = jwtCodec.encode(user, ISSUER, TOKEN_VALIDITY);
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(BEARER_PREFIX + jwt);
+
+    JwtPrincipal firstPrincipal = jwtService.getPrincipalFromRequest(request);
+    JwtPrincipal secondPrincipal = jwtService.getPrincipalFromRequest(request);
+
+    assertSame(firstPrincipal, secondPrincipal);
+  }
+
+  @Test
+  void getPrincipalFromRequest_whenInvalidJwtPassed_thenThrowsException() {
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(BEARER_PREFIX + FAKE_JWT);
+
+    assertThrows(JwtException.class, () -> jwtService.getPrincipalFromRequest(request));
+  }
+
   @Test
   void getClaimsFromRequest_whenInvalidJwtPassed_thenThrowsException() {
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(BEARER_PREFIX + FAKE_JWT);
@@ -0,0 +1,96 @@
+package polovinko.leontii.caloriescalculator.services.jwt.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import polovinko.leontii.caloriescalculator.services.authorization.cache.UserCache;
+import polovinko.leontii.caloriescalculator.services.jwt.JwtService;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+
+@SpringBootTest(properties = "jwt.mode=opaque")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class OpaqueJwtServiceIntegrationTest {
+
+  private static final String SIGN_IN_BODY = "{\"email\":\"validUser\", \"password\":\"user\"}";
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private UserCache userCache;
+
+  @AfterEach
+  void tearDown() {
+    userCache.invalidateAll();
+  }
+
+  @Test
+  void opaqueMode_whenUserSignsIn_thenOpaqueTokensAuthorizeAndRefresh() throws Exception {
+    MockHttpServletResponse signInResponse = signIn();
+    String accessToken = signInResponse.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER);
+    String refreshToken = signInResponse.getHeader(JwtUtils.REFRESH_TOKEN_RESPONSE_HEADER);
+
+    MockHttpServletResponse userResponse = perform(MockMvcRequestBuilders.get("/api/user"), accessToken);
+    MockHttpServletResponse refreshResponse =
+        perform(MockMvcRequestBuilders.get("/api/auth/refresh-token"), refreshToken);
+    MockHttpServletResponse reusedRefreshResponse =
+        perform(MockMvcRequestBuilders.get("/api/auth/refresh-token"), refreshToken);
+
+    assertInstanceOf(OpaqueJwtService.class, jwtService);
+    assertEquals(43, accessToken.length());
+    assertEquals(HttpStatus.OK.value(), userResponse.getStatus());
+    assertEquals("user", userResponse.getContentAsString());
+    assertEquals(HttpStatus.OK.value(), refreshResponse.getStatus());
+    assertNotNull(refreshResponse.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER));
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), reusedRefreshResponse.getStatus());
+  }
+
+  @Test
+  void opaqueMode_whenUserSignsOut_thenAccessTokenIsRejected() throws Exception {
+    String accessToken = signIn().getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER);
+
+    MockHttpServletResponse signOutResponse =
+        perform(MockMvcRequestBuilders.post("/api/auth/sign-out"), accessToken);
+    MockHttpServletResponse userResponse = perform(MockMvcRequestBuilders.get("/api/user"), accessToken);
+
+    assertEquals(HttpStatus.OK.value(), signOutResponse.getStatus());
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), userResponse.getStatus());
+    assertTrue(userResponse.getContentAsString().contains(JwtUtils.INVALID_JWT_ERROR_MESSAGE));
+  }
+
+  private MockHttpServletResponse signIn() throws Exception {
+    MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/api/auth/sign-in")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(SIGN_IN_BODY);
+    MvcResult result = mockMvc.perform(request).andReturn();
+    for (int attempt = 0; attempt < 100 && result.getRequest().isAsyncStarted(); attempt++) {
+      Thread.sleep(50);
+    }
+    return result.getResponse();
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequestBuilder request, String token) throws Exception {
+    request.header(HttpHeaders.AUTHORIZATION, JwtUtils.BEARER_PREFIX + token);
+    return mockMvc.perform(request).andReturn().getResponse();
+  }
+}
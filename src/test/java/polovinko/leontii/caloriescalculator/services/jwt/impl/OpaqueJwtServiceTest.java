@@ -0,0 +1,169 @@
+package polovinko.leontii.caloriescalculator.services.jwt.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.*;
+import static polovinko.leontii.caloriescalculator.utils.JwtUtils.BEARER_PREFIX;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import polovinko.leontii.caloriescalculator.helpers.UserGenerator;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.User;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.models.UserTokenState;
+import polovinko.leontii.caloriescalculator.services.authorization.UserService;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingResult;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtDecodingStatus;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.impl.DefaultOpaqueTokenStore;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
+import java.time.Duration;
+
+@ExtendWith(MockitoExtension.class)
+class OpaqueJwtServiceTest {
+
+  @Mock
+  private UserService userService;
+  private DefaultOpaqueTokenStore tokenStore;
+  private OpaqueJwtService jwtService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    tokenStore = new DefaultOpaqueTokenStore(new SimpleMeterRegistry());
+    jwtService = new OpaqueJwtService(TOKEN_VALIDITY, TOKEN_VALIDITY, userService, tokenStore);
+    user = UserGenerator.createUser(UserRole.USER, USER_EMAIL);
+  }
+
+  @Test
+  void decodePrincipalFromRequest_whenAccessTokenPassed_thenPrincipalReturned() {
+    String accessToken = jwtService.createAccessToken(user, ISSUER);
+
+    JwtDecodingResult result = jwtService.decodePrincipalFromRequest(createRequest(accessToken));
+
+    assertTrue(result.isValid());
+    assertEquals(user.getEmail(), result.getPrincipal().getSubject());
+    assertEquals(user.getId().toString(), result.getPrincipal().getUserId());
+    assertEquals(user.getRole(), result.getPrincipal().getRole());
+    assertNotNull(result.getPrincipal().getTokenId());
+  }
+
+  @Test
+  void decodePrincipalFromRequest_whenTokenIsMissing_thenMissingResultReturned() {
+    assertSame(JwtDecodingResult.MISSING, jwtService.decodePrincipalFromRequest(createRequest(null)));
+  }
+
+  @Test
+  void decodePrincipalFromRequest_whenRefreshOrUnknownTokenPassed_thenUnknownResultReturned() {
+    String refreshToken = jwtService.createRefreshToken(user, ISSUER);
+
+    assertSame(JwtDecodingResult.UNKNOWN, jwtService.decodePrincipalFromRequest(createRequest(refreshToken)));
+    assertSame(JwtDecodingResult.UNKNOWN, jwtService.decodePrincipalFromRequest(createRequest("unknown")));
+  }
+
+  @Test
+  void decodePrincipalFromRequest_whenTokenIsExpired_thenExpiredResultReturned() {
+    OpaqueJwtService expiringJwtService =
+        new OpaqueJwtService(Duration.ofSeconds(-1), TOKEN_VALIDITY, userService, tokenStore);
+    String accessToken = expiringJwtService.createAccessToken(user, ISSUER);
+
+    JwtDecodingResult result = expiringJwtService.decodePrincipalFromRequest(createRequest(accessToken));
+
+    assertEquals(JwtDecodingStatus.EXPIRED, result.getStatus());
+    assertTrue(result.getMessage().startsWith("Token expired at"));
+  }
+
+  @Test
+  void getClaimsFromRequest_whenTokenPassed_thenPrincipalClaimsReturned() {
+    String refreshToken = jwtService.createRefreshToken(user, ISSUER);
+
+    Claims claims = jwtService.getClaimsFromRequest(createRequest(refreshToken));
+
+    assertEquals(user.getEmail(), claims.getSubject());
+    assertEquals(user.getId().toString(), claims.get(JwtUtils.USER_ID_CLAIM));
+    assertEquals(user.getRole().name(), claims.get(JwtUtils.ROLE_CLAIM));
+    assertEquals(user.getTokenVersion(), claims.get(JwtUtils.TOKEN_VERSION_CLAIM));
+  }
+
+  @Test
+  void revokeToken_whenAccessTokenPassed_thenTokenIsNoLongerAccepted() {
+    String accessToken = jwtService.createAccessToken(user, ISSUER);
+
+    jwtService.revokeToken(createRequest(accessToken));
+
+    assertSame(JwtDecodingResult.UNKNOWN, jwtService.decodePrincipalFromRequest(createRequest(accessToken)));
+    assertThrows(JwtException.class, () -> jwtService.getPrincipalFromRequest(createRequest(accessToken)));
+  }
+
+  @Test
+  void revokeToken_whenRefreshTokenPassed_thenTokenIsRemovedFromStore() {
+    String refreshToken = jwtService.createRefreshToken(user, ISSUER);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    jwtService.revokeToken(createRequest(refreshToken));
+
+    assertNull(tokenStore.find(refreshToken));
+    assertThrows(JwtException.class, () -> jwtService.refreshToken(createRequest(refreshToken), response));
+  }
+
+  @Test
+  void refreshToken_whenRefreshTokenMatchesUser_thenTokensAreRotated() {
+    String refreshToken = jwtService.createRefreshToken(user, ISSUER);
+    when(userService.loadActiveUserTokenState(eq(user.getEmail()), eq(user.getId()))).thenReturn(createTokenState(0));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    jwtService.refreshToken(createRequest(refreshToken), response);
+
+    String newAccessToken = response.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER);
+    String newRefreshToken = response.getHeader(JwtUtils.REFRESH_TOKEN_RESPONSE_HEADER);
+    JwtPrincipal principal = jwtService.getPrincipalFromRequest(createRequest(newAccessToken));
+    assertEquals(user.getEmail(), principal.getSubject());
+    assertNotNull(tokenStore.find(newRefreshToken));
+    assertNull(tokenStore.find(refreshToken));
+    assertThrows(JwtException.class, () -> jwtService.refreshToken(createRequest(refreshToken), response));
+  }
+
+  @Test
+  void refreshToken_whenTokenVersionChanged_thenThrowsException() {
+    String refreshToken = jwtService.createRefreshToken(user, ISSUER);
+    when(userService.loadActiveUserTokenState(any(), any())).thenReturn(createTokenState(1));
+    MockHttpServletRequest request = createRequest(refreshToken);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThrows(AuthenticationServiceException.class, () -> jwtService.refreshToken(request, response));
+    assertNull(response.getHeader(JwtUtils.ACCESS_TOKEN_RESPONSE_HEADER));
+  }
+
+  @Test
+  void refreshToken_whenAccessTokenPassed_thenThrowsException() {
+    String accessToken = jwtService.createAccessToken(user, ISSUER);
+    MockHttpServletRequest request = createRequest(accessToken);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThrows(JwtException.class, () -> jwtService.refreshToken(request, response));
+  }
+
+  private UserTokenState createTokenState(int tokenVersion) {
+    return new UserTokenState(user.getEmail(), user.getRole(), true, false, tokenVersion);
+  }
+
+  private static MockHttpServletRequest createRequest(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (token != null) {
+      request.addHeader(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token);
+    }
+    return request;
+  }
+}
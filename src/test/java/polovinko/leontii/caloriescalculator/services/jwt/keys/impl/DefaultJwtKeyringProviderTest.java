@@ -0,0 +1,107 @@
+package polovinko.leontii.caloriescalculator.services.jwt.keys.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import polovinko.leontii.caloriescalculator.config.JwtKeyringProperties;
+import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.helpers.JwtCodecGenerator;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyring;
+import polovinko.leontii.caloriescalculator.services.jwt.keys.JwtKeyringReloadedEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultJwtKeyringProviderTest {
+
+  private static final String KEYRING_JSON = "{\"activeKeyId\":\"%s\",\"keys\":{\"first\":\"FirstKey\",\"second\":\"SecondKey\"}}";
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @TempDir
+  Path keyringDirectory;
+
+  @Test
+  void getKeyring_whenKeyringIsConfiguredInProperties_thenActiveKeyIsResolved() {
+    JwtKeyringProperties properties = JwtCodecGenerator.createKeyringProperties("first",
+        Map.of("first", "FirstKey", "second", "SecondKey"));
+
+    JwtKeyring keyring = new DefaultJwtKeyringProvider(properties, new ObjectMapper(), eventPublisher).getKeyring();
+
+    assertEquals("first", keyring.getActiveKey().getKeyId());
+    assertTrue(keyring.getKey("second").isPresent());
+    assertSame(keyring.getActiveKey(), keyring.getKey(null).orElseThrow());
+    assertTrue(keyring.getKey("third").isEmpty());
+  }
+
+  @Test
+  void getKeyring_whenActiveKeyIsAbsent_thenThrowsException() {
+    JwtKeyringProperties properties = JwtCodecGenerator.createKeyringProperties("third",
+        Map.of("first", "FirstKey"));
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    assertThrows(CaloriesCalculatorServerException.class,
+        () -> new DefaultJwtKeyringProvider(properties, objectMapper, eventPublisher));
+  }
+
+  @Test
+  void reloadKeyring_whenKeyringFileIsModified_thenNewKeyringIsPublished() throws IOException {
+    Path keyringFile = writeKeyringFile("first", Instant.now().minusSeconds(60));
+    DefaultJwtKeyringProvider keyringProvider = createFileKeyringProvider(keyringFile);
+
+    writeKeyringFile("second", Instant.now());
+    keyringProvider.reloadKeyring();
+
+    assertEquals("second", keyringProvider.getKeyring().getActiveKey().getKeyId());
+    verify(eventPublisher).publishEvent(any(JwtKeyringReloadedEvent.class));
+  }
+
+  @Test
+  void reloadKeyring_whenKeyringFileIsNotModified_thenKeyringIsKept() throws IOException {
+    Path keyringFile = writeKeyringFile("first", Instant.now());
+    DefaultJwtKeyringProvider keyringProvider = createFileKeyringProvider(keyringFile);
+    JwtKeyring keyring = keyringProvider.getKeyring();
+
+    keyringProvider.reloadKeyring();
+
+    assertSame(keyring, keyringProvider.getKeyring());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void reloadKeyring_whenKeyringFileIsBroken_thenPreviousKeyringIsKept() throws IOException {
+    Path keyringFile = writeKeyringFile("first", Instant.now().minusSeconds(60));
+    DefaultJwtKeyringProvider keyringProvider = createFileKeyringProvider(keyringFile);
+
+    writeKeyringFile("third", Instant.now());
+    keyringProvider.reloadKeyring();
+
+    assertEquals("first", keyringProvider.getKeyring().getActiveKey().getKeyId());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  private DefaultJwtKeyringProvider createFileKeyringProvider(Path keyringFile) {
+    JwtKeyringProperties properties = new JwtKeyringProperties();
+    properties.setLocation(keyringFile.toString());
+    return new DefaultJwtKeyringProvider(properties, new ObjectMapper(), eventPublisher);
+  }
+
+  private Path writeKeyringFile(String activeKeyId, Instant modifiedAt) throws IOException {
+    Path keyringFile = keyringDirectory.resolve("keyring.json");
+    Files.writeString(keyringFile, String.format(KEYRING_JSON, activeKeyId));
+    Files.setLastModifiedTime(keyringFile, FileTime.from(modifiedAt));
+    return keyringFile;
+  }
+}
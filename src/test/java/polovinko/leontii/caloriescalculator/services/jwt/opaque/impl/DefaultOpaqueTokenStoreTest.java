@@ -0,0 +1,75 @@
+package polovinko.leontii.caloriescalculator.services.jwt.opaque.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static polovinko.leontii.caloriescalculator.helpers.TestConstants.USER_EMAIL;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueToken;
+import polovinko.leontii.caloriescalculator.services.jwt.opaque.OpaqueTokenType;
+import java.time.Instant;
+import java.util.UUID;
+
+class DefaultOpaqueTokenStoreTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private DefaultOpaqueTokenStore tokenStore;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    tokenStore = new DefaultOpaqueTokenStore(meterRegistry);
+  }
+
+  @Test
+  void save_whenTokenIsSaved_thenShortUniqueValueIsReturnedAndTokenIsFound() {
+    OpaqueToken token = createToken(Instant.now().plusSeconds(60));
+
+    String firstValue = tokenStore.save(token);
+    String secondValue = tokenStore.save(token);
+
+    assertEquals(43, firstValue.length());
+    assertNotEquals(firstValue, secondValue);
+    assertSame(token, tokenStore.find(firstValue));
+    assertEquals(2, tokenStore.size());
+    assertEquals(2, meterRegistry.get("jwt.opaque.tokens").gauge().value());
+  }
+
+  @Test
+  void remove_whenTokenIsRemoved_thenTokenIsNotFound() {
+    OpaqueToken token = createToken(Instant.now().plusSeconds(60));
+    String tokenValue = tokenStore.save(token);
+
+    assertSame(token, tokenStore.remove(tokenValue));
+
+    assertNull(tokenStore.find(tokenValue));
+    assertNull(tokenStore.remove(tokenValue));
+    assertEquals(0, tokenStore.size());
+  }
+
+  @Test
+  void removeExpired_whenSomeTokensAreExpired_thenOnlyExpiredTokensAreRemoved() {
+    String expiredValue = tokenStore.save(createToken(Instant.now().minusSeconds(1)));
+    String olderExpiredValue = tokenStore.save(createToken(Instant.now().minusSeconds(60)));
+    String liveValue = tokenStore.save(createToken(Instant.now().plusSeconds(60)));
+    String removedValue = tokenStore.save(createToken(Instant.now().minusSeconds(30)));
+    tokenStore.remove(removedValue);
+
+    assertEquals(2, tokenStore.removeExpired());
+
+    assertNull(tokenStore.find(expiredValue));
+    assertNull(tokenStore.find(olderExpiredValue));
+    assertNotNull(tokenStore.find(liveValue));
+    assertEquals(0, tokenStore.removeExpired());
+  }
+
+  private static OpaqueToken createToken(Instant expiresAt) {
+    JwtPrincipal principal = new JwtPrincipal(USER_EMAIL, UserRole.USER, UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(), 0, JwtTokenType.ACCESS, expiresAt.getEpochSecond());
+    return new OpaqueToken(principal, OpaqueTokenType.ACCESS);
+  }
+}
@@ -0,0 +1,43 @@
+package polovinko.leontii.caloriescalculator.services.jwt.revocation.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+class BloomFilterTest {
+
+  private static final int EXPECTED_INSERTIONS = 10_000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  @Test
+  void mightContain_whenValueWasPut_thenTrueIsReturned() {
+    BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    String[] values = new String[EXPECTED_INSERTIONS];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = UUID.randomUUID().toString();
+      bloomFilter.put(values[i]);
+    }
+
+    for (String value : values) {
+      assertTrue(bloomFilter.mightContain(value));
+    }
+  }
+
+  @Test
+  void mightContain_whenFilterIsFull_thenFalsePositiveRateStaysNearConfiguredRate() {
+    BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+      bloomFilter.put(UUID.randomUUID().toString());
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+      if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    assertTrue(falsePositives < EXPECTED_INSERTIONS * FALSE_POSITIVE_RATE * 2);
+  }
+}
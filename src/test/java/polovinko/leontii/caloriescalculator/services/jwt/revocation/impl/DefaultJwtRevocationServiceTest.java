@@ -0,0 +1,68 @@
+package polovinko.leontii.caloriescalculator.services.jwt.revocation.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import polovinko.leontii.caloriescalculator.dao.RevokedTokenRepository;
+import polovinko.leontii.caloriescalculator.models.JwtPrincipal;
+import polovinko.leontii.caloriescalculator.models.RevokedToken;
+import polovinko.leontii.caloriescalculator.models.UserRole;
+import polovinko.leontii.caloriescalculator.services.jwt.codec.JwtTokenType;
+import java.time.Instant;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultJwtRevocationServiceTest {
+
+  @Mock
+  private RevokedTokenRepository revokedTokenRepository;
+  private DefaultJwtRevocationService revocationService;
+
+  @BeforeEach
+  void setUp() {
+    revocationService = new DefaultJwtRevocationService(revokedTokenRepository, 100, 0.01);
+  }
+
+  @Test
+  void revoke_whenTokenIsRevoked_thenTokenIsPersistedAndReportedAsRevoked() {
+    JwtPrincipal principal = createPrincipal("revokedTokenId");
+
+    revocationService.revoke(principal);
+
+    verify(revokedTokenRepository).save(any(RevokedToken.class));
+    assertTrue(revocationService.isRevoked(principal));
+    assertFalse(revocationService.isRevoked(createPrincipal("anotherTokenId")));
+  }
+
+  @Test
+  void revoke_whenTokenHasNoId_thenNothingIsRevoked() {
+    JwtPrincipal principal = createPrincipal(null);
+
+    revocationService.revoke(principal);
+
+    verifyNoInteractions(revokedTokenRepository);
+    assertFalse(revocationService.isRevoked(principal));
+  }
+
+  @Test
+  void reloadRevocations_whenRevocationsArePersisted_thenRevocationsAreRestored() {
+    RevokedToken revokedToken = new RevokedToken("persistedTokenId", Instant.now().plusSeconds(60));
+    when(revokedTokenRepository.findAllByExpiresAtAfter(any(Instant.class))).thenReturn(List.of(revokedToken));
+
+    revocationService.reloadRevocations();
+
+    verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+    assertTrue(revocationService.isRevoked(createPrincipal("persistedTokenId")));
+  }
+
+  private JwtPrincipal createPrincipal(String tokenId) {
+    long expiresAt = Instant.now().plusSeconds(60).getEpochSecond();
+    return new JwtPrincipal("email", UserRole.USER, "userId", tokenId, 0, JwtTokenType.ACCESS, expiresAt);
+  }
+}
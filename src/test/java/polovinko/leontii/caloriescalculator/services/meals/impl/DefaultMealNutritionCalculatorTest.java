@@ -0,0 +1,178 @@
+package polovinko.leontii.caloriescalculator.services.meals.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import polovinko.leontii.caloriescalculator.dto.MealItemRequest;
+import polovinko.leontii.caloriescalculator.dto.MealNutrition;
+import polovinko.leontii.caloriescalculator.dto.MealRequest;
+import polovinko.leontii.caloriescalculator.exception.InvalidMealException;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultMealNutritionCalculatorTest {
+
+  private static final BigDecimal HUNDRED_GRAMS = BigDecimal.valueOf(100);
+
+  @Mock
+  private ProductCatalog productCatalog;
+  private final Map<UUID, ProductNutrition> products = new HashMap<>();
+  private DefaultMealNutritionCalculator mealNutritionCalculator;
+
+  @BeforeEach
+  void setUp() {
+    mealNutritionCalculator = new DefaultMealNutritionCalculator(productCatalog, 10000);
+    lenient().when(productCatalog.copyFixedPointNutrition(any(), any(), anyInt())).thenAnswer(invocation -> {
+      ProductNutrition nutrition = products.get(invocation.<UUID>getArgument(0));
+      if (nutrition == null) {
+        return false;
+      }
+      int[] target = invocation.getArgument(1);
+      int offset = invocation.getArgument(2);
+      target[offset] = nutrition.getProteins().unscaledValue().intValueExact();
+      target[offset + 1] = nutrition.getFats().unscaledValue().intValueExact();
+      target[offset + 2] = nutrition.getCarbs().unscaledValue().intValueExact();
+      target[offset + 3] = nutrition.getCalories().unscaledValue().intValueExact();
+      return true;
+    });
+  }
+
+  @Test
+  void calculate_whenMealHasSeveralProducts_thenTotalsAreScaledByGrams() {
+    UUID oatmeal = addProduct("12.5", "6.2", "59.5", "352.0");
+    UUID milk = addProduct("3.2", "2.5", "4.7", "52.0");
+
+    MealNutrition nutrition = mealNutritionCalculator.calculate(new MealRequest(List.of(
+        new MealItemRequest(oatmeal, new BigDecimal("60")),
+        new MealItemRequest(milk, new BigDecimal("250.0")))));
+
+    assertEquals(new BigDecimal("15.5"), nutrition.getProteins());
+    assertEquals(new BigDecimal("10.0"), nutrition.getFats());
+    assertEquals(new BigDecimal("47.5"), nutrition.getCarbs());
+    assertEquals(new BigDecimal("341.2"), nutrition.getCalories());
+  }
+
+  @Test
+  void calculate_whenTotalEndsOnHalfTenth_thenItIsRoundedHalfUpOnce() {
+    UUID product = addProduct("0.1", "0.1", "0.1", "0.1");
+
+    MealNutrition half = mealNutritionCalculator.calculate(new MealRequest(List.of(
+        new MealItemRequest(product, new BigDecimal("50.0")))));
+    MealNutrition belowHalf = mealNutritionCalculator.calculate(new MealRequest(List.of(
+        new MealItemRequest(product, new BigDecimal("49.9")))));
+    MealNutrition splitHalves = mealNutritionCalculator.calculate(new MealRequest(List.of(
+        new MealItemRequest(product, new BigDecimal("25.0")),
+        new MealItemRequest(product, new BigDecimal("25.0")))));
+
+    assertEquals(new BigDecimal("0.1"), half.getProteins());
+    assertEquals(new BigDecimal("0.0"), belowHalf.getProteins());
+    assertEquals(new BigDecimal("0.1"), splitHalves.getProteins());
+  }
+
+  @Test
+  void calculateAll_whenMealsAreRandom_thenTotalsMatchBigDecimalReference() {
+    Random random = new Random(20261018);
+    List<UUID> productIds = new ArrayList<>();
+    for (int product = 0; product < 200; product++) {
+      productIds.add(addProduct(randomDecimal(random, 9999), randomDecimal(random, 9999),
+          randomDecimal(random, 9999), randomDecimal(random, 99999)));
+    }
+    List<MealRequest> meals = new ArrayList<>();
+    for (int meal = 0; meal < 500; meal++) {
+      List<MealItemRequest> items = new ArrayList<>();
+      for (int item = random.nextInt(20); item >= 0; item--) {
+        items.add(new MealItemRequest(productIds.get(random.nextInt(productIds.size())),
+            new BigDecimal(randomDecimal(random, 100000))));
+      }
+      meals.add(new MealRequest(items));
+    }
+
+    List<MealNutrition> results = mealNutritionCalculator.calculateAll(meals);
+
+    assertEquals(meals.size(), results.size());
+    for (int meal = 0; meal < meals.size(); meal++) {
+      MealNutrition expected = calculateReference(meals.get(meal));
+      MealNutrition actual = results.get(meal);
+      assertEquals(expected.getProteins(), actual.getProteins());
+      assertEquals(expected.getFats(), actual.getFats());
+      assertEquals(expected.getCarbs(), actual.getCarbs());
+      assertEquals(expected.getCalories(), actual.getCalories());
+    }
+  }
+
+  @Test
+  void calculate_whenProductIsUnknown_thenInvalidMealExceptionIsThrown() {
+    MealRequest meal = new MealRequest(List.of(new MealItemRequest(UUID.randomUUID(), BigDecimal.TEN)));
+
+    assertThrows(InvalidMealException.class, () -> mealNutritionCalculator.calculate(meal));
+  }
+
+  @Test
+  void calculate_whenGramsAreInvalid_thenInvalidMealExceptionIsThrown() {
+    UUID product = addProduct("1.0", "1.0", "1.0", "1.0");
+
+    for (String grams : new String[]{"-1", "100000.1", "10.05"}) {
+      MealRequest meal = new MealRequest(List.of(new MealItemRequest(product, new BigDecimal(grams))));
+      assertThrows(InvalidMealException.class, () -> mealNutritionCalculator.calculate(meal), grams);
+    }
+    assertThrows(InvalidMealException.class, () -> mealNutritionCalculator.calculate(
+        new MealRequest(List.of(new MealItemRequest(product, null)))));
+  }
+
+  @Test
+  void calculateAll_whenMealIsEmptyOrRequestIsTooLarge_thenInvalidMealExceptionIsThrown() {
+    UUID product = addProduct("1.0", "1.0", "1.0", "1.0");
+    DefaultMealNutritionCalculator limitedCalculator = new DefaultMealNutritionCalculator(productCatalog, 2);
+    MealRequest meal = new MealRequest(List.of(new MealItemRequest(product, BigDecimal.ONE),
+        new MealItemRequest(product, BigDecimal.ONE)));
+
+    assertThrows(InvalidMealException.class, () -> mealNutritionCalculator.calculate(new MealRequest(List.of())));
+    assertThrows(InvalidMealException.class, () -> limitedCalculator.calculateAll(List.of(meal, meal)));
+  }
+
+  private UUID addProduct(String proteins, String fats, String carbs, String calories) {
+    UUID productId = UUID.randomUUID();
+    products.put(productId, new ProductNutrition(productId, new BigDecimal(proteins), new BigDecimal(fats),
+        new BigDecimal(carbs), new BigDecimal(calories)));
+    return productId;
+  }
+
+  private MealNutrition calculateReference(MealRequest meal) {
+    BigDecimal proteins = BigDecimal.ZERO;
+    BigDecimal fats = BigDecimal.ZERO;
+    BigDecimal carbs = BigDecimal.ZERO;
+    BigDecimal calories = BigDecimal.ZERO;
+    for (MealItemRequest item : meal.getItems()) {
+      ProductNutrition nutrition = products.get(item.getProductId());
+      proteins = proteins.add(nutrition.getProteins().multiply(item.getGrams()));
+      fats = fats.add(nutrition.getFats().multiply(item.getGrams()));
+      carbs = carbs.add(nutrition.getCarbs().multiply(item.getGrams()));
+      calories = calories.add(nutrition.getCalories().multiply(item.getGrams()));
+    }
+    return new MealNutrition(toDecimal(proteins), toDecimal(fats), toDecimal(carbs), toDecimal(calories));
+  }
+
+  private static BigDecimal toDecimal(BigDecimal total) {
+    return total.divide(HUNDRED_GRAMS).setScale(1, RoundingMode.HALF_UP);
+  }
+
+  private static String randomDecimal(Random random, int maxUnits) {
+    return BigDecimal.valueOf(random.nextInt(maxUnits * 10 + 1), 1).toPlainString();
+  }
+}
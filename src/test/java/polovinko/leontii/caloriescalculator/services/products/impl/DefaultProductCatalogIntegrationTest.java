@@ -0,0 +1,92 @@
+package polovinko.leontii.caloriescalculator.services.products.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import polovinko.leontii.caloriescalculator.dao.ProductRepository;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DefaultProductCatalogIntegrationTest {
+
+  @Autowired
+  private ProductCatalog productCatalog;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private ConfigurableListableBeanFactory beanFactory;
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    productCatalog.rebuild();
+  }
+
+  @Test
+  void rebuild_whenContextStarts_thenCatalogIsInitializedAfterLiquibase() {
+    String[] dependsOn = beanFactory.getBeanDefinition("defaultProductCatalog").getDependsOn();
+
+    assertNotNull(dependsOn);
+    assertTrue(Arrays.asList(dependsOn).contains("liquibase"));
+  }
+
+  @Test
+  void findNutrition_whenProductIsSaved_thenSnapshotIsRebuiltWithProduct() throws InterruptedException {
+    Product product = productRepository.save(createProduct("Oatmeal", "12.5", "6.2", "59.5", "352.0"));
+
+    awaitCatalog(() -> productCatalog.findNutrition(product.getId()).isPresent());
+    ProductNutrition nutrition = productCatalog.findNutrition(product.getId()).orElseThrow();
+
+    assertEquals(new BigDecimal("12.5"), nutrition.getProteins());
+    assertEquals(new BigDecimal("6.2"), nutrition.getFats());
+    assertEquals(new BigDecimal("59.5"), nutrition.getCarbs());
+    assertEquals(new BigDecimal("352.0"), nutrition.getCalories());
+  }
+
+  @Test
+  void findNutrition_whenProductIsUpdatedAndDeleted_thenSnapshotFollows() throws InterruptedException {
+    Product product = productRepository.save(createProduct("Rice", "7.0", "0.6", "77.0", "330.0"));
+    awaitCatalog(() -> productCatalog.findNutrition(product.getId()).isPresent());
+
+    product.setCalories(new BigDecimal("340.0"));
+    productRepository.save(product);
+    awaitCatalog(() -> productCatalog.findNutrition(product.getId())
+        .map(nutrition -> nutrition.getCalories().compareTo(new BigDecimal("340.0")) == 0)
+        .orElse(false));
+    productRepository.delete(product);
+    awaitCatalog(() -> productCatalog.findNutrition(product.getId()).isEmpty());
+
+    assertEquals(Optional.empty(), productCatalog.findNutrition(product.getId()));
+    assertEquals(0, productCatalog.size());
+  }
+
+  @Test
+  void findNutrition_whenProductIsUnknown_thenNothingIsReturned() {
+    assertTrue(productCatalog.findNutrition(UUID.randomUUID()).isEmpty());
+  }
+
+  private static Product createProduct(String name, String proteins, String fats, String carbs, String calories) {
+    return new Product(null, name, new BigDecimal(proteins), new BigDecimal(fats), new BigDecimal(carbs),
+        new BigDecimal(calories));
+  }
+
+  private static void awaitCatalog(BooleanSupplier condition) throws InterruptedException {
+    for (int attempt = 0; attempt < 100 && !condition.getAsBoolean(); attempt++) {
+      Thread.sleep(50);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+}
@@ -0,0 +1,77 @@
+package polovinko.leontii.caloriescalculator.services.products.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import polovinko.leontii.caloriescalculator.models.ProductNutrition;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class ProductSnapshotTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void find_whenProductsAreWritten_thenEveryProductIsFoundWithItsNutrition() throws IOException {
+    List<UUID> productIds = new ArrayList<>();
+    ProductSnapshot snapshot;
+    try (ProductSnapshot.Writer writer = ProductSnapshot.writer(directory.resolve("products.snapshot"))) {
+      for (int i = 0; i < 1000; i++) {
+        UUID productId = UUID.randomUUID();
+        productIds.add(productId);
+        writer.add(productId, i, i + 1, i + 2, i * 10);
+      }
+      snapshot = writer.finish();
+    }
+
+    assertEquals(1000, snapshot.getSize());
+    for (int i = 0; i < productIds.size(); i++) {
+      ProductNutrition nutrition = snapshot.find(productIds.get(i));
+      assertEquals(productIds.get(i), nutrition.getProductId());
+      assertEquals(BigDecimal.valueOf(i, 1), nutrition.getProteins());
+      assertEquals(BigDecimal.valueOf(i + 1, 1), nutrition.getFats());
+      assertEquals(BigDecimal.valueOf(i + 2, 1), nutrition.getCarbs());
+      assertEquals(BigDecimal.valueOf(i * 10, 1), nutrition.getCalories());
+    }
+    assertNull(snapshot.find(UUID.randomUUID()));
+  }
+
+  @Test
+  void find_whenSnapshotIsEmpty_thenNothingIsFound() throws IOException {
+    ProductSnapshot snapshot;
+    try (ProductSnapshot.Writer writer = ProductSnapshot.writer(directory.resolve("empty.snapshot"))) {
+      snapshot = writer.finish();
+    }
+
+    assertEquals(0, snapshot.getSize());
+    assertNull(snapshot.find(UUID.randomUUID()));
+  }
+
+  @Test
+  void copyFixedPointNutrition_whenProductIsKnown_thenTenthsAreCopiedAtOffset() throws IOException {
+    UUID productId = UUID.randomUUID();
+    ProductSnapshot snapshot;
+    try (ProductSnapshot.Writer writer = ProductSnapshot.writer(directory.resolve("products.snapshot"))) {
+      writer.add(productId, 125, 30, 0, 2501);
+      snapshot = writer.finish();
+    }
+    int[] target = new int[6];
+
+    assertTrue(snapshot.copyFixedPointNutrition(productId, target, 2));
+    assertFalse(snapshot.copyFixedPointNutrition(UUID.randomUUID(), target, 0));
+    assertArrayEquals(new int[]{0, 0, 125, 30, 0, 2501}, target);
+  }
+
+  @Test
+  void toFixedPoint_whenDecimalIsPassed_thenTenthsAreReturned() {
+    assertEquals(125, ProductSnapshot.toFixedPoint(new BigDecimal("12.5")));
+    assertEquals(120, ProductSnapshot.toFixedPoint(new BigDecimal("12")));
+    assertThrows(ArithmeticException.class, () -> ProductSnapshot.toFixedPoint(new BigDecimal("12.55")));
+  }
+}
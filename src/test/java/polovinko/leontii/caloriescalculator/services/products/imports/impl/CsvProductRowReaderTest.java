@@ -0,0 +1,78 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.exception.InvalidImportFileException;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import java.io.IOException;
+import java.io.StringReader;
+
+class CsvProductRowReaderTest {
+
+  @Test
+  void read_whenRowsAreQuotedAndReordered_thenFieldsAreMappedByHeader() throws IOException {
+    String csv = "\uFEFFName,calories,proteins,fats,carbs,id\r\n" +
+        "\"Bread, \"\"rye\"\"\",250.0,8.5,3.3,48.0,46a4f382-fafb-494c-a5ce-b14acbc307c4\r\n" +
+        "\r\n" +
+        "\"Multi\nline\",1,2,3,4,\n";
+    CsvProductRowReader reader = new CsvProductRowReader(new StringReader(csv));
+
+    ProductImportRow first = reader.read();
+    ProductImportRow second = reader.read();
+
+    assertEquals(2, first.getLineNumber());
+    assertEquals("46a4f382-fafb-494c-a5ce-b14acbc307c4", first.getId());
+    assertEquals("Bread, \"rye\"", first.getName());
+    assertEquals("8.5", first.getProteins());
+    assertEquals("3.3", first.getFats());
+    assertEquals("48.0", first.getCarbs());
+    assertEquals("250.0", first.getCalories());
+    assertEquals(4, second.getLineNumber());
+    assertEquals("Multi\nline", second.getName());
+    assertEquals("", second.getId());
+    assertNull(reader.read());
+  }
+
+  @Test
+  void read_whenRowIsMalformed_thenMalformedRowIsReturnedAndReadingContinues() throws IOException {
+    String csv = "name,proteins,fats,carbs,calories\n" +
+        "Rice,7.0,0.6\n" +
+        "\"Rice\"x,7.0,0.6,77.0,330.0\n" +
+        "Oats,12.5,6.2,59.5,352.0\n" +
+        "\"Unterminated,1,2,3,4\n";
+    CsvProductRowReader reader = new CsvProductRowReader(new StringReader(csv));
+
+    ProductImportRow tooShort = reader.read();
+    ProductImportRow badQuote = reader.read();
+    ProductImportRow valid = reader.read();
+    ProductImportRow unterminated = reader.read();
+
+    assertTrue(tooShort.isMalformed());
+    assertEquals(2, tooShort.getLineNumber());
+    assertEquals("Expected 5 fields but found 3", tooShort.getMalformedReason());
+    assertTrue(badQuote.isMalformed());
+    assertEquals(3, badQuote.getLineNumber());
+    assertFalse(valid.isMalformed());
+    assertNull(valid.getId());
+    assertEquals("Oats", valid.getName());
+    assertTrue(unterminated.isMalformed());
+    assertEquals(5, unterminated.getLineNumber());
+    assertNull(reader.read());
+  }
+
+  @Test
+  void constructor_whenRequiredColumnIsMissing_thenExceptionIsThrown() {
+    StringReader csv = new StringReader("name,proteins,fats,carbs\nRice,1,2,3\n");
+
+    InvalidImportFileException exception =
+        assertThrows(InvalidImportFileException.class, () -> new CsvProductRowReader(csv));
+
+    assertEquals("CSV header does not contain required column 'calories'", exception.getMessage());
+  }
+
+  @Test
+  void constructor_whenInputIsEmpty_thenExceptionIsThrown() {
+    assertThrows(InvalidImportFileException.class, () -> new CsvProductRowReader(new StringReader("")));
+  }
+}
@@ -0,0 +1,93 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import polovinko.leontii.caloriescalculator.dao.ProductRepository;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReport;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.services.products.ProductCatalog;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportFormat;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportService;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@SpringBootTest(properties = {"products.import.batchSize=2", "products.import.maxReportedRejects=1"})
+@ActiveProfiles("test")
+class DefaultProductImportServiceIntegrationTest {
+
+  private static final UUID RICE_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final UUID OATS_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c5");
+
+  @Autowired
+  private ProductImportService productImportService;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private ProductCatalog productCatalog;
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    productCatalog.rebuild();
+  }
+
+  @Test
+  void importProducts_whenCsvContainsValidAndInvalidRows_thenValidRowsAreStoredAcrossBatches() {
+    String csv = "id,name,proteins,fats,carbs,calories\n" +
+        RICE_ID + ",Rice,7.0,0.6,77.0,330.0\n" +
+        ",Bread,8.5,3.3,48.0,250.0\n" +
+        "not-an-id,Broken,1,1,1,1\n" +
+        OATS_ID + ",Oats,12.5,6.2,59.5,352.0\n" +
+        ",Negative,-1,1,1,1\n";
+
+    ProductImportReport report = productImportService.importProducts(toStream(csv), ProductImportFormat.CSV);
+
+    assertEquals(3, report.getImportedRows());
+    assertEquals(2, report.getRejectedRows());
+    assertEquals(1, report.getRejects().size());
+    assertEquals(4, report.getRejects().get(0).getLineNumber());
+    assertEquals(3, productRepository.count());
+    Product rice = productRepository.findById(RICE_ID).orElseThrow();
+    assertEquals("Rice", rice.getName());
+    assertEquals(new BigDecimal("330.0"), rice.getCalories());
+  }
+
+  @Test
+  void importProducts_whenJsonLinesUpdateExistingProducts_thenProductsAreUpsertedAndCatalogIsRebuilt()
+      throws InterruptedException {
+    productRepository.save(new Product(null, "Placeholder", BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE,
+        BigDecimal.ONE));
+    productImportService.importProducts(toStream("{\"id\":\"" + RICE_ID + "\",\"name\":\"Rice\",\"proteins\":7," +
+        "\"fats\":0.6,\"carbs\":77,\"calories\":330}\n"), ProductImportFormat.JSON_LINES);
+    String jsonLines = "{\"id\":\"" + RICE_ID + "\",\"name\":\"Brown rice\",\"proteins\":7.5," +
+        "\"fats\":2.7,\"carbs\":72.9,\"calories\":337}\n" +
+        "{\"id\":\"" + OATS_ID + "\",\"name\":\"Oats\",\"proteins\":12.5,\"fats\":6.2,\"carbs\":59.5," +
+        "\"calories\":352}\n";
+
+    ProductImportReport report = productImportService.importProducts(toStream(jsonLines),
+        ProductImportFormat.JSON_LINES);
+
+    assertEquals(2, report.getImportedRows());
+    assertEquals(0, report.getRejectedRows());
+    assertEquals(3, productRepository.count());
+    Product rice = productRepository.findById(RICE_ID).orElseThrow();
+    assertEquals("Brown rice", rice.getName());
+    assertEquals(new BigDecimal("337.0"), rice.getCalories());
+    for (int attempt = 0; attempt < 100 && productCatalog.size() != 3; attempt++) {
+      Thread.sleep(50);
+    }
+    assertEquals(new BigDecimal("337.0"), productCatalog.findNutrition(RICE_ID).orElseThrow().getCalories());
+  }
+
+  private static InputStream toStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
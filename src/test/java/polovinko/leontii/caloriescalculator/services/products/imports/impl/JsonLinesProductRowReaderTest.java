@@ -0,0 +1,62 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+class JsonLinesProductRowReaderTest {
+
+  @Test
+  void read_whenLinesContainProducts_thenNumbersAndStringsAreReturnedAsText() throws IOException {
+    String jsonLines = "{\"id\":\"46a4f382-fafb-494c-a5ce-b14acbc307c4\",\"name\":\"Rice\",\"proteins\":7.0," +
+        "\"fats\":\"0.6\",\"carbs\":77,\"calories\":330.0,\"tags\":[\"grain\"]}\n" +
+        "\n" +
+        "{\"name\":\"Oats\",\"proteins\":12.5,\"fats\":6.2,\"carbs\":59.5,\"calories\":null}\n";
+    JsonLinesProductRowReader reader = createReader(jsonLines);
+
+    ProductImportRow first = reader.read();
+    ProductImportRow second = reader.read();
+
+    assertEquals(1, first.getLineNumber());
+    assertEquals("46a4f382-fafb-494c-a5ce-b14acbc307c4", first.getId());
+    assertEquals("Rice", first.getName());
+    assertEquals("7.0", first.getProteins());
+    assertEquals("0.6", first.getFats());
+    assertEquals("77", first.getCarbs());
+    assertEquals("330.0", first.getCalories());
+    assertEquals(3, second.getLineNumber());
+    assertNull(second.getId());
+    assertNull(second.getCalories());
+    assertNull(reader.read());
+  }
+
+  @Test
+  void read_whenLineIsMalformed_thenMalformedRowIsReturnedAndReadingContinues() throws IOException {
+    String jsonLines = "{\"name\":\"Rice\",\n" +
+        "[1,2]\n" +
+        "{\"name\":{\"en\":\"Rice\"}}\n" +
+        "{\"name\":\"Rice\"} {}\n" +
+        "{\"name\":\"Oats\"}\n";
+    JsonLinesProductRowReader reader = createReader(jsonLines);
+
+    for (int line = 1; line <= 4; line++) {
+      ProductImportRow row = reader.read();
+      assertTrue(row.isMalformed());
+      assertEquals(line, row.getLineNumber());
+    }
+    ProductImportRow valid = reader.read();
+
+    assertFalse(valid.isMalformed());
+    assertEquals("Oats", valid.getName());
+    assertNull(reader.read());
+  }
+
+  private static JsonLinesProductRowReader createReader(String jsonLines) {
+    return new JsonLinesProductRowReader(new BufferedReader(new StringReader(jsonLines)), new JsonFactory());
+  }
+}
@@ -0,0 +1,70 @@
+package polovinko.leontii.caloriescalculator.services.products.imports.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.dto.ProductImportReject;
+import polovinko.leontii.caloriescalculator.models.Product;
+import polovinko.leontii.caloriescalculator.services.products.imports.ProductImportRow;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class ProductRowValidatorTest {
+
+  private final ProductRowValidator validator = new ProductRowValidator();
+  private final List<ProductImportReject> rejects = new ArrayList<>();
+
+  @Test
+  void validate_whenRowIsValid_thenProductWithScaledNutritionIsReturned() {
+    ProductImportRow row = ProductImportRow.of(2, "46a4f382-fafb-494c-a5ce-b14acbc307c4", " Rice ", "7", "0.6",
+        "77.0", "330");
+
+    Product product = validator.validate(row, rejects);
+
+    assertTrue(rejects.isEmpty());
+    assertEquals(UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4"), product.getId());
+    assertEquals("Rice", product.getName());
+    assertEquals(new BigDecimal("7.0"), product.getProteins());
+    assertEquals(new BigDecimal("0.6"), product.getFats());
+    assertEquals(new BigDecimal("77.0"), product.getCarbs());
+    assertEquals(new BigDecimal("330.0"), product.getCalories());
+  }
+
+  @Test
+  void validate_whenIdIsBlank_thenRandomIdIsAssigned() {
+    Product product = validator.validate(ProductImportRow.of(2, " ", "Rice", "7", "0.6", "77", "330"), rejects);
+
+    assertNotNull(product.getId());
+  }
+
+  @Test
+  void validate_whenRowIsInvalid_thenRowIsRejectedWithReason() {
+    assertRejected(ProductImportRow.malformed(3, "Malformed json"), "Malformed json");
+    assertRejected(ProductImportRow.of(3, "1-1-1-1-1", "Rice", "7", "0.6", "77", "330"),
+        "Field 'id' is not a valid UUID");
+    assertRejected(ProductImportRow.of(3, null, "", "7", "0.6", "77", "330"), "Field 'name' is required");
+    assertRejected(ProductImportRow.of(3, null, "x".repeat(256), "7", "0.6", "77", "330"),
+        "Field 'name' is longer than 255 characters");
+    assertRejected(ProductImportRow.of(3, null, "Rice", null, "0.6", "77", "330"), "Field 'proteins' is required");
+    assertRejected(ProductImportRow.of(3, null, "Rice", "7", "abc", "77", "330"), "Field 'fats' is not a number");
+    assertRejected(ProductImportRow.of(3, null, "Rice", "7", "0.6", "-1", "330"),
+        "Field 'carbs' must be between 0 and 9999.9");
+    assertRejected(ProductImportRow.of(3, null, "Rice", "7", "0.6", "77", "100000"),
+        "Field 'calories' must be between 0 and 99999.9");
+    assertRejected(ProductImportRow.of(3, null, "Rice", "7.25", "0.6", "77", "330"),
+        "Field 'proteins' must have at most one decimal place");
+  }
+
+  private void assertRejected(ProductImportRow row, String expectedReason) {
+    rejects.clear();
+
+    Product product = validator.validate(row, rejects);
+
+    assertNull(product);
+    assertEquals(1, rejects.size());
+    assertEquals(3, rejects.get(0).getLineNumber());
+    assertEquals(expectedReason, rejects.get(0).getReason());
+  }
+}
@@ -0,0 +1,106 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportFormat;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportService;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DefaultProgressExportServiceIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final UUID OTHER_USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c5");
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 12, 8, 30);
+
+  @Autowired
+  private ProgressExportService progressExportService;
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+
+  @AfterEach
+  void tearDown() {
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void exportUserProgress_whenFormatIsCsv_thenOnlyUserRowsAreWrittenInDateOrder() throws IOException {
+    DailyCut tuesday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1), "1800.0"));
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.5"));
+    dailyCutService.createDailyCut(OTHER_USER_ID, createDailyCut(MONDAY, "9999.0"));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    long exportedRows = progressExportService.exportUserProgress(USER_ID, ProgressExportFormat.CSV, outputStream);
+
+    assertEquals(2, exportedRows);
+    assertEquals("user_id,daily_cut_id,cut_date,calories,proteins,fats,carbs,weight\n" +
+            USER_ID + "," + monday.getId() + ",2026-10-12T08:30:00,2000.5,120.5,70.0,210.0,80.4\n" +
+            USER_ID + "," + tuesday.getId() + ",2026-10-13T08:30:00,1800.0,120.5,70.0,210.0,80.4\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void exportUserProgress_whenFormatIsJsonLines_thenEveryRowIsOneJsonObjectPerLine() throws IOException {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.5"));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    long exportedRows = progressExportService.exportUserProgress(USER_ID, ProgressExportFormat.JSON_LINES,
+        outputStream);
+
+    assertEquals(1, exportedRows);
+    assertEquals("{\"userId\":\"" + USER_ID + "\",\"dailyCutId\":\"" + monday.getId() + "\"," +
+            "\"cutDate\":\"2026-10-12T08:30:00\",\"calories\":2000.5,\"proteins\":120.5,\"fats\":70.0," +
+            "\"carbs\":210.0,\"weight\":80.4}\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void exportAllProgress_whenSeveralUsersHaveProgress_thenEveryRowIsWritten() throws IOException {
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.5"));
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1), "1800.0"));
+    dailyCutService.createDailyCut(OTHER_USER_ID, createDailyCut(MONDAY, "9999.0"));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    long exportedRows = progressExportService.exportAllProgress(ProgressExportFormat.JSON_LINES, outputStream);
+
+    assertEquals(3, exportedRows);
+    assertEquals(3, outputStream.toString(StandardCharsets.UTF_8).split("\n").length);
+  }
+
+  @Test
+  void exportUserProgress_whenUserHasNoProgress_thenOnlyHeaderIsWritten() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    long exportedRows = progressExportService.exportUserProgress(USER_ID, ProgressExportFormat.CSV, outputStream);
+
+    assertEquals(0, exportedRows);
+    assertEquals("user_id,daily_cut_id,cut_date,calories,proteins,fats,carbs,weight\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  private static DailyCut createDailyCut(LocalDateTime cutDate, String calories) {
+    return new DailyCut(null, new BigDecimal(calories), new BigDecimal("120.5"), new BigDecimal("70.0"),
+        new BigDecimal("210.0"), new BigDecimal("80.4"), cutDate);
+  }
+}
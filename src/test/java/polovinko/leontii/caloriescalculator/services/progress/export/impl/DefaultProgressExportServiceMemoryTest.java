@@ -0,0 +1,77 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportFormat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Tag("benchmark")
+class DefaultProgressExportServiceMemoryTest {
+
+  private static final long ROWS = 2_000_000;
+  private static final String MAX_HEAP = "-Xmx32m";
+  private static final long PROBE_TIMEOUT_SECONDS = 300;
+  private static final String BINARY_ID = "CAST(X'0000000000000000' || CAST(CAST(x AS BIGINT) AS BINARY(8)) AS BINARY(16))";
+
+  @TempDir
+  static Path directory;
+  private static String url;
+
+  @BeforeAll
+  static void populate() throws SQLException {
+    url = "jdbc:h2:" + directory.resolve("progress") + ";MODE=MySQL;LAZY_QUERY_EXECUTION=1";
+    try (Connection connection = DriverManager.getConnection(url, "sa", "sa");
+         Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE daily_cuts (id BINARY(16) PRIMARY KEY, calories DECIMAL(6,1), " +
+          "proteins DECIMAL(5,1), fats DECIMAL(5,1), carbs DECIMAL(5,1), weight DECIMAL(5,1), cut_date DATETIME)");
+      statement.execute("CREATE TABLE user_progress (id BINARY(16), user_id BINARY(16), daily_cut_id BINARY(16))");
+      statement.execute("INSERT INTO daily_cuts SELECT " + BINARY_ID + ", 2000.5, 120.5, 70.0, 210.0, 80.4, " +
+          "DATEADD('DAY', MOD(x, 3650), TIMESTAMP '2020-01-01 08:30:00') FROM SYSTEM_RANGE(1, " + ROWS + ")");
+      statement.execute("INSERT INTO user_progress SELECT " + BINARY_ID + ", " +
+          "X'46a4f382fafb494ca5ceb14acbc307c4', " + BINARY_ID + " FROM SYSTEM_RANGE(1, " + ROWS + ")");
+    }
+  }
+
+  @AfterAll
+  static void shutdown() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, "sa", "sa");
+         Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+  }
+
+  @Test
+  void exportAllProgress_whenMillionsOfRowsAreExportedUnderSmallHeap_thenEveryRowIsWritten() throws Exception {
+    List<Long> probeResult = runProbe(ProgressExportFormat.JSON_LINES);
+
+    assertEquals(ROWS, probeResult.get(0));
+    assertEquals(ROWS, probeResult.get(1));
+  }
+
+  private static List<Long> runProbe(ProgressExportFormat format) throws IOException, InterruptedException {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    Process process = new ProcessBuilder(java, MAX_HEAP, "-cp", System.getProperty("java.class.path"),
+        ProgressExportMemoryProbe.class.getName(), url, format.name())
+        .redirectError(ProcessBuilder.Redirect.DISCARD)
+        .start();
+    String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+    assertTrue(process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals(0, process.exitValue(), output);
+    String[] lastLine = output.substring(output.lastIndexOf('\n') + 1).split(" ");
+    return List.of(Long.parseLong(lastLine[0]), Long.parseLong(lastLine[1]));
+  }
+}
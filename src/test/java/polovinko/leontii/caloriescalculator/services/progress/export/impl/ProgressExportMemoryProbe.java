@@ -0,0 +1,45 @@
+package polovinko.leontii.caloriescalculator.services.progress.export.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import polovinko.leontii.caloriescalculator.services.progress.export.ProgressExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+class ProgressExportMemoryProbe {
+
+  private static final int FETCH_SIZE = 1000;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  public static void main(String[] args) throws IOException {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], "sa", "sa");
+    DefaultProgressExportService exportService = new DefaultProgressExportService(dataSource, new ObjectMapper(),
+        FETCH_SIZE, BUFFER_SIZE);
+    CountingOutputStream outputStream = new CountingOutputStream();
+
+    long exportedRows = exportService.exportAllProgress(ProgressExportFormat.valueOf(args[1]), outputStream);
+
+    System.out.println(exportedRows + " " + outputStream.lines);
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+
+    private long lines;
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      for (int index = offset; index < offset + length; index++) {
+        if (bytes[index] == '\n') {
+          lines++;
+        }
+      }
+    }
+  }
+}
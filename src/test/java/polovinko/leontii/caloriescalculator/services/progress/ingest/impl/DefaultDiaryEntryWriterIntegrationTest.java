@@ -0,0 +1,289 @@
+package polovinko.leontii.caloriescalculator.services.progress.ingest.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import polovinko.leontii.caloriescalculator.config.DiaryIngestProperties;
+import polovinko.leontii.caloriescalculator.exception.DiaryWriterUnavailableException;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.models.DiaryEntry;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryAcknowledgement;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryEntryWriter;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DefaultDiaryEntryWriterIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 12, 8, 30);
+  private static final int ENTRIES = 2000;
+  private static final int PRODUCERS = 4;
+
+  @Autowired
+  private DiaryEntryWriter diaryEntryWriter;
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+  @Autowired
+  private DailyCutSyncService dailyCutSyncService;
+  @Autowired
+  private DataSource dataSource;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @TempDir
+  Path directory;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    nutritionRollupService.rebuild();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM nutrition_rollups");
+    jdbcTemplate.update("DELETE FROM nutrition_rollup_deltas");
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void submit_whenEntriesArriveConcurrently_thenTheyAreCoalescedIntoBatchInserts() throws Exception {
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.COMMIT, ENTRIES);
+    writer.start();
+    ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+    List<Future<List<CompletableFuture<DailyCut>>>> submissions = new ArrayList<>();
+    for (int producer = 0; producer < PRODUCERS; producer++) {
+      submissions.add(producers.submit(() -> {
+        List<CompletableFuture<DailyCut>> acknowledgements = new ArrayList<>();
+        for (int entry = 0; entry < ENTRIES / PRODUCERS; entry++) {
+          acknowledgements.add(writer.submit(USER_ID, createDailyCut(MONDAY.plusDays(entry % 7))));
+        }
+        return acknowledgements;
+      }));
+    }
+    for (Future<List<CompletableFuture<DailyCut>>> submission : submissions) {
+      submission.get().forEach(acknowledgement -> assertNotNull(acknowledgement.join().getId()));
+    }
+    producers.shutdown();
+    writer.shutdown();
+
+    DistributionSummary batchSizes = meterRegistry.get("diary.ingest.batch.size").summary();
+    assertEquals(ENTRIES, (long) batchSizes.totalAmount());
+    assertTrue(batchSizes.count() < ENTRIES);
+    assertEquals(ENTRIES, meterRegistry.get("diary.ingest.latency").timer().count());
+    assertEquals(ENTRIES, countRows("daily_cuts"));
+    assertEquals(ENTRIES, countRows("user_progress"));
+    assertEquals(ENTRIES, nutritionRollupService.getRollup(USER_ID, MONDAY.toLocalDate(),
+        MONDAY.toLocalDate().plusDays(6)).getEntries());
+  }
+
+  @Test
+  void submit_whenQueueIsFull_thenEntryIsRejected() {
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.COMMIT, 1);
+    CompletableFuture<DailyCut> queued = writer.submit(USER_ID, createDailyCut(MONDAY));
+
+    assertThrows(DiaryWriterUnavailableException.class, () -> writer.submit(USER_ID, createDailyCut(MONDAY)));
+    assertEquals(1.0, meterRegistry.get("diary.ingest.rejected").counter().count());
+
+    writer.shutdown();
+    CompletionException exception = assertThrows(CompletionException.class, queued::join);
+    assertInstanceOf(DiaryWriterUnavailableException.class, exception.getCause());
+  }
+
+  @Test
+  void submit_whenOneEntryViolatesConstraints_thenOnlyThatEntryFails() {
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.COMMIT, ENTRIES);
+    CompletableFuture<DailyCut> valid = writer.submit(USER_ID, createDailyCut(MONDAY));
+    CompletableFuture<DailyCut> unknownUser = writer.submit(UUID.randomUUID(), createDailyCut(MONDAY));
+    writer.start();
+
+    assertNotNull(valid.join().getId());
+    CompletionException exception = assertThrows(CompletionException.class, unknownUser::join);
+    assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+    writer.shutdown();
+    assertEquals(1, countRows("daily_cuts"));
+    assertEquals(1, countRows("user_progress"));
+  }
+
+  @Test
+  void shutdown_whenEntriesAreQueued_thenTheyAreWrittenBeforeWriterStops() {
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.COMMIT, ENTRIES);
+    writer.start();
+    List<CompletableFuture<DailyCut>> acknowledgements = new ArrayList<>();
+    for (int entry = 0; entry < ENTRIES; entry++) {
+      acknowledgements.add(writer.submit(USER_ID, createDailyCut(MONDAY)));
+    }
+
+    writer.shutdown();
+
+    acknowledgements.forEach(acknowledgement -> assertTrue(acknowledgement.isDone()
+        && !acknowledgement.isCompletedExceptionally()));
+    assertEquals(ENTRIES, countRows("daily_cuts"));
+    assertThrows(DiaryWriterUnavailableException.class, () -> writer.submit(USER_ID, createDailyCut(MONDAY)));
+  }
+
+  @Test
+  void submit_whenAcknowledgementIsJournal_thenEntryIsWrittenAndJournalIsCleared() throws IOException {
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.JOURNAL, ENTRIES);
+    writer.start();
+
+    DailyCut dailyCut = writer.submit(USER_ID, createDailyCut(MONDAY)).join();
+    writer.shutdown();
+
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_cuts WHERE id = ?", Integer.class,
+        (Object) Uuids.toBytes(dailyCut.getId())));
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      assertEquals(0, journal.size());
+    }
+  }
+
+  @Test
+  void start_whenJournalHoldsEntries_thenOnlyUnwrittenEntriesAreReplayed() throws IOException {
+    DailyCut written = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY));
+    DailyCut unwritten = createDailyCut(MONDAY.plusDays(1));
+    unwritten.setId(Uuids.timeOrdered());
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      journal.append(List.of(new DiaryEntry(USER_ID, written), new DiaryEntry(USER_ID, unwritten)));
+    }
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.JOURNAL, ENTRIES);
+
+    writer.start();
+    writer.shutdown();
+
+    assertEquals(2, countRows("daily_cuts"));
+    assertEquals(2, countRows("user_progress"));
+    assertEquals(2, nutritionRollupService.getRollup(USER_ID, MONDAY.toLocalDate(),
+        MONDAY.toLocalDate().plusDays(1)).getEntries());
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      assertEquals(0, journal.size());
+    }
+  }
+
+  @Test
+  void start_whenLastJournaledRecordIsTorn_thenCompleteRecordsAreReplayedAndTornTailIsDropped() throws IOException {
+    DailyCut complete = createDailyCut(MONDAY);
+    complete.setId(Uuids.timeOrdered());
+    DailyCut torn = createDailyCut(MONDAY.plusDays(1));
+    torn.setId(Uuids.timeOrdered());
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      journal.append(List.of(new DiaryEntry(USER_ID, complete), new DiaryEntry(USER_ID, torn)));
+    }
+    tearJournalTail();
+    DefaultDiaryEntryWriter writer = createWriter(DiaryAcknowledgement.JOURNAL, ENTRIES);
+
+    writer.start();
+    writer.shutdown();
+
+    assertEquals(1, countRows("daily_cuts"));
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_cuts WHERE id = ?", Integer.class,
+        (Object) Uuids.toBytes(complete.getId())));
+  }
+
+  @Test
+  void start_whenOnlyJournaledRecordIsTorn_thenItIsTruncatedBeforeNewRecordsAreAppended() throws IOException {
+    DailyCut torn = createDailyCut(MONDAY);
+    torn.setId(Uuids.timeOrdered());
+    DailyCut appended = createDailyCut(MONDAY.plusDays(1));
+    appended.setId(Uuids.timeOrdered());
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      journal.append(List.of(new DiaryEntry(USER_ID, torn)));
+    }
+    tearJournalTail();
+    DefaultDiaryEntryWriter firstWriter = createWriter(DiaryAcknowledgement.JOURNAL, ENTRIES);
+    firstWriter.start();
+    firstWriter.shutdown();
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      assertEquals(0, journal.size());
+      journal.append(List.of(new DiaryEntry(USER_ID, appended)));
+    }
+    DefaultDiaryEntryWriter secondWriter = createWriter(DiaryAcknowledgement.JOURNAL, ENTRIES);
+
+    secondWriter.start();
+    secondWriter.shutdown();
+
+    assertEquals(1, countRows("daily_cuts"));
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_cuts WHERE id = ?", Integer.class,
+        (Object) Uuids.toBytes(appended.getId())));
+    try (DiaryJournal journal = DiaryJournal.open(directory.resolve("diary.journal"))) {
+      assertEquals(0, journal.size());
+    }
+  }
+
+  @Test
+  void submit_whenApplicationWriterIsUsed_thenEntryIsCommittedBeforeAcknowledgement() {
+    DailyCut dailyCut = diaryEntryWriter.submit(USER_ID, createDailyCut(MONDAY)).join();
+
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_progress WHERE daily_cut_id = ?",
+        Integer.class, (Object) Uuids.toBytes(dailyCut.getId())));
+    assertEquals(LocalDate.of(2026, 10, 12), dailyCut.getCutDate().toLocalDate());
+  }
+
+  private DefaultDiaryEntryWriter createWriter(DiaryAcknowledgement acknowledgement, int queueCapacity) {
+    DiaryIngestProperties properties = new DiaryIngestProperties();
+    properties.setQueueCapacity(queueCapacity);
+    properties.setBatchSize(500);
+    properties.setFlushInterval(Duration.ofMillis(5));
+    properties.setRetryInterval(Duration.ofMillis(100));
+    properties.setShutdownTimeout(Duration.ofSeconds(30));
+    properties.setAcknowledgement(acknowledgement);
+    properties.setJournal(directory.resolve("diary.journal"));
+    return new DefaultDiaryEntryWriter(dataSource, transactionManager, nutritionRollupService, dailyCutSyncService,
+        properties, meterRegistry);
+  }
+
+  private void tearJournalTail() throws IOException {
+    try (FileChannel channel = FileChannel.open(directory.resolve("diary.journal"), StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 5);
+    }
+  }
+
+  private int countRows(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+
+  private static DailyCut createDailyCut(LocalDateTime cutDate) {
+    return new DailyCut(null, new BigDecimal("2000.0"), new BigDecimal("120.5"), new BigDecimal("70.0"),
+        new BigDecimal("210.0"), new BigDecimal("80.4"), cutDate);
+  }
+}
@@ -0,0 +1,178 @@
+package polovinko.leontii.caloriescalculator.services.progress.rollups.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import polovinko.leontii.caloriescalculator.dao.DailyCutRepository;
+import polovinko.leontii.caloriescalculator.dto.NutritionRollup;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DefaultNutritionRollupServiceIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final LocalDate MONDAY = LocalDate.of(2026, 10, 12);
+
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+  @Autowired
+  private DailyCutRepository dailyCutRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ConfigurableListableBeanFactory beanFactory;
+
+  @BeforeEach
+  void setUp() {
+    nutritionRollupService.rebuild();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM nutrition_rollups");
+    jdbcTemplate.update("DELETE FROM nutrition_rollup_deltas");
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void rebuild_whenContextStarts_thenRollupsAreInitializedAfterLiquibase() {
+    String[] dependsOn = beanFactory.getBeanDefinition("defaultNutritionRollupService").getDependsOn();
+
+    assertNotNull(dependsOn);
+    assertTrue(Arrays.asList(dependsOn).contains("liquibase"));
+  }
+
+  @Test
+  void getRollup_whenDailyCutsAreWritten_thenRangeTotalsAndAveragesFollowWrites() {
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.0", "80.5"));
+    DailyCut tuesday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1), "1800.0", "80.1"));
+    DailyCut sunday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(6), "2500.0", "79.9"));
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(7), "9999.0", "70.0"));
+
+    dailyCutService.updateDailyCut(USER_ID, tuesday.getId(), createDailyCut(MONDAY.plusDays(2), "1900.0", "80.0"));
+    dailyCutService.deleteDailyCut(USER_ID, sunday.getId());
+    NutritionRollup week = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY.plusDays(6));
+    NutritionRollup tuesdayOnly = nutritionRollupService.getRollup(USER_ID, MONDAY.plusDays(1), MONDAY.plusDays(1));
+
+    assertEquals(2, week.getEntries());
+    assertEquals(new BigDecimal("3900.0"), week.getTotalCalories());
+    assertEquals(new BigDecimal("200.0"), week.getTotalProteins());
+    assertEquals(new BigDecimal("1950.0"), week.getAverageCalories());
+    assertEquals(new BigDecimal("80.3"), week.getAverageWeight());
+    assertEquals(0, tuesdayOnly.getEntries());
+    assertNull(tuesdayOnly.getAverageWeight());
+  }
+
+  @Test
+  void updateDailyCut_whenSameCutIsUpdatedConcurrently_thenRollupsMatchFinalState() throws Exception {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.0", "80.5"));
+    int updates = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(updates);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < updates; i++) {
+      DailyCut values = createDailyCut(MONDAY, (2100 + i * 100) + ".0", "80.0");
+      futures.add(executor.submit(() -> {
+        start.await();
+        return dailyCutService.updateDailyCut(USER_ID, monday.getId(), values);
+      }));
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    BigDecimal finalCalories = dailyCutRepository.findById(monday.getId()).orElseThrow().getCalories();
+    NutritionRollup rollup = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY);
+    nutritionRollupService.rebuild();
+    NutritionRollup rebuilt = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY);
+
+    assertEquals(1, rollup.getEntries());
+    assertEquals(finalCalories, rollup.getTotalCalories());
+    assertEquals(new BigDecimal("100.0"), rollup.getTotalProteins());
+    assertEquals(1, rebuilt.getEntries());
+    assertEquals(finalCalories, rebuilt.getTotalCalories());
+  }
+
+  @Test
+  void rebuild_whenDeltasAreCheckpointed_thenRollupsAreRestoredFromCheckpointAndTail() {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.0", "80.5"));
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1), "1800.0", "80.1"));
+    nutritionRollupService.checkpoint();
+    dailyCutService.deleteDailyCut(USER_ID, monday.getId());
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(2), "2100.0", "79.8"));
+    NutritionRollup beforeRebuild = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY.plusDays(6));
+
+    nutritionRollupService.rebuild();
+    NutritionRollup afterRebuild = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY.plusDays(6));
+
+    assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM nutrition_rollups", Integer.class));
+    assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM nutrition_rollup_deltas", Integer.class));
+    assertEquals(2, afterRebuild.getEntries());
+    assertEquals(new BigDecimal("3900.0"), afterRebuild.getTotalCalories());
+    assertEquals(beforeRebuild.getTotalCalories(), afterRebuild.getTotalCalories());
+    assertEquals(beforeRebuild.getAverageWeight(), afterRebuild.getAverageWeight());
+  }
+
+  @Test
+  void checkpoint_whenDailyCutIsDeleted_thenEmptyDayIsRemovedFromCheckpoint() {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY, "2000.0", "80.5"));
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1), "1800.0", "80.1"));
+    nutritionRollupService.checkpoint();
+    dailyCutService.deleteDailyCut(USER_ID, monday.getId());
+
+    nutritionRollupService.checkpoint();
+    nutritionRollupService.rebuild();
+    NutritionRollup rollup = nutritionRollupService.getRollup(USER_ID, MONDAY, MONDAY.plusDays(6));
+
+    assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM nutrition_rollups", Integer.class));
+    assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM nutrition_rollup_deltas", Integer.class));
+    assertEquals(1, rollup.getEntries());
+    assertEquals(new BigDecimal("1800.0"), rollup.getTotalCalories());
+  }
+
+  @Test
+  void getRollup_whenUserHasNoDailyCuts_thenEmptyRollupIsReturned() {
+    NutritionRollup rollup = nutritionRollupService.getRollup(UUID.randomUUID(), MONDAY, MONDAY.plusDays(6));
+
+    assertEquals(0, rollup.getEntries());
+    assertEquals(new BigDecimal("0.0"), rollup.getTotalCalories());
+    assertNull(rollup.getAverageCalories());
+  }
+
+  private static DailyCut createDailyCut(LocalDate day, String calories, String weight) {
+    return new DailyCut(null, new BigDecimal(calories), new BigDecimal("100.0"), new BigDecimal("70.0"),
+        new BigDecimal("250.0"), new BigDecimal(weight), LocalDateTime.of(day, LocalTime.NOON));
+  }
+}
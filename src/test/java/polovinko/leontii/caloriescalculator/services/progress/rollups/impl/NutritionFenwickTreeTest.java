@@ -0,0 +1,55 @@
+package polovinko.leontii.caloriescalculator.services.progress.rollups.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+class NutritionFenwickTreeTest {
+
+  private static final long FIRST_DAY = 19_000;
+  private static final int DAYS = 2_000;
+
+  @Test
+  void sum_whenValuesAreAddedAcrossGrowthAndRebase_thenRangeSumsMatchNaiveSums() {
+    Random random = new Random(42);
+    long[][] naive = new long[DAYS][NutritionFenwickTree.METRICS];
+    NutritionFenwickTree tree = new NutritionFenwickTree(FIRST_DAY + DAYS / 2);
+
+    for (int i = 0; i < 5_000; i++) {
+      int day = random.nextInt(DAYS);
+      long[] delta = new long[NutritionFenwickTree.METRICS];
+      for (int metric = 0; metric < delta.length; metric++) {
+        delta[metric] = random.nextInt(20_000) - 10_000;
+        naive[day][metric] += delta[metric];
+      }
+      tree.add(FIRST_DAY + day, delta);
+    }
+
+    for (int i = 0; i < 1_000; i++) {
+      int from = random.nextInt(DAYS + 100) - 50;
+      int to = from + random.nextInt(DAYS);
+      assertArrayEquals(naiveSum(naive, from, to), tree.sum(FIRST_DAY + from, FIRST_DAY + to));
+    }
+  }
+
+  @Test
+  void sum_whenRangeIsOutsideRecordedDays_thenZeroesAreReturned() {
+    NutritionFenwickTree tree = new NutritionFenwickTree(FIRST_DAY);
+    tree.add(FIRST_DAY, new long[]{1, 2, 3, 4, 5, 6});
+
+    assertArrayEquals(new long[NutritionFenwickTree.METRICS], tree.sum(FIRST_DAY - 10, FIRST_DAY - 1));
+    assertArrayEquals(new long[NutritionFenwickTree.METRICS], tree.sum(FIRST_DAY + 1, FIRST_DAY + 10_000));
+    assertArrayEquals(new long[]{1, 2, 3, 4, 5, 6}, tree.sum(FIRST_DAY - 10, FIRST_DAY + 10_000));
+  }
+
+  private static long[] naiveSum(long[][] naive, int from, int to) {
+    long[] sum = new long[NutritionFenwickTree.METRICS];
+    for (int day = Math.max(0, from); day <= Math.min(DAYS - 1, to); day++) {
+      for (int metric = 0; metric < sum.length; metric++) {
+        sum[metric] += naive[day][metric];
+      }
+    }
+    return sum;
+  }
+}
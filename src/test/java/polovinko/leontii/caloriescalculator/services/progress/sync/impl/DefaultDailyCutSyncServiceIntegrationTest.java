@@ -0,0 +1,142 @@
+package polovinko.leontii.caloriescalculator.services.progress.sync.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import polovinko.leontii.caloriescalculator.dto.DailyCutSyncPage;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.ingest.DiaryEntryWriter;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.sync.DailyCutSyncService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DefaultDailyCutSyncServiceIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final UUID OTHER_USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c5");
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 12, 8, 30);
+
+  @Autowired
+  private DailyCutSyncService dailyCutSyncService;
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private DiaryEntryWriter diaryEntryWriter;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+
+  @BeforeEach
+  void setUp() {
+    nutritionRollupService.rebuild();
+  }
+
+  @AfterEach
+  void tearDown() {
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void getChanges_whenDailyCutsAreUpdatedAndDeleted_thenOnlyChangesAfterCursorAreReturned() {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY));
+    DailyCut tuesday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1)));
+    DailyCut wednesday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(2)));
+    DailyCutSyncPage initial = dailyCutSyncService.getChanges(USER_ID, 0, 100);
+
+    dailyCutService.updateDailyCut(USER_ID, monday.getId(), createDailyCut(MONDAY.plusDays(3)));
+    dailyCutService.deleteDailyCut(USER_ID, tuesday.getId());
+    DailyCutSyncPage delta = dailyCutSyncService.getChanges(USER_ID, initial.getCursor(), 100);
+
+    assertEquals(List.of(monday.getId(), tuesday.getId(), wednesday.getId()), ids(initial.getChanged()));
+    assertTrue(initial.getDeleted().isEmpty());
+    assertEquals(3, initial.getCursor());
+    assertFalse(initial.isHasMore());
+    assertEquals(List.of(monday.getId()), ids(delta.getChanged()));
+    assertEquals(MONDAY.plusDays(3), delta.getChanged().get(0).getCutDate());
+    assertEquals(List.of(tuesday.getId()), delta.getDeleted());
+    assertEquals(5, delta.getCursor());
+    assertFalse(delta.isHasMore());
+  }
+
+  @Test
+  void getChanges_whenChangesExceedLimit_thenTheyArePagedInChangeOrder() {
+    List<UUID> created = new ArrayList<>();
+    for (int day = 0; day < 5; day++) {
+      created.add(dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(day))).getId());
+    }
+    dailyCutService.deleteDailyCut(USER_ID, created.get(0));
+
+    DailyCutSyncPage first = dailyCutSyncService.getChanges(USER_ID, 0, 2);
+    DailyCutSyncPage second = dailyCutSyncService.getChanges(USER_ID, first.getCursor(), 2);
+    DailyCutSyncPage third = dailyCutSyncService.getChanges(USER_ID, second.getCursor(), 2);
+
+    assertEquals(created.subList(1, 3), ids(first.getChanged()));
+    assertTrue(first.isHasMore());
+    assertEquals(created.subList(3, 5), ids(second.getChanged()));
+    assertTrue(second.isHasMore());
+    assertTrue(third.getChanged().isEmpty());
+    assertEquals(List.of(created.get(0)), third.getDeleted());
+    assertEquals(6, third.getCursor());
+    assertFalse(third.isHasMore());
+  }
+
+  @Test
+  void getChanges_whenCursorIsCurrent_thenEmptyPageKeepsCursor() {
+    dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY));
+    dailyCutService.createDailyCut(OTHER_USER_ID, createDailyCut(MONDAY));
+
+    DailyCutSyncPage page = dailyCutSyncService.getChanges(USER_ID, 1, 100);
+
+    assertTrue(page.getChanged().isEmpty());
+    assertTrue(page.getDeleted().isEmpty());
+    assertEquals(1, page.getCursor());
+    assertFalse(page.isHasMore());
+  }
+
+  @Test
+  void getChanges_whenEntriesAreWrittenInOneBatch_thenEachGetsItsOwnChangeSeq() {
+    List<CompletableFuture<DailyCut>> acknowledgements = new ArrayList<>();
+    for (int day = 0; day < 3; day++) {
+      acknowledgements.add(diaryEntryWriter.submit(USER_ID, createDailyCut(MONDAY.plusDays(day))));
+      acknowledgements.add(diaryEntryWriter.submit(OTHER_USER_ID, createDailyCut(MONDAY.plusDays(day))));
+    }
+    List<UUID> written = acknowledgements.stream()
+        .map(acknowledgement -> acknowledgement.join().getId())
+        .collect(Collectors.toList());
+
+    DailyCutSyncPage first = dailyCutSyncService.getChanges(USER_ID, 0, 2);
+    DailyCutSyncPage second = dailyCutSyncService.getChanges(USER_ID, first.getCursor(), 2);
+
+    assertEquals(List.of(written.get(0), written.get(2)), ids(first.getChanged()));
+    assertEquals(List.of(written.get(4)), ids(second.getChanged()));
+    assertEquals(3, second.getCursor());
+    assertFalse(second.isHasMore());
+  }
+
+  private static List<UUID> ids(List<DailyCut> dailyCuts) {
+    return dailyCuts.stream().map(DailyCut::getId).collect(Collectors.toList());
+  }
+
+  private static DailyCut createDailyCut(LocalDateTime cutDate) {
+    return new DailyCut(null, new BigDecimal("2000.0"), new BigDecimal("120.5"), new BigDecimal("70.0"),
+        new BigDecimal("210.0"), new BigDecimal("80.4"), cutDate);
+  }
+}
@@ -0,0 +1,191 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import polovinko.leontii.caloriescalculator.dto.DailyCutTimelinePage;
+import polovinko.leontii.caloriescalculator.exception.InvalidCursorException;
+import polovinko.leontii.caloriescalculator.models.DailyCut;
+import polovinko.leontii.caloriescalculator.services.progress.DailyCutService;
+import polovinko.leontii.caloriescalculator.services.progress.rollups.NutritionRollupService;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.DailyCutTimelineService;
+import polovinko.leontii.caloriescalculator.services.progress.timeline.TimelineDirection;
+import polovinko.leontii.caloriescalculator.utils.Uuids;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    scripts = "classpath:scripts/default_users_creation.sql")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    scripts = "classpath:scripts/truncate_tables.sql")
+class DefaultDailyCutTimelineServiceIntegrationTest {
+
+  private static final UUID USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c4");
+  private static final UUID OTHER_USER_ID = UUID.fromString("46a4f382-fafb-494c-a5ce-b14acbc307c5");
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 12, 8, 30);
+  private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+  private static final int PAGE_SIZE = 20;
+  private static final int HISTORY_SIZE = 5000;
+
+  @Autowired
+  private DailyCutTimelineService dailyCutTimelineService;
+  @Autowired
+  private DailyCutService dailyCutService;
+  @Autowired
+  private NutritionRollupService nutritionRollupService;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    nutritionRollupService.rebuild();
+  }
+
+  @Test
+  void getTimeline_whenPagingOlder_thenEveryDailyCutIsReturnedOnceNewestFirst() {
+    List<UUID> expected = new ArrayList<>();
+    for (int day = 0; day < 25; day++) {
+      expected.add(0, dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(day))).getId());
+    }
+    dailyCutService.createDailyCut(OTHER_USER_ID, createDailyCut(MONDAY));
+
+    DailyCutTimelinePage first = dailyCutTimelineService.getTimeline(USER_ID, null, TimelineDirection.OLDER, 10);
+    DailyCutTimelinePage second = dailyCutTimelineService.getTimeline(USER_ID, first.getOlderCursor(),
+        TimelineDirection.OLDER, 10);
+    DailyCutTimelinePage third = dailyCutTimelineService.getTimeline(USER_ID, second.getOlderCursor(),
+        TimelineDirection.OLDER, 10);
+
+    List<UUID> actual = new ArrayList<>();
+    actual.addAll(ids(first));
+    actual.addAll(ids(second));
+    actual.addAll(ids(third));
+    assertEquals(expected, actual);
+    assertNull(first.getNewerCursor());
+    assertNotNull(second.getNewerCursor());
+    assertNull(third.getOlderCursor());
+  }
+
+  @Test
+  void getTimeline_whenPagingNewerFromOlderPage_thenPreviousPageIsReturnedInSameOrder() {
+    for (int day = 0; day < 25; day++) {
+      dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(day)));
+    }
+    DailyCutTimelinePage first = dailyCutTimelineService.getTimeline(USER_ID, null, TimelineDirection.OLDER, 10);
+    DailyCutTimelinePage second = dailyCutTimelineService.getTimeline(USER_ID, first.getOlderCursor(),
+        TimelineDirection.OLDER, 10);
+
+    DailyCutTimelinePage back = dailyCutTimelineService.getTimeline(USER_ID, second.getNewerCursor(),
+        TimelineDirection.NEWER, 10);
+
+    assertEquals(ids(first), ids(back));
+    assertNull(back.getNewerCursor());
+    assertEquals(ids(second), ids(dailyCutTimelineService.getTimeline(USER_ID, back.getOlderCursor(),
+        TimelineDirection.OLDER, 10)));
+  }
+
+  @Test
+  void getTimeline_whenDailyCutsShareCutDate_thenIdBreaksTies() {
+    for (int index = 0; index < 5; index++) {
+      dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY));
+    }
+
+    DailyCutTimelinePage first = dailyCutTimelineService.getTimeline(USER_ID, null, TimelineDirection.OLDER, 2);
+    DailyCutTimelinePage second = dailyCutTimelineService.getTimeline(USER_ID, first.getOlderCursor(),
+        TimelineDirection.OLDER, 2);
+    DailyCutTimelinePage third = dailyCutTimelineService.getTimeline(USER_ID, second.getOlderCursor(),
+        TimelineDirection.OLDER, 2);
+
+    assertEquals(5, ids(first).size() + ids(second).size() + ids(third).size());
+    assertEquals(5, Stream.of(first, second, third).flatMap(page -> ids(page).stream())
+        .distinct().count());
+  }
+
+  @Test
+  void getTimeline_whenDailyCutIsMovedToAnotherDate_thenTimelineFollowsNewDate() {
+    DailyCut monday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY));
+    DailyCut tuesday = dailyCutService.createDailyCut(USER_ID, createDailyCut(MONDAY.plusDays(1)));
+
+    dailyCutService.updateDailyCut(USER_ID, monday.getId(), createDailyCut(MONDAY.plusDays(2)));
+    DailyCutTimelinePage page = dailyCutTimelineService.getTimeline(USER_ID, null, TimelineDirection.OLDER, 10);
+
+    assertEquals(List.of(monday.getId(), tuesday.getId()), ids(page));
+  }
+
+  @Test
+  void getTimeline_whenCursorIsInvalid_thenInvalidCursorExceptionIsThrown() {
+    assertThrows(InvalidCursorException.class,
+        () -> dailyCutTimelineService.getTimeline(USER_ID, "broken", TimelineDirection.OLDER, 10));
+  }
+
+  @Test
+  void timelineQueries_whenHistoryIsLong_thenDeepPagesScanOnlyOnePageOfIndexEntries() {
+    insertHistory(USER_ID, 1);
+    insertHistory(OTHER_USER_ID, HISTORY_SIZE + 1);
+    Timestamp deepCutDate = Timestamp.valueOf(MONDAY.minusHours(HISTORY_SIZE - 100));
+    byte[] deepDailyCutId = toDailyCutId(HISTORY_SIZE - 100);
+
+    String latest = explain(DefaultDailyCutTimelineService.SELECT_LATEST_SQL, Uuids.toBytes(USER_ID), PAGE_SIZE + 1);
+    String older = explain(DefaultDailyCutTimelineService.SELECT_OLDER_SQL, Uuids.toBytes(USER_ID), deepCutDate,
+        deepCutDate, deepDailyCutId, PAGE_SIZE + 1);
+    String newer = explain(DefaultDailyCutTimelineService.SELECT_NEWER_SQL, Uuids.toBytes(USER_ID), deepCutDate,
+        deepCutDate, deepDailyCutId, PAGE_SIZE + 1);
+
+    for (String plan : List.of(latest, older, newer)) {
+      assertTrue(plan.contains("IDX_USER_PROGRESS_TIMELINE"), plan);
+      assertTrue(plan.contains("/* index sorted */"), plan);
+      assertFalse(plan.contains("OFFSET"), plan);
+      assertTrue(getUserProgressScanCount(plan) <= PAGE_SIZE + 2, plan);
+    }
+  }
+
+  private void insertHistory(UUID userId, int firstId) {
+    String dailyCutId = "CAST(X'0000000000000000' || CAST(CAST(x AS BIGINT) AS BINARY(8)) AS BINARY(16))";
+    String cutDate = "DATEADD('HOUR', " + firstId + " - x, TIMESTAMP '2026-10-12 08:30:00')";
+    jdbcTemplate.update("INSERT INTO daily_cuts (id, calories, proteins, fats, carbs, weight, cut_date) " +
+        "SELECT " + dailyCutId + ", 2000.0, 120.5, 70.0, 210.0, 80.4, " + cutDate +
+        " FROM SYSTEM_RANGE(?, ?)", firstId, firstId + HISTORY_SIZE - 1);
+    jdbcTemplate.update("INSERT INTO user_progress (id, user_id, daily_cut_id, cut_date) " +
+        "SELECT " + dailyCutId + ", ?, " + dailyCutId + ", " + cutDate +
+        " FROM SYSTEM_RANGE(?, ?)", Uuids.toBytes(userId), firstId, firstId + HISTORY_SIZE - 1);
+  }
+
+  private String explain(String sql, Object... args) {
+    return jdbcTemplate.queryForList("EXPLAIN ANALYZE " + sql, String.class, args).stream()
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static int getUserProgressScanCount(String plan) {
+    Matcher matcher = SCAN_COUNT.matcher(plan);
+    assertTrue(matcher.find(), plan);
+    return Integer.parseInt(matcher.group(1));
+  }
+
+  private static byte[] toDailyCutId(int index) {
+    return Uuids.toBytes(new UUID(0, index));
+  }
+
+  private static List<UUID> ids(DailyCutTimelinePage page) {
+    return page.getDailyCuts().stream().map(DailyCut::getId).collect(Collectors.toList());
+  }
+
+  private static DailyCut createDailyCut(LocalDateTime cutDate) {
+    return new DailyCut(null, new BigDecimal("2000.0"), new BigDecimal("120.5"), new BigDecimal("70.0"),
+        new BigDecimal("210.0"), new BigDecimal("80.4"), cutDate);
+  }
+}
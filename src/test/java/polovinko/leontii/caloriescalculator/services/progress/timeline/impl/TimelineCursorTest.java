@@ -0,0 +1,51 @@
+package polovinko.leontii.caloriescalculator.services.progress.timeline.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import polovinko.leontii.caloriescalculator.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+class TimelineCursorTest {
+
+  @Test
+  void decode_whenCursorWasEncoded_thenSamePositionIsReturned() {
+    UUID dailyCutId = UUID.randomUUID();
+    LocalDateTime cutDate = LocalDateTime.of(2026, 10, 12, 8, 30, 15);
+
+    TimelineCursor cursor = TimelineCursor.decode(new TimelineCursor(cutDate, dailyCutId).encode());
+
+    assertEquals(cutDate, cursor.getCutDate());
+    assertEquals(dailyCutId, cursor.getDailyCutId());
+  }
+
+  @Test
+  void encode_whenCursorIsEncoded_thenItIsUrlSafe() {
+    String cursor = new TimelineCursor(LocalDateTime.of(2026, 10, 12, 8, 30), UUID.randomUUID()).encode();
+
+    assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  void decode_whenCursorIsNotBase64_thenInvalidCursorExceptionIsThrown() {
+    assertThrows(InvalidCursorException.class, () -> TimelineCursor.decode("not a cursor"));
+  }
+
+  @Test
+  void decode_whenCursorHasNoSeparator_thenInvalidCursorExceptionIsThrown() {
+    assertThrows(InvalidCursorException.class, () -> TimelineCursor.decode(encode("2026-10-12T08:30:00")));
+  }
+
+  @Test
+  void decode_whenCursorContainsInvalidValues_thenInvalidCursorExceptionIsThrown() {
+    assertThrows(InvalidCursorException.class, () -> TimelineCursor.decode(encode("yesterday|" + UUID.randomUUID())));
+    assertThrows(InvalidCursorException.class, () -> TimelineCursor.decode(encode("2026-10-12T08:30:00|id")));
+  }
+
+  private static String encode(String value) {
+    return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
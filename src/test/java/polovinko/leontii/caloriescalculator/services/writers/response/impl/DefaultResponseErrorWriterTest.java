@@ -12,12 +12,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import polovinko.leontii.caloriescalculator.dto.ErrorMessage;
 import polovinko.leontii.caloriescalculator.exception.CaloriesCalculatorServerException;
+import polovinko.leontii.caloriescalculator.helpers.JsonMapperGenerator;
+import polovinko.leontii.caloriescalculator.utils.CoarseClock;
+import polovinko.leontii.caloriescalculator.utils.JwtUtils;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -35,28 +37,49 @@ class DefaultResponseErrorWriterTest {
   void setUp() {
     errorMessage = new ErrorMessage("ErrorMessage", LocalDateTime.now(), HttpStatus.FORBIDDEN);
     objectMapper = new ObjectMapper();
-    defaultResponseErrorWriter = new DefaultResponseErrorWriter(objectMapper);
+    objectMapper.findAndRegisterModules();
+    defaultResponseErrorWriter = new DefaultResponseErrorWriter(JsonMapperGenerator.createJsonMapper(objectMapper));
   }
 
   @Test
   void writeErrorMessage_whenErrorMessageIsPassed_thenErrorMessageIsWrittenIntoResponse() throws IOException {
-    objectMapper.findAndRegisterModules();
-    StringWriter stringWriter = new StringWriter();
-    PrintWriter writer = new PrintWriter(stringWriter);
-    when(response.getWriter()).thenReturn(writer);
+    MockHttpServletResponse mockResponse = new MockHttpServletResponse();
 
+    defaultResponseErrorWriter.writeErrorMessage(mockResponse, errorMessage);
+    ErrorMessage result = objectMapper.readValue(mockResponse.getContentAsByteArray(), ErrorMessage.class);
 
-    defaultResponseErrorWriter.writeErrorMessage(response, errorMessage);
-    ErrorMessage result = objectMapper.readValue(stringWriter.toString(), ErrorMessage.class);
-
-    verify(response).setContentType(MediaType.APPLICATION_JSON.toString());
-    verify(response).setStatus(HttpStatus.FORBIDDEN.value());
+    assertEquals(MediaType.APPLICATION_JSON.toString(), mockResponse.getContentType());
+    assertEquals(HttpStatus.FORBIDDEN.value(), mockResponse.getStatus());
     assertEquals(errorMessage.getMessage(), result.getMessage());
     assertEquals(errorMessage.getHappenedAt().truncatedTo(ChronoUnit.SECONDS), result.getHappenedAt());
   }
 
   @Test
-  void writeErrorMessage_whenObjectMapperIsNotConfigured_thenThrowsException() {
+  void writeErrorMessage_whenPreEncodedMessageIsPassed_thenSameJsonAsObjectMapperIsWritten() throws IOException {
+    ErrorMessage jwtErrorMessage = new ErrorMessage(JwtUtils.JWT_NOT_FOUND_MSG, CoarseClock.now(), HttpStatus.UNAUTHORIZED);
+    MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+    defaultResponseErrorWriter.writeErrorMessage(mockResponse, jwtErrorMessage);
+
+    assertEquals(objectMapper.writeValueAsString(jwtErrorMessage), mockResponse.getContentAsString());
+  }
+
+  @Test
+  void writeErrorMessage_whenMessageContainsSpecialCharacters_thenMessageIsEscaped() throws IOException {
+    ErrorMessage specialErrorMessage = new ErrorMessage("User with email 'a\"b\\c@ü.com'\n", LocalDateTime.now(),
+        HttpStatus.UNAUTHORIZED);
+    MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+    defaultResponseErrorWriter.writeErrorMessage(mockResponse, specialErrorMessage);
+    ErrorMessage result = objectMapper.readValue(mockResponse.getContentAsByteArray(), ErrorMessage.class);
+
+    assertEquals(specialErrorMessage.getMessage(), result.getMessage());
+  }
+
+  @Test
+  void writeErrorMessage_whenOutputStreamIsNotAvailable_thenThrowsException() throws IOException {
+    when(response.getOutputStream()).thenThrow(new IOException("Stream closed"));
+
     CaloriesCalculatorServerException exception = assertThrows(
         CaloriesCalculatorServerException.class,
         () -> defaultResponseErrorWriter.writeErrorMessage(response, errorMessage)
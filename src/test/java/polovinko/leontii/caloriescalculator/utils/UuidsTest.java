@@ -0,0 +1,70 @@
+package polovinko.leontii.caloriescalculator.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class UuidsTest {
+
+  private static final int GENERATED_IDS = 10_000;
+
+  @Test
+  void timeOrdered_whenGenerated_thenVersionAndVariantAreSet() {
+    UUID uuid = Uuids.timeOrdered();
+
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  void timeOrdered_whenGenerated_thenTimestampIsEncodedInLeadingBits() {
+    long before = System.currentTimeMillis();
+    UUID uuid = Uuids.timeOrdered();
+    long after = System.currentTimeMillis();
+
+    long timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertTrue(timestamp >= before && timestamp <= after + 1);
+  }
+
+  @Test
+  void timeOrdered_whenGeneratedInSequence_thenBinaryFormIsStrictlyIncreasing() {
+    List<byte[]> ids = new ArrayList<>();
+    for (int i = 0; i < GENERATED_IDS; i++) {
+      ids.add(Uuids.toBytes(Uuids.timeOrdered()));
+    }
+
+    for (int i = 1; i < ids.size(); i++) {
+      assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0);
+    }
+  }
+
+  @Test
+  void fromBytes_whenBytesAreProducedByToBytes_thenUuidIsRestored() {
+    UUID uuid = UUID.randomUUID();
+
+    assertEquals(uuid, Uuids.fromBytes(Uuids.toBytes(uuid)));
+  }
+
+  @Test
+  void fromBytes_whenBytesAreNull_thenReturnsNull() {
+    assertNull(Uuids.fromBytes(null));
+  }
+
+  @Test
+  void fromBytes_whenLengthIsNotSixteen_thenExceptionIsThrown() {
+    assertThrows(IllegalArgumentException.class, () -> Uuids.fromBytes(new byte[36]));
+  }
+
+  private static int compareUnsigned(byte[] left, byte[] right) {
+    for (int i = 0; i < Uuids.BYTES; i++) {
+      int result = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+}
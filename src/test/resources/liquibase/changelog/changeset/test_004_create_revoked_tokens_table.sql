@@ -0,0 +1,9 @@
+DROP TABLE IF EXISTS revoked_tokens;
+
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    token_id    VARCHAR(36)     NOT NULL,
+    expires_at  TIMESTAMP       NOT NULL
+);
+ALTER TABLE revoked_tokens ADD CONSTRAINT revoked_tokens_pkey PRIMARY KEY (token_id);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,29 @@
+DROP TABLE IF EXISTS nutrition_rollups;
+DROP TABLE IF EXISTS nutrition_rollup_deltas;
+
+CREATE TABLE IF NOT EXISTS nutrition_rollups
+(
+    user_id     VARCHAR(255)    NOT NULL,
+    cut_day     DATE            NOT NULL,
+    entries     INT             NOT NULL,
+    calories    DECIMAL(14,1)   NOT NULL,
+    proteins    DECIMAL(14,1)   NOT NULL,
+    fats        DECIMAL(14,1)   NOT NULL,
+    carbs       DECIMAL(14,1)   NOT NULL,
+    weight      DECIMAL(14,1)   NOT NULL
+);
+ALTER TABLE nutrition_rollups ADD CONSTRAINT nutrition_rollups_pkey PRIMARY KEY (user_id, cut_day);
+
+CREATE TABLE IF NOT EXISTS nutrition_rollup_deltas
+(
+    seq         BIGINT          NOT NULL AUTO_INCREMENT,
+    user_id     VARCHAR(255)    NOT NULL,
+    cut_day     DATE            NOT NULL,
+    entries     INT             NOT NULL,
+    calories    DECIMAL(14,1)   NOT NULL,
+    proteins    DECIMAL(14,1)   NOT NULL,
+    fats        DECIMAL(14,1)   NOT NULL,
+    carbs       DECIMAL(14,1)   NOT NULL,
+    weight      DECIMAL(14,1)   NOT NULL,
+    PRIMARY KEY (seq)
+);
@@ -0,0 +1,5 @@
+ALTER TABLE user_progress
+    ADD COLUMN cut_date TIMESTAMP NOT NULL;
+
+CREATE INDEX idx_user_progress_timeline ON user_progress (user_id, cut_date, daily_cut_id);
+CREATE INDEX idx_user_progress_timeline_desc ON user_progress (user_id DESC, cut_date DESC, daily_cut_id DESC);
\ No newline at end of file
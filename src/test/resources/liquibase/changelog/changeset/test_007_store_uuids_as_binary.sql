@@ -0,0 +1,18 @@
+ALTER TABLE user_progress DROP CONSTRAINT fk_user_id;
+ALTER TABLE user_progress DROP CONSTRAINT fk_daily_cut_id;
+DROP INDEX IF EXISTS idx_user_progress_timeline;
+DROP INDEX IF EXISTS idx_user_progress_timeline_desc;
+
+ALTER TABLE users ALTER COLUMN id BINARY(16) NOT NULL;
+ALTER TABLE products ALTER COLUMN id BINARY(16) NOT NULL;
+ALTER TABLE daily_cuts ALTER COLUMN id BINARY(16) NOT NULL;
+ALTER TABLE user_progress ALTER COLUMN id BINARY(16) NOT NULL;
+ALTER TABLE user_progress ALTER COLUMN user_id BINARY(16) NOT NULL;
+ALTER TABLE user_progress ALTER COLUMN daily_cut_id BINARY(16) NOT NULL;
+ALTER TABLE nutrition_rollups ALTER COLUMN user_id BINARY(16) NOT NULL;
+ALTER TABLE nutrition_rollup_deltas ALTER COLUMN user_id BINARY(16) NOT NULL;
+
+ALTER TABLE user_progress ADD CONSTRAINT fk_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE user_progress ADD CONSTRAINT fk_daily_cut_id FOREIGN KEY (daily_cut_id) REFERENCES daily_cuts(id) ON DELETE CASCADE;
+CREATE INDEX idx_user_progress_timeline ON user_progress (user_id, cut_date, daily_cut_id);
+CREATE INDEX idx_user_progress_timeline_desc ON user_progress (user_id DESC, cut_date DESC, daily_cut_id DESC);
\ No newline at end of file
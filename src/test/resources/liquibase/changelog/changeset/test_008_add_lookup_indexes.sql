@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX idx_users_email ON users (email);
+CREATE INDEX idx_user_progress_daily_cut_id ON user_progress (daily_cut_id);
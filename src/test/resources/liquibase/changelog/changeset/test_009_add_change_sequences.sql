@@ -0,0 +1,27 @@
+DROP TABLE IF EXISTS user_change_sequences;
+DROP TABLE IF EXISTS daily_cut_tombstones;
+
+ALTER TABLE user_progress ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_user_progress_changes ON user_progress (user_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS user_change_sequences
+(
+    user_id     BINARY(16)  NOT NULL,
+    change_seq  BIGINT      NOT NULL,
+    PRIMARY KEY (user_id)
+);
+ALTER TABLE user_change_sequences ADD CONSTRAINT fk_change_sequences_user_id
+FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+CREATE TABLE IF NOT EXISTS daily_cut_tombstones
+(
+    daily_cut_id    BINARY(16)  NOT NULL,
+    user_id         BINARY(16)  NOT NULL,
+    change_seq      BIGINT      NOT NULL,
+    PRIMARY KEY (daily_cut_id)
+);
+ALTER TABLE daily_cut_tombstones ADD CONSTRAINT fk_tombstones_user_id
+FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_daily_cut_tombstones_changes ON daily_cut_tombstones (user_id, change_seq);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS users
+(
+    id              BINARY(16)      PRIMARY KEY,
+    email           VARCHAR(255)    NOT NULL,
+    enabled         BIT             NOT NULL DEFAULT 0,
+    first_name      VARCHAR(50)     NOT NULL,
+    last_name       VARCHAR(50)     NOT NULL,
+    password        VARCHAR(255)    NOT NULL,
+    role            VARCHAR(255)    NOT NULL,
+    locked          BIT             NOT NULL DEFAULT 0,
+    token_version   INT             NOT NULL DEFAULT 0
+);
+
+MERGE INTO users (id, email, enabled, first_name, last_name, password, role)
+KEY (id)
+VALUES(X'46a4f382fafb494ca5ceb14acbc307d0', 'replicaUser', 1, 'user', 'user', '$2a$10$SvCQN97uYNbi2PS11l3xfu/nPFdhuvCmiRwnDgAToyzWL0wldX8eq', 'USER');
@@ -3,4 +3,9 @@ TRUNCATE TABLE users;
 TRUNCATE TABLE products;
 TRUNCATE TABLE user_progress;
 TRUNCATE TABLE daily_cuts;
+TRUNCATE TABLE revoked_tokens;
+TRUNCATE TABLE nutrition_rollups;
+TRUNCATE TABLE nutrition_rollup_deltas;
+TRUNCATE TABLE user_change_sequences;
+TRUNCATE TABLE daily_cut_tombstones;
 SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file